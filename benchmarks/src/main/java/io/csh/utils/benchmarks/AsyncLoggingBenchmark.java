@@ -0,0 +1,68 @@
+package io.csh.utils.benchmarks;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.LogConfig;
+import io.csh.utils.logging.Logger;
+import io.csh.utils.logging.LoggerFactory;
+
+/**
+ * 비동기 로깅에서 호출 스레드가 쓰는 비용 (즉시 렌더링과 지연 렌더링 비교)
+ *
+ * <p>{@code deferred=false}이면 호출 스레드가 인코딩한 바이트를 큐에 복사하고, {@code true}이면 원시 값만 넘기고
+ * 포맷팅은 기록 스레드가 합니다. 큐가 가득 차면 BLOCK 정책으로 기다리므로 지속 처리량도 함께 드러납니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class AsyncLoggingBenchmark {
+    @Param({"false", "true"})
+    public boolean deferred;
+
+    private Path logDir;
+    private Logger logger;
+    private final RuntimeException failure = new IllegalStateException("payment declined");
+
+    @Setup
+    public void setUp() {
+        logDir = BenchmarkLogging.configure();
+        LogConfig config = LogConfig.getInstance();
+        config.setAsyncEnabled(true);
+        config.setAsyncDeferred(deferred);
+        logger = LoggerFactory.getLogger(AsyncLoggingBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkLogging.shutdown(logDir);
+    }
+
+    @Benchmark
+    public void pattern() {
+        logger.info("order {} paid by {}", 1000, "card");
+    }
+
+    @Benchmark
+    public void exception() {
+        logger.info("order payment failed", failure);
+    }
+}
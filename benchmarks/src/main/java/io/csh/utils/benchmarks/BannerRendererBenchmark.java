@@ -0,0 +1,55 @@
+package io.csh.utils.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.banner.core.BannerConfig;
+import io.csh.utils.banner.core.BannerInfo;
+import io.csh.utils.banner.core.BannerRenderer;
+
+/**
+ * {@link BannerRenderer#render}의 배너 문자열 생성 비용 (테두리 스타일별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BannerRendererBenchmark {
+    @Param({"simple", "double"})
+    public String borderStyle;
+
+    private BannerRenderer renderer;
+    private BannerInfo info;
+
+    @Setup
+    public void setUp() {
+        renderer = new BannerRenderer(BannerConfig.builder()
+            .showAsciiArt(true)
+            .borderStyle(borderStyle)
+            .build());
+        info = BannerInfo.builder()
+            .name("order-service")
+            .version("1.0.0")
+            .buildTime("2026-01-01 12:00:00")
+            .customMessage("Profile: production\nRegion: ap-northeast-2")
+            .build();
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render(info);
+    }
+}
@@ -0,0 +1,63 @@
+package io.csh.utils.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import io.csh.utils.logging.LogConfig;
+import io.csh.utils.logging.LoggerFactory;
+
+/**
+ * 벤치마크용 로깅 설정 도우미
+ *
+ * <p>JMH는 벤치마크와 파라미터 조합마다 JVM을 새로 띄우므로, {@code @Setup}에서 첫 로거를 만들기 전에
+ * {@link LogConfig}를 바꾸면 그 조합에만 적용됩니다. 콘솔 출력은 끄고, 로그 파일은 임시 디렉토리에
+ * 크기 제한을 두어 기록한 뒤 종료 시 지웁니다.</p>
+ */
+final class BenchmarkLogging {
+    private static final long MAX_FILE_SIZE = 64L * 1024 * 1024;
+    private static final long MAX_TOTAL_SIZE = 512L * 1024 * 1024;
+
+    private BenchmarkLogging() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 로그 디렉토리를 임시 디렉토리로 바꾸고 콘솔 출력을 끕니다.
+     *
+     * @return 생성한 로그 디렉토리
+     */
+    static Path configure() {
+        try {
+            Path dir = Files.createTempDirectory("csh-bench-");
+            LogConfig config = LogConfig.getInstance();
+            config.setLogDir(dir.toString());
+            config.setConsoleOutput(false);
+            config.setMaxFileSize(MAX_FILE_SIZE);
+            config.setMaxTotalSize(MAX_TOTAL_SIZE);
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 남은 로그를 기록하고 로그 디렉토리를 지웁니다.
+     *
+     * @param dir {@link #configure()}가 반환한 디렉토리
+     */
+    static void shutdown(Path dir) {
+        LoggerFactory.shutdown();
+        if (dir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Failed to delete benchmark log directory: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.csh.utils.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행 진입점
+ *
+ * <p>JMH 명령행 옵션을 그대로 받으며, 연산당 할당량({@code gc.alloc.rate.norm})이 지연 시간 옆에
+ * 함께 나오도록 GC 프로파일러를 항상 추가합니다.</p>
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar                   # 전체
+ * java -jar benchmarks/target/benchmarks.jar LoggerBenchmark   # 일부
+ * java -jar benchmarks/target/benchmarks.jar -p format=BINARY  # 파라미터 지정
+ * </pre>
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+        throw new AssertionError("Utility class");
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        CommandLineOptions commandLine;
+        try {
+            commandLine = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Invalid benchmark options: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        Options options = new OptionsBuilder()
+            .parent(commandLine)
+            .addProfiler(GCProfiler.class)
+            .build();
+        Runner runner = new Runner(options);
+        if (commandLine.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
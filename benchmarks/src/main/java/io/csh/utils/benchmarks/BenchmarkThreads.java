@@ -0,0 +1,38 @@
+package io.csh.utils.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 벤치마크용 실행기 도우미
+ *
+ * <p>가상 스레드는 JDK 21 이상에서만 만들 수 있으므로 리플렉션으로 실행기를 생성합니다.
+ * 이전 JDK에서는 {@code -p threads=platform}으로 실행합니다.</p>
+ */
+final class BenchmarkThreads {
+    /** 플랫폼 스레드 풀 크기 */
+    static final int PLATFORM_THREADS = 64;
+
+    private BenchmarkThreads() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만드는 실행기 또는 고정 크기 플랫폼 스레드 풀을 만듭니다.
+     *
+     * @param threads {@code virtual} 또는 {@code platform}
+     * @return 실행기
+     */
+    static ExecutorService newExecutor(String threads) {
+        if (!"virtual".equals(threads)) {
+            return Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require JDK 21 or later, run with -p threads=platform");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+}
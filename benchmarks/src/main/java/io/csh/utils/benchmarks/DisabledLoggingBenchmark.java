@@ -0,0 +1,69 @@
+package io.csh.utils.benchmarks;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.LogLevel;
+import io.csh.utils.logging.Logger;
+import io.csh.utils.logging.LoggerFactory;
+
+/**
+ * 전역 레벨로 꺼진 로그 호출 비용과 빈 메서드 비교
+ *
+ * <p>전역 레벨을 WARN으로 올리면 어떤 로거에서도 INFO가 켜져 있지 않으므로 전역 스위치가 꺼지고,
+ * JIT가 호출을 분기째 제거합니다. {@code disabledPattern}이 {@code baseline}과 같은 시간이 나와야 합니다.
+ * 로거별 레벨로만 꺼진 경우(전역 스위치는 켜진 상태)는 {@link LoggerBenchmark#disabledPattern}에서 잽니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisabledLoggingBenchmark {
+    private Path logDir;
+    private Logger logger;
+    /** 박싱 비용이 측정에 섞이지 않도록 미리 박싱한 인자 */
+    private final Long orderId = 1000L;
+
+    @Setup
+    public void setUp() {
+        logDir = BenchmarkLogging.configure();
+        LoggerFactory.setLogLevel(LogLevel.WARN);
+        logger = LoggerFactory.getLogger(DisabledLoggingBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkLogging.shutdown(logDir);
+    }
+
+    /**
+     * 비교 기준이 되는 빈 메서드
+     */
+    @Benchmark
+    public void baseline() {
+    }
+
+    @Benchmark
+    public void disabledMessage() {
+        logger.info("order paid");
+    }
+
+    @Benchmark
+    public void disabledPattern() {
+        logger.info("order {} paid by {}", orderId, "card");
+    }
+}
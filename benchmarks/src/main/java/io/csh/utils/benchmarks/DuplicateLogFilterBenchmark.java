@@ -0,0 +1,79 @@
+package io.csh.utils.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.DuplicateLogFilter;
+
+/**
+ * 여러 스레드가 동시에 {@link DuplicateLogFilter#shouldLog}를 호출할 때의 비용
+ *
+ * <p>ID 수가 적으면 같은 칸을 두고 경쟁하는 경우를, 많으면(기본 테이블 크기 초과) 버킷 교체가 잦은 경우를 측정합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DuplicateLogFilterBenchmark {
+    private static final int MIN_INTERVAL_SECONDS = 60;
+
+    @Param({"16", "100000"})
+    public int ids;
+
+    private String[] idTable;
+
+    /**
+     * 스레드마다 다른 순서로 ID를 고르는 커서
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int seed;
+
+        @Setup
+        public void setUp() {
+            seed = System.identityHashCode(this) | 1;
+        }
+
+        int next(int bound) {
+            // xorshift: 스레드 사이 공유 상태 없이 ID를 고름
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            return (seed & Integer.MAX_VALUE) % bound;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        idTable = new String[ids];
+        for (int i = 0; i < ids; i++) {
+            idTable[i] = "order-sync-failure-" + i;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean shouldLog8(Cursor cursor) {
+        return DuplicateLogFilter.shouldLog(idTable[cursor.next(ids)], MIN_INTERVAL_SECONDS);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean shouldLog64(Cursor cursor) {
+        return DuplicateLogFilter.shouldLog(idTable[cursor.next(ids)], MIN_INTERVAL_SECONDS);
+    }
+}
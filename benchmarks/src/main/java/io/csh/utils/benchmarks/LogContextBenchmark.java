@@ -0,0 +1,92 @@
+package io.csh.utils.benchmarks;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.LogContext;
+import io.csh.utils.logging.Logger;
+import io.csh.utils.logging.LoggerFactory;
+
+/**
+ * 작업 100만 개가 각자 진단 컨텍스트를 적용하고 로그를 남길 때 작업 한 건당 비용 (플랫폼 스레드와 가상 스레드 비교)
+ *
+ * <p>작업마다 {@link LogContext#put}으로 요청 ID를 적용하고, 컨텍스트가 붙은 로그 한 줄을 남긴 뒤,
+ * {@link LogContext#wrap}으로 캡처한 후속 작업을 실행합니다. 스코프를 닫으면 스레드에서 참조가 지워지므로
+ * 가상 스레드가 100만 개여도 컨텍스트가 남지 않아야 합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LogContextBenchmark {
+    private static final int TASKS = 1_000_000;
+    /** 요청 ID 문자열 생성 비용이 측정에 섞이지 않도록 미리 만들어 돌려 쓰는 개수 */
+    private static final int REQUEST_IDS = 1024;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private Path logDir;
+    private Logger logger;
+    private ExecutorService executor;
+    private final String[] requestIds = new String[REQUEST_IDS];
+    private final Future<?>[] futures = new Future<?>[TASKS];
+    private final Runnable audit = () -> logger.info("audited");
+
+    @Setup
+    public void setUp() {
+        executor = BenchmarkThreads.newExecutor(threads);
+        for (int i = 0; i < REQUEST_IDS; i++) {
+            requestIds[i] = "r-" + i;
+        }
+        logDir = BenchmarkLogging.configure();
+        logger = LoggerFactory.getLogger(LogContextBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        BenchmarkLogging.shutdown(logDir);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void putLogWrap() throws Exception {
+        for (int i = 0; i < TASKS; i++) {
+            String requestId = requestIds[i & (REQUEST_IDS - 1)];
+            futures[i] = executor.submit(() -> handle(requestId));
+        }
+        for (int i = 0; i < TASKS; i++) {
+            futures[i].get();
+            futures[i] = null;
+        }
+    }
+
+    private void handle(String requestId) {
+        LogContext.Scope scope = LogContext.put("requestId", requestId);
+        try {
+            logger.info("handled");
+            LogContext.wrap(audit).run();
+        } finally {
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.csh.utils.benchmarks;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.LogConfig;
+import io.csh.utils.logging.LogFileManager;
+
+/**
+ * {@link LogFileManager#writeToFile}에 1/8/64 스레드가 동시에 기록할 때의 비용
+ *
+ * <p>기록은 파일 락 하나를 거치므로 스레드 수가 늘 때 락 경쟁이 얼마나 늘어나는지를 봅니다.
+ * {@code writer} 파라미터로 세 경로를 비교합니다.</p>
+ * <ul>
+ *   <li>{@code stream}: 예전 기록 방식. {@code synchronized} 메서드에서 자동 flush {@link PrintWriter}로
+ *       한 줄씩 쓰고 매번 flush합니다 (회전 검사 없음).</li>
+ *   <li>{@code channel}: 현재 기본값인 버퍼 채널 기록</li>
+ *   <li>{@code mmap}: 메모리 매핑 기록 ({@code csh.logging.file.mmap.enabled=true})</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogFileManagerBenchmark {
+    private static final String LINE =
+        "2026-01-01 12:00:00.000 [worker-1] INFO  io.csh.utils.benchmarks.OrderService - order 1000 paid by card";
+
+    @Param({"stream", "channel", "mmap"})
+    public String writer;
+
+    private Path logDir;
+    private LogFileManager fileManager;
+    private PrintWriter stream;
+
+    @Setup
+    public void setUp() throws FileNotFoundException {
+        logDir = BenchmarkLogging.configure();
+        if ("stream".equals(writer)) {
+            stream = new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(logDir.resolve("stream.log").toFile(), true), StandardCharsets.UTF_8), true);
+            return;
+        }
+        LogConfig.getInstance().setFileMmapEnabled("mmap".equals(writer));
+        fileManager = LogFileManager.getInstance();
+        fileManager.initialize();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (stream != null) {
+            stream.close();
+        }
+        BenchmarkLogging.shutdown(logDir);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void writeToFile1() {
+        write();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void writeToFile8() {
+        write();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void writeToFile64() {
+        write();
+    }
+
+    private void write() {
+        if (stream != null) {
+            writeStream();
+        } else {
+            fileManager.writeToFile(LINE);
+        }
+    }
+
+    private synchronized void writeStream() {
+        stream.println(LINE);
+        stream.flush();
+    }
+}
@@ -0,0 +1,44 @@
+package io.csh.utils.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.LogFormatter;
+import io.csh.utils.logging.LogLevel;
+
+/**
+ * {@link LogFormatter#format}와 {@link LogFormatter#formatWithException}의 한 줄 포맷팅 비용
+ *
+ * <p>같은 예외를 반복해서 포맷팅하므로 {@code formatWithException}은 스택 트레이스 캐시가 적중하는 경우를 측정합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogFormatterBenchmark {
+    private final String loggerName = "io.csh.utils.benchmarks.OrderService";
+    private final String message = "order 1000 paid by card";
+    private final Throwable failure = new IllegalStateException("payment declined",
+        new RuntimeException("gateway timeout"));
+
+    @Benchmark
+    public String format() {
+        return LogFormatter.format(LogLevel.INFO, loggerName, message);
+    }
+
+    @Benchmark
+    public String formatWithException() {
+        return LogFormatter.formatWithException(LogLevel.ERROR, loggerName, message, failure);
+    }
+}
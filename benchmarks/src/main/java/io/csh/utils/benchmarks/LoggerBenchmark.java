@@ -0,0 +1,86 @@
+package io.csh.utils.benchmarks;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.LogConfig;
+import io.csh.utils.logging.LogFormat;
+import io.csh.utils.logging.LogLevel;
+import io.csh.utils.logging.Logger;
+import io.csh.utils.logging.LoggerFactory;
+
+/**
+ * {@code LoggerImpl.info} 호출 비용 (레벨이 켜진 경우와 꺼진 경우)
+ *
+ * <p>켜진 경우는 파일 형식별로 인코딩과 동기 파일 기록까지 포함하고, 꺼진 경우는 레벨 검사만 남는지 확인합니다.
+ * 꺼진 호출의 연산당 할당량은 0이어야 합니다. 여기서는 로거별 레벨만 올리므로 전역 스위치는 켜진 채로 남고,
+ * 전역 레벨로 꺼진 경우는 {@link DisabledLoggingBenchmark}에서 잽니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+    /** 레벨을 WARN으로 올려 INFO가 꺼지는 로거 이름 */
+    static final class Disabled {
+    }
+
+    @Param({"TEXT", "JSON", "BINARY"})
+    public String format;
+
+    private Path logDir;
+    private Logger enabled;
+    private Logger disabled;
+    /** 박싱 비용이 측정에 섞이지 않도록 미리 박싱한 인자 */
+    private final Long orderId = 1000L;
+    private final RuntimeException failure = new IllegalStateException("payment declined");
+
+    @Setup
+    public void setUp() {
+        logDir = BenchmarkLogging.configure();
+        LogConfig.getInstance().setFileFormat(LogFormat.fromString(format));
+        LoggerFactory.setLogLevel(Disabled.class.getName(), LogLevel.WARN);
+        enabled = LoggerFactory.getLogger(LoggerBenchmark.class);
+        disabled = LoggerFactory.getLogger(Disabled.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkLogging.shutdown(logDir);
+    }
+
+    @Benchmark
+    public void enabledMessage() {
+        enabled.info("order paid");
+    }
+
+    @Benchmark
+    public void enabledPattern() {
+        enabled.info("order {} paid by {}", orderId, "card");
+    }
+
+    @Benchmark
+    public void enabledException() {
+        enabled.info("order payment failed", failure);
+    }
+
+    @Benchmark
+    public void disabledPattern() {
+        disabled.info("order {} paid by {}", orderId, "card");
+    }
+}
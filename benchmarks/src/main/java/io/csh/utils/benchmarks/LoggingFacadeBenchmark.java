@@ -0,0 +1,64 @@
+package io.csh.utils.benchmarks;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.Logger;
+import io.csh.utils.logging.LoggerFactory;
+import io.csh.utils.logging.Logging;
+
+/**
+ * 정적 퍼사드({@link Logging#info})와 필드에 보관한 로거 호출 비교
+ *
+ * <p>퍼사드는 매 호출마다 호출 클래스를 찾아 로거를 조회하므로, 그 비용이 로거를 직접 쓰는 경우와의 차이로 나타납니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingFacadeBenchmark {
+    private Path logDir;
+    private Logger logger;
+    /** 박싱 비용이 측정에 섞이지 않도록 미리 박싱한 인자 */
+    private final Long orderId = 1000L;
+
+    @Setup
+    public void setUp() {
+        logDir = BenchmarkLogging.configure();
+        logger = LoggerFactory.getLogger(LoggingFacadeBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkLogging.shutdown(logDir);
+    }
+
+    @Benchmark
+    public void facadeMessage() {
+        Logging.info("order paid");
+    }
+
+    @Benchmark
+    public void facadePattern() {
+        Logging.info("order {} paid", orderId);
+    }
+
+    @Benchmark
+    public void loggerPattern() {
+        logger.info("order {} paid", orderId);
+    }
+}
@@ -0,0 +1,125 @@
+package io.csh.utils.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.csh.utils.logging.Logger;
+import io.csh.utils.logging.LoggerFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * 작업마다 스레드를 하나씩 쓰는 서버 모델에서 로그 한 건당 비용 (플랫폼 스레드와 가상 스레드 비교)
+ *
+ * <p>한 번에 작업 10만 개를 제출합니다. 가상 스레드로 실행할 때는 JFR로 {@code jdk.VirtualThreadPinned} 이벤트를
+ * 임계값 없이 기록하고, 종료 시 한 건이라도 있으면 고정된 위치를 출력하고 실패합니다. 로깅 경로의 락은 모두
+ * {@code ReentrantLock}이어야 하며, 모니터 안에서 파일 I/O를 하면 여기서 드러납니다.</p>
+ *
+ * <p>가상 스레드는 JDK 21 이상에서만 만들 수 있으므로 이전 JDK에서는 {@code -p threads=platform}으로 실행합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VirtualThreadLoggingBenchmark {
+    private static final int TASKS = 100_000;
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private Path logDir;
+    private Logger logger;
+    private ExecutorService executor;
+    private Recording pinning;
+    private final Future<?>[] futures = new Future<?>[TASKS];
+
+    @Setup
+    public void setUp() {
+        executor = BenchmarkThreads.newExecutor(threads);
+        if ("virtual".equals(threads)) {
+            pinning = new Recording();
+            pinning.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            pinning.start();
+        }
+        logDir = BenchmarkLogging.configure();
+        logger = LoggerFactory.getLogger(VirtualThreadLoggingBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        BenchmarkLogging.shutdown(logDir);
+        if (pinning != null) {
+            checkNoPinning();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void logPerTask() throws Exception {
+        for (int i = 0; i < TASKS; i++) {
+            int request = i;
+            futures[i] = executor.submit(() -> logger.info("request {} handled", request));
+        }
+        for (int i = 0; i < TASKS; i++) {
+            futures[i].get();
+            futures[i] = null;
+        }
+    }
+
+    /**
+     * 기록한 JFR 이벤트를 읽어 캐리어 스레드가 고정된 적이 없는지 확인합니다.
+     */
+    private void checkNoPinning() {
+        try {
+            pinning.stop();
+            Path file = Files.createTempFile("csh-bench-pinning-", ".jfr");
+            try {
+                pinning.dump(file);
+                List<RecordedEvent> pinned = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+                    .toList();
+                if (!pinned.isEmpty()) {
+                    System.err.println("Virtual thread pinned at:");
+                    pinned.get(0).getStackTrace().getFrames().stream()
+                        .map(RecordedFrame::getMethod)
+                        .forEach(method -> System.err.println("    " + method.getType().getName()
+                            + "." + method.getName()));
+                    throw new IllegalStateException(pinned.size() + " " + PINNED_EVENT + " events recorded");
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            pinning.close();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package io.csh.utils.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 로그 기록기
+ *
+ * <p>호출 스레드는 {@link LogRingBuffer}에 로그를 넣고 바로 반환하며,
+ * 전용 기록 스레드 하나가 큐를 배치 단위로 꺼내 {@link LogFileManager}에 기록합니다.
+ * {@code csh.logging.async.enabled=true}일 때만 사용됩니다.</p>
+ *
+ * <p>{@code csh.logging.async.deferred=true}이면 호출 스레드는 포맷팅 전의 값만
+ * 슬롯의 {@link DeferredRecord}에 옮기고, 메시지 포맷팅과 스택 트레이스, 콘솔/파일 인코딩은
+ * 모두 기록 스레드가 합니다.</p>
+ *
+ * <p>종료 시({@link LoggerFactory#shutdown()} 또는 JVM 종료 훅) 큐에 남은 로그를
+ * 모두 기록한 뒤 기록 스레드를 정지합니다.</p>
+ */
+final class AsyncLogWriter {
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    /** {@link #claim} 결과: 정책에 따라 버림 */
+    private static final long DROPPED = -1;
+    /** {@link #claim} 결과: 기록기가 정지되어 호출 스레드에서 직접 처리해야 함 */
+    private static final long STOPPED = -2;
+
+    private static volatile AsyncLogWriter instance;
+
+    private final LogRingBuffer ringBuffer;
+    private final LogFileManager fileManager;
+    private final WaitStrategy waitStrategy;
+    private final OverflowPolicy overflowPolicy;
+    private final LogLevel dropThreshold;
+    private final int batchSize;
+    private final boolean deferred;
+    private final Thread writerThread;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean running = true;
+    private volatile boolean sleeping = false;
+    private long reportedDropCount;
+
+    private AsyncLogWriter(LogConfig config, LogFileManager fileManager) {
+        this.deferred = config.isAsyncDeferred();
+        this.ringBuffer = new LogRingBuffer(config.getAsyncQueueSize(), deferred);
+        this.fileManager = fileManager;
+        this.waitStrategy = config.getAsyncWaitStrategy();
+        this.overflowPolicy = config.getAsyncOverflowPolicy();
+        this.dropThreshold = config.getAsyncDropThreshold();
+        this.batchSize = Math.max(1, config.getAsyncBatchSize());
+        this.writerThread = new Thread(this::runWriter, "LogFileManager-AsyncWriter");
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * AsyncLogWriter 싱글톤 인스턴스를 반환합니다. 처음 호출 시 기록 스레드를 시작합니다.
+     *
+     * @return AsyncLogWriter 인스턴스
+     */
+    static AsyncLogWriter getInstance() {
+        if (instance == null) {
+            synchronized (AsyncLogWriter.class) {
+                if (instance == null) {
+                    AsyncLogWriter writer = new AsyncLogWriter(LogConfig.getInstance(), LogFileManager.getInstance());
+                    writer.writerThread.start();
+                    Runtime.getRuntime().addShutdownHook(
+                        new Thread(writer::shutdown, "LogFileManager-AsyncShutdown"));
+                    instance = writer;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 실행 중인 인스턴스가 있으면 큐를 비우고 정지합니다.
+     */
+    static void shutdownInstance() {
+        // 인스턴스는 남겨두어 이후 호출은 정지된 기록기를 통해 직접 기록되도록 함
+        AsyncLogWriter writer = instance;
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * 로그를 큐에 넣습니다. 기록기가 정지된 경우 호출 스레드에서 바로 기록합니다.
+     *
+     * @param record 포맷팅된 로그 (줄 구분자 포함, 큐에 복사됨)
+     * @param level 로그 레벨 (원시 출력인 경우 null)
+     */
+    void publish(LogBuffer record, LogLevel level) {
+        long pos = running ? claim(level) : STOPPED;
+        if (pos == STOPPED) {
+            fileManager.write(record, level);
+        } else if (pos != DROPPED) {
+            LogRingBuffer.Slot slot = ringBuffer.slot(pos);
+            slot.record.copyFrom(record);
+            slot.level = level;
+            ringBuffer.publish(pos);
+            afterPublish();
+        }
+    }
+
+    /**
+     * 포맷팅 전의 로그를 큐에 넣습니다. 지연 렌더링을 사용할 때만 호출합니다.
+     *
+     * @param logger 로거
+     * @param level 로그 레벨
+     * @param millis 기록 시각 (epoch 밀리초)
+     * @param message 완성된 메시지 (패턴 메시지이면 null)
+     * @param template 메시지 패턴 (완성된 메시지이면 null)
+     * @param args 패턴 인자
+     * @param fields 키-값 목록 (없으면 null)
+     * @param thrown 예외 (없으면 null)
+     * @param sampler 적용된 샘플러 (없으면 null)
+     * @param context 진단 컨텍스트 (없으면 null)
+     * @return 처리했으면(버린 경우 포함) true, 기록기가 정지되어 호출자가 직접 기록해야 하면 false
+     */
+    boolean publishDeferred(LoggerImpl logger, LogLevel level, long millis, String message, String template,
+                            Object[] args, LogFields fields, Throwable thrown, Sampler sampler, LogContext context) {
+        long pos = running ? claim(level) : STOPPED;
+        if (pos == STOPPED) {
+            return false;
+        }
+        if (pos != DROPPED) {
+            LogRingBuffer.Slot slot = ringBuffer.slot(pos);
+            try {
+                slot.deferred.capture(logger, level, millis, message, template, args, fields, thrown, sampler,
+                    context);
+            } finally {
+                // 값 복사 중 예외가 나도 슬롯은 공개해야 소비자가 멈추지 않음
+                slot.level = level;
+                slot.pending = true;
+                ringBuffer.publish(pos);
+            }
+            afterPublish();
+        }
+        return true;
+    }
+
+    /**
+     * 지연 렌더링을 사용하는지 확인합니다.
+     *
+     * @return 지연 렌더링 사용 여부
+     */
+    boolean isDeferred() {
+        return deferred;
+    }
+
+    /**
+     * 큐에 자리를 예약합니다. 가득 찬 경우 정책에 따라 버리거나 자리가 날 때까지 대기합니다.
+     *
+     * @return 예약한 위치, 버렸으면 {@link #DROPPED}, 기다리는 중 정지되었으면 {@link #STOPPED}
+     */
+    private long claim(LogLevel level) {
+        long pos = ringBuffer.claim();
+        if (pos >= 0) {
+            return pos;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP
+            || (overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL
+                && level != null && !level.isEnabled(dropThreshold))) {
+            droppedCount.incrementAndGet();
+            return DROPPED;
+        }
+
+        // BLOCK: 기록 스레드가 자리를 비울 때까지 대기
+        while ((pos = ringBuffer.claim()) < 0) {
+            if (!running) {
+                return STOPPED;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return pos;
+    }
+
+    /**
+     * 슬롯을 공개한 뒤 기록 스레드를 깨웁니다. 그 사이 정지되었으면 정지 후 남은 로그를 직접 기록합니다.
+     *
+     * <p>{@link #running}을 먼저 확인하고 들어온 생산자가 정지 처리 뒤에 슬롯을 공개하면 아무도 꺼내지 않으므로,
+     * 공개 후에 한 번 더 확인합니다. 위치 예약(CAS) 뒤에 읽으므로 여기서 true를 보았다면 정지 처리가
+     * 그 예약을 보고 공개될 때까지 기다립니다. 정상 경로에는 공유 변수 쓰기가 추가되지 않습니다.</p>
+     */
+    private void afterPublish() {
+        if (!running) {
+            drainStopped();
+            return;
+        }
+        if (sleeping) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * 정지 처리가 끝난 뒤 공개된 로그를 호출 스레드에서 기록합니다. 정지 처리 중이면 끝날 때까지 기다립니다.
+     */
+    private synchronized void drainStopped() {
+        if (!writerThread.isAlive()) {
+            while (drainOnce() > 0) {
+                // 계속 비움
+            }
+        }
+    }
+
+    /**
+     * 기록 스레드 루프
+     */
+    private void runWriter() {
+        while (running) {
+            if (drainOnce() == 0) {
+                idle();
+            }
+        }
+        // 정지 요청 이후 남은 로그 모두 기록
+        while (drainOnce() > 0) {
+            // 계속 비움
+        }
+    }
+
+    private int drainOnce() {
+        int count = fileManager.writeBatch(ringBuffer, batchSize);
+        reportDrops();
+        return count;
+    }
+
+    /**
+     * 버려진 로그가 새로 생겼으면 요약 한 줄을 기록합니다.
+     */
+    private void reportDrops() {
+        long dropped = droppedCount.get();
+        if (dropped != reportedDropCount) {
+            fileManager.writeEvent(LogLevel.WARN, AsyncLogWriter.class.getName(),
+                "Async log queue full, dropped " + (dropped - reportedDropCount) + " log records");
+            reportedDropCount = dropped;
+        }
+    }
+
+    private void idle() {
+        switch (waitStrategy) {
+            case SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                sleeping = true;
+                if (ringBuffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                sleeping = false;
+        }
+    }
+
+    /**
+     * 큐를 비우고 기록 스레드를 정지합니다.
+     */
+    synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        if (Thread.currentThread() != writerThread) {
+            try {
+                writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!writerThread.isAlive()) {
+                drainClaimed();
+            }
+        }
+    }
+
+    /**
+     * 예약된 위치가 모두 공개되어 꺼내질 때까지 호출 스레드에서 기록합니다. 최대 {@link #SHUTDOWN_TIMEOUT_MILLIS}만큼
+     * 기다립니다. 정지 이후 예약한 생산자는 공개 후 {@link #running}이 false임을 보고 직접 기록합니다.
+     */
+    private void drainClaimed() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+        while (true) {
+            if (drainOnce() > 0) {
+                continue;
+            }
+            if (ringBuffer.isDrained() || System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * 큐가 가득 차서 버려진 로그 수를 반환합니다.
+     *
+     * @return 버려진 로그 수
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
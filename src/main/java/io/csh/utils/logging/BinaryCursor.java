@@ -0,0 +1,127 @@
+package io.csh.utils.logging;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 로그 레코드를 앞에서부터 읽는 커서
+ *
+ * <p>{@link BinarySegmentWriter}와 {@link BinaryLogDecoder}가 재사용합니다.
+ * 레코드 범위를 벗어나면 {@link IllegalStateException}을 던집니다.</p>
+ */
+final class BinaryCursor {
+    private byte[] bytes;
+    private int position;
+    private int limit;
+
+    /**
+     * 읽을 범위를 지정합니다.
+     *
+     * @param bytes 레코드가 담긴 배열
+     * @param offset 시작 위치
+     * @param limit 끝 위치 (제외)
+     */
+    void reset(byte[] bytes, int offset, int limit) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = limit;
+    }
+
+    int position() {
+        return position;
+    }
+
+    int remaining() {
+        return limit - position;
+    }
+
+    int readByte() {
+        require(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    int readLength() {
+        long length = readVarint();
+        if (length > remaining()) {
+            throw new IllegalStateException("Truncated record");
+        }
+        return (int) length;
+    }
+
+    long readLongBits() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    String readString() {
+        int length = readLength();
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    void skipString() {
+        int length = readLength();
+        position += length;
+    }
+
+    /**
+     * 사전 참조를 읽습니다. 직접 기록된 문자열(번호 0)은 건너뜁니다.
+     *
+     * @return 사전 번호, 직접 기록된 문자열이면 0
+     */
+    int readRef() {
+        int id = (int) readVarint();
+        if (id == 0) {
+            skipString();
+        }
+        return id;
+    }
+
+    /**
+     * 키-값의 값 하나를 건너뜁니다.
+     *
+     * @param type 값 타입
+     */
+    void skipValue(int type) {
+        switch (type) {
+            case BinaryLogEncoder.VALUE_LONG:
+                readVarint();
+                break;
+            case BinaryLogEncoder.VALUE_DOUBLE:
+                readLongBits();
+                break;
+            case BinaryLogEncoder.VALUE_BOOLEAN:
+                readByte();
+                break;
+            case BinaryLogEncoder.VALUE_STRING:
+                skipString();
+                break;
+            case BinaryLogEncoder.VALUE_NULL:
+                break;
+            default:
+                throw new IllegalStateException("Unknown value type: " + type);
+        }
+    }
+
+    private void require(int count) {
+        if (limit - position < count) {
+            throw new IllegalStateException("Truncated record");
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package io.csh.utils.logging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 바이너리 로그 세그먼트({@link LogFormat#BINARY})를 텍스트 형식으로 되돌리는 디코더
+ *
+ * <p>스트림을 앞에서부터 한 레코드씩 읽으므로 세그먼트 크기와 관계없이 메모리를 적게 씁니다.
+ * 출력은 {@link LogFormat#TEXT} 형식과 같습니다. CRC가 맞지 않는 레코드는 건너뛰고,
+ * 기록 도중 끊긴 마지막 레코드는 무시합니다.</p>
+ *
+ * <pre>
+ * try (BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream("logs/app_2024-01-01_1.log"))) {
+ *     String line;
+ *     while ((line = decoder.readLine()) != null) {
+ *         System.out.println(line);
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>명령줄에서는 파일 이름을 인자로 실행합니다 ({@code -}는 표준 입력, {@code .gz}는 압축 해제).</p>
+ *
+ * <pre>
+ * java -cp csh-utils.jar io.csh.utils.logging.BinaryLogDecoder logs/app_2024-01-01_1.log &gt; app.txt
+ * </pre>
+ */
+public final class BinaryLogDecoder implements Closeable {
+    /** 이보다 큰 길이는 손상된 것으로 보고 읽기를 멈춤 */
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final InputStream in;
+    private final LogBuffer line = new LogBuffer();
+    private final BinaryCursor cursor = new BinaryCursor();
+    private final CRC32C crc = new CRC32C();
+    private final Map<Integer, String> dictionary = new HashMap<>();
+    private byte[] payload = new byte[LogBuffer.DEFAULT_CAPACITY];
+    private boolean started;
+    private long lastMillis;
+    private long recordCount;
+    private long corruptCount;
+    private boolean truncated;
+
+    /**
+     * 스트림을 읽는 디코더를 생성합니다.
+     *
+     * @param in 세그먼트 파일 스트림 (압축 해제된 상태)
+     */
+    public BinaryLogDecoder(InputStream in) {
+        this.in = in instanceof BufferedInputStream ? in : new BufferedInputStream(in, 64 * 1024);
+    }
+
+    /**
+     * 다음 로그 한 줄을 텍스트 형식으로 반환합니다 (줄 구분자 제외).
+     *
+     * @return 로그 한 줄, 끝에 도달하면 null
+     * @throws IOException 읽기에 실패했거나 바이너리 로그가 아닌 경우
+     */
+    public String readLine() throws IOException {
+        return next() ? line.toString() : null;
+    }
+
+    /**
+     * 남은 로그를 모두 텍스트 형식(줄 구분자 포함)으로 기록합니다.
+     *
+     * @param out 출력 스트림
+     * @return 기록한 로그 수
+     * @throws IOException 읽기 또는 쓰기에 실패했거나 바이너리 로그가 아닌 경우
+     */
+    public long transferTo(OutputStream out) throws IOException {
+        long count = 0;
+        while (next()) {
+            line.putLineSeparator();
+            out.write(line.array(), 0, line.length());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 지금까지 디코딩한 로그 수를 반환합니다.
+     *
+     * @return 로그 수
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * CRC가 맞지 않거나 해석할 수 없어 건너뛴 레코드 수를 반환합니다.
+     *
+     * @return 손상된 레코드 수
+     */
+    public long getCorruptCount() {
+        return corruptCount;
+    }
+
+    /**
+     * 마지막 레코드가 기록 도중 끊겨 있었는지 반환합니다.
+     *
+     * @return 끊긴 레코드가 있었으면 true
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * 로그 한 건을 {@link #line}에 렌더링합니다. 시작/사전 레코드는 상태만 갱신하고 계속 읽습니다.
+     */
+    private boolean next() throws IOException {
+        while (true) {
+            int length = readFrame();
+            if (length < 0) {
+                return false;
+            }
+            line.reset();
+            try {
+                if (render(length)) {
+                    recordCount++;
+                    return true;
+                }
+            } catch (IllegalStateException | ArrayIndexOutOfBoundsException e) {
+                corruptCount++;
+            }
+        }
+    }
+
+    /**
+     * 프레임 하나를 읽어 {@link #payload}에 담고 길이를 반환합니다. CRC가 맞지 않는 프레임은 건너뜁니다.
+     *
+     * @return 페이로드 길이, 더 읽을 레코드가 없으면 -1
+     */
+    private int readFrame() throws IOException {
+        while (true) {
+            long length = readVarint();
+            if (length <= 0) {
+                // 스트림 끝, 또는 미리 할당된 파일의 0으로 채워진 영역
+                return -1;
+            }
+            if (length > MAX_RECORD_SIZE) {
+                if (!started) {
+                    throw new IOException("Not a binary log segment");
+                }
+                corruptCount++;
+                return -1;
+            }
+            int size = (int) length;
+            if (payload.length < size + 5) {
+                payload = new byte[Math.max(size + 5, payload.length << 1)];
+            }
+            if (!readFully(payload, size + 5)) {
+                if (!started) {
+                    throw new IOException("Not a binary log segment");
+                }
+                truncated = true;
+                return -1;
+            }
+            crc.reset();
+            crc.update(payload, 0, size);
+            int expected = ((payload[size] & 0xFF) << 24) | ((payload[size + 1] & 0xFF) << 16)
+                | ((payload[size + 2] & 0xFF) << 8) | (payload[size + 3] & 0xFF);
+            if ((int) crc.getValue() == expected && payload[size + 4] == BinaryLogEncoder.RECORD_END) {
+                return size;
+            }
+            if (!started) {
+                throw new IOException("Not a binary log segment");
+            }
+            corruptCount++;
+        }
+    }
+
+    private boolean render(int length) throws IOException {
+        cursor.reset(payload, 0, length);
+        int kind = cursor.readByte();
+        if (!started && kind != BinaryLogEncoder.START) {
+            throw new IOException("Not a binary log segment");
+        }
+        switch (kind) {
+            case BinaryLogEncoder.START:
+                readStart();
+                return false;
+            case BinaryLogEncoder.DICT:
+                int id = (int) cursor.readVarint();
+                dictionary.put(id, cursor.readString());
+                return false;
+            case BinaryLogEncoder.RAW:
+                line.put(payload, 1, length - 1);
+                return true;
+            case BinaryLogEncoder.LOG:
+                renderLog();
+                return true;
+            default:
+                // 이후 버전에서 추가된 레코드는 무시
+                return false;
+        }
+    }
+
+    private void readStart() throws IOException {
+        for (byte b : BinaryLogEncoder.MAGIC) {
+            if (cursor.readByte() != b) {
+                throw new IOException("Not a binary log segment");
+            }
+        }
+        int version = cursor.readByte();
+        if (version > BinaryLogEncoder.VERSION) {
+            throw new IOException("Unsupported binary log version: " + version);
+        }
+        // 같은 파일에 이어 쓴 경우(재시작 등) 사전과 기준 시각을 새로 시작
+        dictionary.clear();
+        lastMillis = cursor.readVarint();
+        started = true;
+    }
+
+    /**
+     * 로그 레코드를 {@link LogFormatter}의 텍스트 형식으로 기록합니다.
+     */
+    private void renderLog() {
+        LogLevel level = LEVELS[cursor.readByte()];
+        int flags = cursor.readByte();
+        long millis = lastMillis + BinaryLogEncoder.unzigzag(cursor.readVarint());
+        lastMillis = millis;
+        String loggerName = readRef();
+        String threadName = readRef();
+
+        LogClock.appendTimestamp(line, millis);
+        line.putAscii(" [").putUtf8(threadName).putAscii("] ")
+            .putAscii(level.paddedName())
+            .put((byte) ' ').putUtf8(loggerName)
+            .putAscii(" - ");
+        if ((flags & BinaryLogEncoder.FORMATTED) != 0) {
+            String template = readRef();
+            int argCount = (int) cursor.readVarint();
+            Object[] args = new Object[argCount];
+            for (int i = 0; i < argCount; i++) {
+                args[i] = cursor.readString();
+            }
+            StringBuilder message = line.scratch();
+            MessageFormatter.formatTo(message, template, args, argCount);
+            line.putUtf8(message);
+        } else {
+            line.putUtf8(cursor.readString());
+        }
+        if ((flags & BinaryLogEncoder.CONTEXT) != 0) {
+            long count = cursor.readVarint();
+            for (long i = 0; i < count; i++) {
+                line.put((byte) ' ').putUtf8(readRef()).put((byte) '=');
+                LogFormatter.appendTextString(line, cursor.readString());
+            }
+        }
+        if ((flags & BinaryLogEncoder.FIELDS) != 0) {
+            long count = cursor.readVarint();
+            for (long i = 0; i < count; i++) {
+                line.put((byte) ' ').putUtf8(readRef()).put((byte) '=');
+                renderValue(cursor.readByte());
+            }
+        }
+        if ((flags & BinaryLogEncoder.SAMPLED) != 0) {
+            line.putUtf8(readRef());
+        }
+        if ((flags & BinaryLogEncoder.THROWN) != 0) {
+            line.put((byte) '\n').putUtf8(cursor.readString());
+        }
+    }
+
+    private void renderValue(int type) {
+        switch (type) {
+            case BinaryLogEncoder.VALUE_LONG:
+                line.putLong(BinaryLogEncoder.unzigzag(cursor.readVarint()));
+                break;
+            case BinaryLogEncoder.VALUE_DOUBLE:
+                line.putDouble(Double.longBitsToDouble(cursor.readLongBits()));
+                break;
+            case BinaryLogEncoder.VALUE_BOOLEAN:
+                line.putAscii(cursor.readByte() != 0 ? "true" : "false");
+                break;
+            case BinaryLogEncoder.VALUE_STRING:
+                LogFormatter.appendTextString(line, cursor.readString());
+                break;
+            case BinaryLogEncoder.VALUE_NULL:
+                line.putAscii("null");
+                break;
+            default:
+                throw new IllegalStateException("Unknown value type: " + type);
+        }
+    }
+
+    /**
+     * 사전 참조를 문자열로 읽습니다. 세그먼트 앞부분이 없어 정의를 찾지 못하면 {@code #번호}를 반환합니다.
+     */
+    private String readRef() {
+        int id = (int) cursor.readVarint();
+        if (id == 0) {
+            return cursor.readString();
+        }
+        String value = dictionary.get(id);
+        return value != null ? value : "#" + id;
+    }
+
+    /**
+     * 스트림에서 varint를 읽습니다.
+     *
+     * @return 값, 스트림 끝이면 -1
+     */
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift > 0) {
+                    truncated = true;
+                }
+                return -1;
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private boolean readFully(byte[] target, int count) throws IOException {
+        int read = 0;
+        while (read < count) {
+            int n = in.read(target, read, count - read);
+            if (n < 0) {
+                return false;
+            }
+            read += n;
+        }
+        return true;
+    }
+
+    /**
+     * 명령줄에서 바이너리 로그 파일을 텍스트로 변환해 표준 출력에 기록합니다.
+     *
+     * @param args 파일 경로 목록 ({@code -}는 표준 입력, {@code .gz}로 끝나면 gzip 압축 해제)
+     */
+    public static void main(String[] args) {
+        if (args.length == 0 || "-h".equals(args[0]) || "--help".equals(args[0])) {
+            System.err.println("Usage: java -cp <classpath> " + BinaryLogDecoder.class.getName()
+                + " <file>... (use - for stdin, .gz files are decompressed)");
+            System.exit(args.length == 0 ? 2 : 0);
+            return;
+        }
+        int status = 0;
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 64 * 1024);
+        try {
+            for (String path : args) {
+                try (BinaryLogDecoder decoder = new BinaryLogDecoder(open(path))) {
+                    decoder.transferTo(out);
+                    if (decoder.getCorruptCount() > 0) {
+                        System.err.println(path + ": skipped " + decoder.getCorruptCount() + " corrupt record(s)");
+                    }
+                    if (decoder.isTruncated()) {
+                        System.err.println(path + ": last record is incomplete");
+                    }
+                } catch (IOException e) {
+                    System.err.println("Failed to decode " + path + ": " + e.getMessage());
+                    status = 1;
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Failed to write output: " + e.getMessage());
+            status = 1;
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    private static InputStream open(String path) throws IOException {
+        if ("-".equals(path)) {
+            return System.in;
+        }
+        InputStream in = new FileInputStream(path);
+        if (path.endsWith(CompressionFormat.GZ.extension())) {
+            try {
+                return new GZIPInputStream(in, 64 * 1024);
+            } catch (EOFException e) {
+                in.close();
+                throw new IOException("Empty or truncated gzip file");
+            }
+        }
+        return in;
+    }
+}
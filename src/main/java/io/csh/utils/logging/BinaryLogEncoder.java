@@ -0,0 +1,189 @@
+package io.csh.utils.logging;
+
+/**
+ * 바이너리 로그 형식({@link LogFormat#BINARY})의 레코드 구조와 로거 쪽 인코더
+ *
+ * <p>세그먼트 파일은 아래 프레임의 연속입니다. 정수는 모두 가변 길이(varint)이고,
+ * 문자열은 UTF-8 바이트 수와 내용, 참조(ref)는 사전 번호이며 0이면 바로 뒤에 문자열이 옵니다.</p>
+ *
+ * <pre>
+ * frame   = length payload crc32c(4, big-endian) 0x1E
+ * START   = 0x01 "CSHB" version(1) baseMillis
+ * DICT    = 0x02 id string
+ * LOG     = 0x03 level flags zigzag(millis - 이전 millis)
+ *           loggerRef threadRef
+ *           (FORMATTED ? templateRef argCount string* : string)
+ *           [CONTEXT: count (keyRef string)*] [FIELDS: count (keyRef type value)*]
+ *           [SAMPLED: tagRef] [THROWN: string]
+ * RAW     = 0x04 UTF-8 텍스트 (배너, 중복 방지 로그 등 이미 완성된 줄)
+ * </pre>
+ *
+ * <p>로거 스레드는 시각을 절대값으로 둔 중간 레코드({@code kind level flags millis body})를 만들고,
+ * 파일 기록 쪽의 {@link BinarySegmentWriter}가 사전 정의, 시각 차분, 길이와 CRC를 붙입니다.
+ * 타임스탬프와 메시지 포맷팅을 하지 않고 사전 번호만 기록하므로 텍스트보다 작고 만들기도 쌉니다.
+ * 파일은 {@link BinaryLogDecoder}로 텍스트 형식으로 되돌립니다.</p>
+ */
+final class BinaryLogEncoder {
+    static final byte[] MAGIC = {'C', 'S', 'H', 'B'};
+    static final int VERSION = 1;
+    static final byte RECORD_END = 0x1E;
+
+    static final byte START = 1;
+    static final byte DICT = 2;
+    static final byte LOG = 3;
+    static final byte RAW = 4;
+
+    static final int FORMATTED = 1;
+    static final int FIELDS = 1 << 1;
+    static final int SAMPLED = 1 << 2;
+    static final int THROWN = 1 << 3;
+    static final int CONTEXT = 1 << 4;
+
+    static final byte VALUE_LONG = 0;
+    static final byte VALUE_DOUBLE = 1;
+    static final byte VALUE_BOOLEAN = 2;
+    static final byte VALUE_STRING = 3;
+    static final byte VALUE_NULL = 4;
+
+    private BinaryLogEncoder() {}
+
+    /**
+     * 로그 한 건을 중간 레코드로 기록합니다. {@code template}이 있으면 메시지를 포맷팅하지 않고
+     * 패턴의 사전 번호와 인자 문자열만 기록합니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param millis 기록 시각 (epoch 밀리초)
+     * @param level 로그 레벨
+     * @param threadName 스레드 이름 (null이면 현재 스레드)
+     * @param loggerId 로거 이름의 사전 번호 (0이면 이름을 직접 기록)
+     * @param loggerName 로거 이름
+     * @param message 완성된 메시지 ({@code template}이 있으면 무시)
+     * @param template 메시지 패턴 (없으면 null)
+     * @param args 패턴 인자 (마지막 예외 인자 포함 가능)
+     * @param argCount 치환에 사용할 인자 수
+     * @param sampler 적용된 샘플러 (없으면 null)
+     * @param context 진단 컨텍스트 (없으면 null)
+     * @param fields 키-값 목록 (없으면 null)
+     * @param thrown 예외 (없으면 null)
+     */
+    static void encodeTo(LogBuffer buffer, long millis, LogLevel level, String threadName, int loggerId,
+                         String loggerName, CharSequence message, String template, Object[] args, int argCount,
+                         Sampler sampler, LogContext context, LogFields fields, Throwable thrown) {
+        int flags = (template != null ? FORMATTED : 0)
+            | (fields != null && fields.size() > 0 ? FIELDS : 0)
+            | (sampler != null ? SAMPLED : 0)
+            | (thrown != null ? THROWN : 0)
+            | (context != null && !context.isEmpty() ? CONTEXT : 0);
+        buffer.put(LOG).put((byte) level.ordinal()).put((byte) flags).putVarint(millis);
+        putRef(buffer, loggerId, loggerName);
+        int threadId = threadName != null ? LogDictionary.id(threadName) : LogDictionary.currentThreadId();
+        buffer.putVarint(threadId);
+        if (threadId == 0) {
+            buffer.putString(threadName != null ? threadName : Thread.currentThread().getName());
+        }
+        if (template != null) {
+            putRef(buffer, LogDictionary.id(template), template);
+            buffer.putVarint(argCount);
+            for (int i = 0; i < argCount; i++) {
+                putArg(buffer, args[i]);
+            }
+        } else {
+            buffer.putString(message);
+        }
+        if ((flags & CONTEXT) != 0) {
+            buffer.putVarint(context.size());
+            for (int i = 0; i < context.size(); i++) {
+                String key = context.key(i);
+                putRef(buffer, LogDictionary.id(key), key);
+                buffer.putString(context.value(i));
+            }
+        }
+        if ((flags & FIELDS) != 0) {
+            buffer.putVarint(fields.size());
+            for (int i = 0; i < fields.size(); i++) {
+                String key = fields.key(i);
+                putRef(buffer, LogDictionary.id(key), key);
+                putValue(buffer, fields, i);
+            }
+        }
+        if (sampler != null) {
+            String tag = sampler.tagText();
+            putRef(buffer, LogDictionary.id(tag), tag);
+        }
+        if (thrown != null) {
+            buffer.putString(StackTraceRenderer.render(thrown));
+        }
+    }
+
+    /**
+     * 이미 완성된 텍스트 줄을 담는 중간 레코드를 시작합니다. 호출자는 이어서 줄 구분자 없이 텍스트를 기록합니다.
+     *
+     * @param buffer 출력 버퍼
+     */
+    static void beginRaw(LogBuffer buffer) {
+        buffer.put(RAW);
+    }
+
+    private static void putRef(LogBuffer buffer, int id, String value) {
+        buffer.putVarint(id);
+        if (id == 0) {
+            buffer.putString(value);
+        }
+    }
+
+    private static void putArg(LogBuffer buffer, Object arg) {
+        if (arg instanceof String) {
+            buffer.putString((String) arg);
+        } else {
+            // 배열, toString() 실패 처리는 텍스트 포맷팅과 같게 맞춤
+            StringBuilder text = buffer.scratch();
+            MessageFormatter.appendArg(text, arg);
+            buffer.putString(text);
+        }
+    }
+
+    private static void putValue(LogBuffer buffer, LogFields fields, int i) {
+        switch (fields.type(i)) {
+            case LogFields.LONG:
+                buffer.put(VALUE_LONG).putVarint(zigzag(fields.longAt(i)));
+                break;
+            case LogFields.DOUBLE:
+                buffer.put(VALUE_DOUBLE).putLongBits(Double.doubleToRawLongBits(fields.doubleAt(i)));
+                break;
+            case LogFields.BOOLEAN:
+                buffer.put(VALUE_BOOLEAN).put((byte) (fields.booleanAt(i) ? 1 : 0));
+                break;
+            default:
+                Object value = fields.objectAt(i);
+                if (value == null) {
+                    buffer.put(VALUE_NULL);
+                } else {
+                    buffer.put(VALUE_STRING).putString(value.toString());
+                }
+                break;
+        }
+    }
+
+    /**
+     * 부호 있는 정수를 작은 절대값일수록 짧은 varint가 되도록 변환합니다.
+     */
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * varint로 기록했을 때의 바이트 수를 반환합니다.
+     */
+    static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
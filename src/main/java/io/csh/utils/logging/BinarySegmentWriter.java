@@ -0,0 +1,151 @@
+package io.csh.utils.logging;
+
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * 로거가 만든 중간 레코드를 세그먼트 파일의 바이너리 프레임으로 바꾸는 기록기
+ *
+ * <p>{@link LogFileManager}가 락 안에서 호출하며, 세그먼트마다 상태(정의한 사전 번호, 이전 시각)를
+ * 새로 시작합니다. 레코드가 참조하는 사전 번호 중 이 세그먼트에서 처음 쓰이는 것은 로그 레코드 앞에
+ * 정의 레코드로 기록하므로, 세그먼트 하나만 있어도 디코딩할 수 있습니다.
+ * 형식은 {@link BinaryLogEncoder}를 참고하세요.</p>
+ */
+final class BinarySegmentWriter {
+    private final LogBuffer out = new LogBuffer();
+    private final BinaryCursor cursor = new BinaryCursor();
+    private final CRC32C crc = new CRC32C();
+    /** 이 세그먼트에 정의한 사전 번호 (비트 집합) */
+    private final long[] defined = new long[(LogDictionary.MAX_SIZE >>> 6) + 1];
+    private boolean started;
+    private long lastMillis;
+
+    /**
+     * 새 세그먼트를 시작합니다. 다음 레코드 앞에 시작 레코드를 기록합니다.
+     */
+    void reset() {
+        if (started) {
+            Arrays.fill(defined, 0L);
+            started = false;
+        }
+    }
+
+    /**
+     * 중간 레코드를 프레임으로 바꿉니다. 반환된 버퍼는 다음 호출 전까지만 유효합니다.
+     *
+     * @param record 로거가 만든 중간 레코드
+     * @return 파일에 기록할 바이트 (잘못된 레코드면 null)
+     */
+    LogBuffer encode(LogBuffer record) {
+        // 큰 스택 트레이스 뒤에 커진 버퍼는 기본 크기로 되돌림
+        out.release();
+        out.reset();
+        byte[] src = record.array();
+        int length = record.length();
+        if (length == 0) {
+            return null;
+        }
+        if (!started) {
+            writeStart();
+        }
+        if (src[0] != BinaryLogEncoder.LOG) {
+            writeFrame(src, 0, length);
+            return out;
+        }
+        try {
+            cursor.reset(src, 1, length);
+            int level = cursor.readByte();
+            int flags = cursor.readByte();
+            long millis = cursor.readVarint();
+            int body = cursor.position();
+            defineReferences(flags);
+
+            long delta = BinaryLogEncoder.zigzag(millis - lastMillis);
+            lastMillis = millis;
+            int payloadStart = beginFrame(3 + BinaryLogEncoder.varintSize(delta) + length - body);
+            out.put(BinaryLogEncoder.LOG).put((byte) level).put((byte) flags).putVarint(delta)
+               .put(src, body, length - body);
+            endFrame(payloadStart);
+            return out;
+        } catch (IllegalStateException e) {
+            // 로그 프레임은 참조 확인이 끝난 뒤에만 만들므로, 이미 기록한 시작/정의 레코드는 그대로 둠
+            System.err.println("Dropped malformed binary log record: " + e.getMessage());
+            return out.length() > 0 ? out : null;
+        }
+    }
+
+    /**
+     * 레코드 본문이 참조하는 사전 번호를 확인하고, 정의되지 않은 번호를 정의합니다.
+     */
+    private void defineReferences(int flags) {
+        define(cursor.readRef());
+        define(cursor.readRef());
+        if ((flags & BinaryLogEncoder.FORMATTED) != 0) {
+            define(cursor.readRef());
+            long argCount = cursor.readVarint();
+            for (long i = 0; i < argCount; i++) {
+                cursor.skipString();
+            }
+        } else {
+            cursor.skipString();
+        }
+        if ((flags & BinaryLogEncoder.CONTEXT) != 0) {
+            long count = cursor.readVarint();
+            for (long i = 0; i < count; i++) {
+                define(cursor.readRef());
+                cursor.skipString();
+            }
+        }
+        if ((flags & BinaryLogEncoder.FIELDS) != 0) {
+            long count = cursor.readVarint();
+            for (long i = 0; i < count; i++) {
+                define(cursor.readRef());
+                cursor.skipValue(cursor.readByte());
+            }
+        }
+        if ((flags & BinaryLogEncoder.SAMPLED) != 0) {
+            define(cursor.readRef());
+        }
+    }
+
+    private void define(int id) {
+        if (id == 0 || (defined[id >>> 6] & (1L << id)) != 0) {
+            return;
+        }
+        byte[] value = LogDictionary.bytes(id);
+        if (value == null) {
+            throw new IllegalStateException("Unknown dictionary id: " + id);
+        }
+        int payloadStart = beginFrame(1 + BinaryLogEncoder.varintSize(id)
+            + BinaryLogEncoder.varintSize(value.length) + value.length);
+        out.put(BinaryLogEncoder.DICT).putVarint(id).putVarint(value.length).put(value);
+        endFrame(payloadStart);
+        defined[id >>> 6] |= 1L << id;
+    }
+
+    private void writeStart() {
+        lastMillis = LogClock.currentTimeMillis();
+        int payloadStart = beginFrame(1 + BinaryLogEncoder.MAGIC.length + 1 + BinaryLogEncoder.varintSize(lastMillis));
+        out.put(BinaryLogEncoder.START).put(BinaryLogEncoder.MAGIC).put((byte) BinaryLogEncoder.VERSION)
+           .putVarint(lastMillis);
+        endFrame(payloadStart);
+        started = true;
+    }
+
+    private void writeFrame(byte[] payload, int offset, int length) {
+        int payloadStart = beginFrame(length);
+        out.put(payload, offset, length);
+        endFrame(payloadStart);
+    }
+
+    private int beginFrame(int payloadLength) {
+        out.putVarint(payloadLength);
+        return out.length();
+    }
+
+    private void endFrame(int payloadStart) {
+        crc.reset();
+        crc.update(out.array(), payloadStart, out.length() - payloadStart);
+        out.putInt((int) crc.getValue()).put(BinaryLogEncoder.RECORD_END);
+    }
+}
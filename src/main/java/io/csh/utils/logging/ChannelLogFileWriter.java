@@ -0,0 +1,118 @@
+package io.csh.utils.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link FileChannel} 기반 로그 파일 기록기
+ *
+ * <p>로그를 큰 버퍼(선택적으로 direct 버퍼)에 모았다가 한 번의 {@code write}로 씁니다.
+ * 버퍼보다 큰 로그는 버퍼를 거치지 않고 바로 씁니다.</p>
+ *
+ * <p>{@link FileChannel}은 인터럽트된 스레드가 I/O를 하면 채널이 닫히므로,
+ * 기록하는 동안 호출 스레드의 인터럽트 상태를 잠시 지웠다가 복원합니다.</p>
+ */
+final class ChannelLogFileWriter implements LogFileWriter {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Durability durability;
+    private final long initialSize;
+
+    /**
+     * 파일을 추가 모드로 엽니다.
+     *
+     * @param path 로그 파일 경로
+     * @param bufferSize 버퍼 크기 (바이트)
+     * @param direct direct 버퍼 사용 여부
+     * @param durability 디스크 동기화 수준
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    ChannelLogFileWriter(Path path, int bufferSize, boolean direct, Durability durability) throws IOException {
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        int size = Math.max(1024, bufferSize);
+        this.buffer = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        this.durability = durability;
+        this.initialSize = channel.size();
+    }
+
+    @Override
+    public void write(LogBuffer record) throws IOException {
+        int length = record.length();
+        if (length > buffer.remaining()) {
+            drainBuffer();
+        }
+        if (length > buffer.capacity()) {
+            writeFully(record.byteBuffer());
+            return;
+        }
+        buffer.put(record.array(), 0, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drainBuffer();
+        if (durability == Durability.FLUSH) {
+            boolean interrupted = Thread.interrupted();
+            try {
+                channel.force(false);
+            } finally {
+                restoreInterrupt(interrupted);
+            }
+        }
+    }
+
+    @Override
+    public long initialSize() {
+        return initialSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drainBuffer();
+            if (durability != Durability.NONE) {
+                boolean interrupted = Thread.interrupted();
+                try {
+                    channel.force(true);
+                } finally {
+                    restoreInterrupt(interrupted);
+                }
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void drainBuffer() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            writeFully(buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        } finally {
+            restoreInterrupt(interrupted);
+        }
+    }
+
+    private static void restoreInterrupt(boolean interrupted) {
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
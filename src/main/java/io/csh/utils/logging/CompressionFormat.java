@@ -0,0 +1,53 @@
+package io.csh.utils.logging;
+
+/**
+ * 회전된 로그 파일 압축 형식
+ */
+public enum CompressionFormat {
+    /**
+     * 압축하지 않습니다 (기본값, 기존 동작).
+     */
+    NONE(""),
+
+    /**
+     * gzip으로 압축합니다. 파일명 뒤에 {@code .gz}가 붙습니다.
+     */
+    GZ(".gz");
+
+    private final String extension;
+
+    CompressionFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * 압축 파일에 붙는 확장자를 반환합니다.
+     *
+     * @return 확장자 (압축하지 않으면 빈 문자열)
+     */
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * 문자열에서 CompressionFormat을 찾습니다. {@code gzip}도 허용합니다.
+     *
+     * @param value 형식 문자열
+     * @return CompressionFormat 인스턴스
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static CompressionFormat fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return NONE;
+        }
+        String normalized = value.trim().toUpperCase();
+        if ("GZIP".equals(normalized)) {
+            return GZ;
+        }
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported compression format: " + value);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package io.csh.utils.logging;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 콘솔 출력 기록기
+ *
+ * <p>호출 스레드는 인코딩된 로그를 전용 {@link LogRingBuffer}에 복사하고 바로 반환하며,
+ * 기록 스레드 하나가 큐를 꺼내 표준 출력/표준 에러의 {@link FileChannel}에 큰 묶음으로 기록합니다.
+ * 컨테이너에서 표준 출력이 파이프이고 반대편 수집기가 느려도 기다리는 것은 기록 스레드뿐이며,
+ * 큐가 가득 차면 정책({@code csh.logging.console.overflow-policy}, 기본 DROP)에 따라 버립니다.
+ * 파일 기록은 콘솔 큐와 별개이므로 콘솔 출력을 기다리지 않습니다.</p>
+ *
+ * <p>ERROR/WARN은 표준 에러, 나머지는 표준 출력으로 보냅니다. 두 스트림의 로그가 하나의 큐에
+ * 순서대로 쌓이고, 기록 스레드는 스트림이 바뀔 때마다 모아둔 묶음을 먼저 기록하므로
+ * 두 스트림을 한곳으로 모아 보는 경우에도 로그 순서가 유지됩니다.</p>
+ *
+ * <p>{@code csh.logging.console.async=false}이면 예전처럼 호출 스레드에서 {@link System#out}/{@link System#err}에
+ * 바로 기록합니다. {@link System#setOut}으로 바꾼 스트림에 로그를 받아야 하는 경우(테스트 등)에 사용합니다.</p>
+ */
+final class ConsoleLogWriter {
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    /** 한 번에 꺼내는 최대 로그 수 */
+    private static final int BATCH_RECORDS = 1024;
+    /** 채널에 한 번에 기록하는 묶음의 최대 크기 */
+    private static final int MAX_BATCH_BYTES = 64 * 1024;
+
+    private static volatile ConsoleLogWriter instance;
+
+    private final LogRingBuffer ringBuffer;
+    private final OverflowPolicy overflowPolicy;
+    private final LogLevel dropThreshold;
+    private final FileChannel out;
+    private final FileChannel err;
+    private final Thread writerThread;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /** 기록 스레드 전용: 같은 스트림으로 갈 로그를 모아두는 버퍼 */
+    private final LogBuffer batch = new LogBuffer(MAX_BATCH_BYTES);
+    private boolean batchToErr;
+    private final LogBuffer report = new LogBuffer();
+    private final LogRingBuffer.SlotConsumer batchWriter = this::append;
+
+    private volatile boolean running = true;
+    private volatile boolean sleeping = false;
+    private long reportedDropCount;
+
+    private ConsoleLogWriter(LogConfig config) {
+        this.ringBuffer = new LogRingBuffer(config.getConsoleQueueSize());
+        this.overflowPolicy = config.getConsoleOverflowPolicy();
+        this.dropThreshold = config.getConsoleDropThreshold();
+        // 스트림을 닫으면 표준 출력 자체가 닫히므로 채널은 닫지 않고 프로세스 끝까지 유지
+        this.out = new FileOutputStream(FileDescriptor.out).getChannel();
+        this.err = new FileOutputStream(FileDescriptor.err).getChannel();
+        this.writerThread = new Thread(this::runWriter, "LogConsole-Writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * ConsoleLogWriter 싱글톤 인스턴스를 반환합니다. 처음 호출 시 기록 스레드를 시작합니다.
+     *
+     * @return ConsoleLogWriter 인스턴스
+     */
+    static ConsoleLogWriter getInstance() {
+        if (instance == null) {
+            synchronized (ConsoleLogWriter.class) {
+                if (instance == null) {
+                    ConsoleLogWriter writer = new ConsoleLogWriter(LogConfig.getInstance());
+                    writer.writerThread.start();
+                    Runtime.getRuntime().addShutdownHook(
+                        new Thread(writer::shutdown, "LogConsole-Shutdown"));
+                    instance = writer;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 실행 중인 인스턴스가 있으면 큐를 비우고 정지합니다.
+     */
+    static void shutdownInstance() {
+        ConsoleLogWriter writer = instance;
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * 인코딩된 로그 한 줄(줄 구분자 포함)을 콘솔에 출력합니다.
+     * 설정에 따라 기록 스레드에 넘기거나 호출 스레드에서 바로 기록합니다.
+     *
+     * @param record 인코딩된 로그
+     * @param level 로그 레벨 (원시 출력인 경우 null)
+     */
+    static void write(LogBuffer record, LogLevel level) {
+        if (LogConfig.getInstance().isConsoleAsync()) {
+            getInstance().publish(record, level);
+        } else {
+            writeDirect(record, level);
+        }
+    }
+
+    private static void writeDirect(LogBuffer record, LogLevel level) {
+        PrintStream console = isError(level) ? System.err : System.out;
+        console.write(record.array(), 0, record.length());
+    }
+
+    private static boolean isError(LogLevel level) {
+        return level == LogLevel.ERROR || level == LogLevel.WARN;
+    }
+
+    /**
+     * 로그를 큐에 넣습니다. 기록기가 정지된 경우 호출 스레드에서 바로 기록합니다.
+     *
+     * @param record 인코딩된 로그 (큐에 복사됨)
+     * @param level 로그 레벨 (원시 출력인 경우 null)
+     */
+    void publish(LogBuffer record, LogLevel level) {
+        if (!running) {
+            writeDirect(record, level);
+            return;
+        }
+        if (!ringBuffer.offer(record, level) && !handleOverflow(record, level)) {
+            return;
+        }
+        // 큐에 넣은 뒤 다시 확인하므로 정지 처리가 이 로그를 못 보고 끝났다면 여기서 직접 기록
+        if (!running) {
+            drainStopped();
+            return;
+        }
+        if (sleeping) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * 정지 처리가 끝난 뒤 큐에 넣은 로그를 호출 스레드에서 기록합니다. 정지 처리 중이면 끝날 때까지 기다립니다.
+     */
+    private synchronized void drainStopped() {
+        if (!writerThread.isAlive() && !Thread.currentThread().isInterrupted()) {
+            while (drainOnce() > 0) {
+                // 계속 비움
+            }
+        }
+    }
+
+    /**
+     * 큐가 가득 찬 경우 정책에 따라 처리합니다.
+     *
+     * @return 큐에 넣었으면 true, 버렸거나 직접 기록했으면 false
+     */
+    private boolean handleOverflow(LogBuffer record, LogLevel level) {
+        if (overflowPolicy == OverflowPolicy.DROP
+            || (overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL
+                && (level == null || !level.isEnabled(dropThreshold)))) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+
+        // BLOCK: 기록 스레드가 자리를 비울 때까지 대기
+        while (!ringBuffer.offer(record, level)) {
+            if (!running) {
+                writeDirect(record, level);
+                return false;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * 기록 스레드 루프
+     */
+    private void runWriter() {
+        while (running) {
+            if (drainOnce() == 0) {
+                sleeping = true;
+                if (ringBuffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                sleeping = false;
+            }
+        }
+        // 정지 요청 이후 남은 로그 모두 기록
+        while (drainOnce() > 0) {
+            // 계속 비움
+        }
+    }
+
+    private int drainOnce() {
+        int count = 0;
+        try {
+            count = ringBuffer.drain(batchWriter, BATCH_RECORDS);
+            reportDrops();
+            flushBatch();
+        } catch (IOException e) {
+            // 표준 출력이 닫힌 경우 등: 이번 묶음은 버리고 계속 진행
+            batch.reset();
+            System.err.println("Failed to write console log: " + e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * 로그 한 건을 묶음에 추가합니다. 스트림이 바뀌거나 묶음이 가득 차면 먼저 기록합니다.
+     */
+    private void append(LogBuffer record, LogLevel level) throws IOException {
+        boolean toErr = isError(level);
+        if (batch.length() > 0 && (toErr != batchToErr || batch.length() + record.length() > MAX_BATCH_BYTES)) {
+            flushBatch();
+        }
+        batchToErr = toErr;
+        batch.put(record.array(), 0, record.length());
+    }
+
+    private void flushBatch() throws IOException {
+        if (batch.length() == 0) {
+            return;
+        }
+        FileChannel channel = batchToErr ? err : out;
+        ByteBuffer bytes = batch.byteBuffer();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        batch.reset();
+        if (batch.array().length > LogBuffer.MAX_RETAINED_CAPACITY) {
+            batch.release();
+        }
+    }
+
+    /**
+     * 버려진 로그가 새로 생겼으면 요약 한 줄을 표준 에러에 기록합니다.
+     */
+    private void reportDrops() throws IOException {
+        long dropped = droppedCount.get();
+        if (dropped != reportedDropCount) {
+            report.reset();
+            String message = "Console log queue full, dropped " + (dropped - reportedDropCount) + " log records";
+            String name = ConsoleLogWriter.class.getName();
+            LogFormatter.encodeTo(report, LogConfig.getInstance().getConsoleFormat(), LogClock.currentTimeMillis(),
+                LogLevel.WARN, null, name, LogFormatter.encodeName(name), message, null, null, null, null, false);
+            report.putLineSeparator();
+            append(report, LogLevel.WARN);
+            reportedDropCount = dropped;
+        }
+    }
+
+    /**
+     * 큐를 비우고 기록 스레드를 정지합니다.
+     */
+    synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        if (Thread.currentThread() != writerThread) {
+            try {
+                writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // 인터럽트된 스레드가 채널에 쓰면 채널과 함께 표준 출력이 닫히므로 그 경우에는 남은 로그를 포기
+            if (!writerThread.isAlive() && !Thread.currentThread().isInterrupted()) {
+                drainClaimed();
+            }
+        }
+    }
+
+    /**
+     * 예약된 위치가 모두 공개되어 꺼내질 때까지 호출 스레드에서 기록합니다. 최대 {@link #SHUTDOWN_TIMEOUT_MILLIS}만큼
+     * 기다립니다. 정지 이후 큐에 넣은 생산자는 {@link #running}이 false임을 보고 직접 기록합니다.
+     */
+    private void drainClaimed() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+        while (true) {
+            if (drainOnce() > 0) {
+                continue;
+            }
+            if (ringBuffer.isDrained() || System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * 큐가 가득 차서 버려진 로그 수를 반환합니다.
+     *
+     * @return 버려진 로그 수
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
@@ -0,0 +1,155 @@
+package io.csh.utils.logging;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 지연 렌더링({@code csh.logging.async.deferred=true})에서 포맷팅 전의 로그 한 건을 담는 레코드
+ *
+ * <p>호출 스레드는 레벨, 로거, 스레드 이름, 시각, 메시지 또는 패턴과 인자, 예외 참조만 레코드에 옮기고
+ * 반환합니다. 메시지 포맷팅, 스택 트레이스, 인코딩은 모두 비동기 기록 스레드에서 합니다.
+ * 레코드는 {@link LogRingBuffer}의 슬롯마다 하나씩 미리 만들어 두고 재사용하므로 정상 상태에서는 할당이 없습니다.</p>
+ *
+ * <p>인자는 나중에 다른 스레드에서 문자열로 바뀌므로, 그 사이 값이 바뀔 수 있는 인자는 호출 시점에
+ * {@code toString()}으로 고정합니다. 다음 타입은 바뀌지 않으므로 참조만 보관합니다.</p>
+ * <ul>
+ *   <li>{@code null}, {@link String}, {@link Boolean}, {@link Character}, {@link Enum}, {@link Class}</li>
+ *   <li>{@link Integer}, {@link Long}, {@link Short}, {@link Byte}, {@link Double}, {@link Float},
+ *       {@link BigInteger}, {@link BigDecimal}, {@link UUID}</li>
+ *   <li>{@link Instant}, {@link LocalDate}, {@link LocalTime}, {@link LocalDateTime}, {@link OffsetDateTime},
+ *       {@link ZonedDateTime}, {@link Duration}</li>
+ * </ul>
+ * <p>그 외의 객체(배열, 컬렉션, {@code AtomicLong} 같은 가변 숫자, 사용자 클래스)는 호출 스레드에서 문자열로
+ * 바뀌므로 그만큼 할당이 생깁니다. 키-값의 객체 값도 같은 규칙을 따릅니다. 예외는 참조만 보관하므로
+ * 로그를 남긴 뒤 예외를 수정하면(예: {@code addSuppressed}) 수정된 내용이 기록될 수 있습니다.</p>
+ */
+final class DeferredRecord {
+    private static final int INITIAL_ARGS = 4;
+
+    private LoggerImpl logger;
+    private LogLevel level;
+    private long millis;
+    private String threadName;
+    private String message;
+    private String template;
+    private Object[] args = new Object[INITIAL_ARGS];
+    private int argCount;
+    private Throwable thrown;
+    private Sampler sampler;
+    private LogContext context;
+    private final LogFields fields = new LogFields();
+    private boolean hasFields;
+
+    /**
+     * 호출 스레드에서 로그 한 건의 원시 값을 옮겨 담습니다.
+     *
+     * @param logger 로거
+     * @param level 로그 레벨
+     * @param millis 기록 시각 (epoch 밀리초)
+     * @param message 완성된 메시지 (패턴 메시지이면 null)
+     * @param template 메시지 패턴 (완성된 메시지이면 null)
+     * @param args 패턴 인자 (마지막 예외 인자 포함 가능)
+     * @param fields 키-값 목록 (없으면 null)
+     * @param thrown 예외 (없으면 null)
+     * @param sampler 적용된 샘플러 (없으면 null)
+     * @param context 진단 컨텍스트 (없으면 null)
+     */
+    void capture(LoggerImpl logger, LogLevel level, long millis, String message, String template, Object[] args,
+                 LogFields fields, Throwable thrown, Sampler sampler, LogContext context) {
+        this.logger = logger;
+        this.level = level;
+        this.millis = millis;
+        this.threadName = Thread.currentThread().getName();
+        this.message = message;
+        this.template = template;
+        this.thrown = thrown;
+        this.sampler = sampler;
+        this.context = context;
+        int count = template != null ? MessageFormatter.argumentCount(args) : 0;
+        if (count > this.args.length) {
+            this.args = new Object[Math.max(count, this.args.length << 1)];
+        }
+        for (int i = 0; i < count; i++) {
+            this.args[i] = snapshot(args[i]);
+        }
+        this.argCount = count;
+        this.hasFields = fields != null;
+        if (hasFields) {
+            this.fields.copyFrom(fields);
+        }
+    }
+
+    /**
+     * 기록 스레드에서 레코드를 인코딩합니다. 콘솔 출력이 켜져 있으면 콘솔에도 내보내고,
+     * 끝나면 {@code buffer}에 파일에 기록할 내용이 남습니다. 인코딩 후 참조를 모두 지웁니다.
+     *
+     * @param buffer 출력 버퍼
+     * @return 기록할 내용이 있으면 true, 인코딩에 실패하면 false
+     */
+    boolean renderTo(LogBuffer buffer) {
+        try {
+            buffer.reset();
+            logger.encode(buffer, level, millis, threadName, message, template, args, argCount, sampler, context,
+                hasFields ? fields : null, thrown);
+            return true;
+        } catch (RuntimeException e) {
+            System.err.println("Failed to render deferred log record: " + e);
+            return false;
+        } finally {
+            clear();
+        }
+    }
+
+    private void clear() {
+        logger = null;
+        threadName = null;
+        message = null;
+        template = null;
+        Arrays.fill(args, 0, argCount, null);
+        argCount = 0;
+        thrown = null;
+        sampler = null;
+        context = null;
+        if (hasFields) {
+            fields.clear();
+            hasFields = false;
+        }
+    }
+
+    /**
+     * 나중에 다른 스레드에서 읽어도 되는 값으로 바꿉니다. 불변 타입은 그대로, 나머지는 문자열로 고정합니다.
+     *
+     * @param arg 인자
+     * @return 보관할 값
+     */
+    static Object snapshot(Object arg) {
+        if (isImmutable(arg)) {
+            return arg;
+        }
+        StringBuilder text = new StringBuilder();
+        MessageFormatter.appendArg(text, arg);
+        return text.toString();
+    }
+
+    private static boolean isImmutable(Object arg) {
+        if (arg == null || arg instanceof String || arg instanceof Enum) {
+            return true;
+        }
+        Class<?> type = arg.getClass();
+        return type == Integer.class || type == Long.class || type == Boolean.class || type == Double.class
+            || type == Character.class || type == Short.class || type == Byte.class || type == Float.class
+            || type == Class.class || type == BigInteger.class || type == BigDecimal.class || type == UUID.class
+            || type == Instant.class || type == LocalDate.class || type == LocalTime.class
+            || type == LocalDateTime.class || type == OffsetDateTime.class || type == ZonedDateTime.class
+            || type == Duration.class;
+    }
+}
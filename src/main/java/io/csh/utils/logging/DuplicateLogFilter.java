@@ -1,85 +1,243 @@
 package io.csh.utils.logging;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * 중복 로그를 방지하는 필터 클래스
+ *
+ * <p>고정 크기 테이블에 로그 ID의 64비트 해시, 다음 출력 가능 시각, 억제 횟수를 저장합니다.
+ * 테이블은 {@value #WAYS}칸씩 묶인 버킷으로 나뉘며, ID는 해시로 정해진 버킷 안에서만 찾으므로
+ * 조회는 항상 몇 칸만 확인하고 메모리는 {@code csh.logging.dedup.capacity}로 고정됩니다.</p>
+ *
+ * <p>등록된 ID의 출력 여부는 다음 출력 가능 시각에 대한 compare-and-set으로 결정하므로 락이 없고,
+ * 같은 ID를 동시에 기록해도 한 스레드만 출력합니다. 새 ID 등록만 버킷 단위 플래그로 직렬화하며,
+ * 교체 중인 칸은 출력 가능 시각을 {@link #CLAIMING}으로 두어 ID와 시각이 함께 바뀐 것처럼 보이게 합니다.
+ * 만료된 칸은 정리 작업 없이 그 자리에서 재사용하고, 버킷이 가득 차면 가장 먼저 만료될 항목을 교체합니다.</p>
+ *
+ * <p>억제된 횟수는 세어 두었다가 다음에 출력되는 로그에 "suppressed N times"로 붙입니다.</p>
  */
 public final class DuplicateLogFilter {
-    private static final ConcurrentMap<String, Long> lastLogTimes = new ConcurrentHashMap<>();
-    private static final int MAX_ENTRIES = 1000;
-    
+    private static final int WAYS = 4;
+    private static final int MIN_CAPACITY = 64;
+
+    /** 억제된 로그를 나타내는 {@link #acquire} 반환값 */
+    static final long SUPPRESSED = -1;
+
+    /** 다른 ID로 교체 중인 칸의 출력 가능 시각 */
+    private static final long CLAIMING = Long.MAX_VALUE;
+
+    /** 칸의 ID가 바뀌어 다시 찾아야 함을 나타내는 {@link #tryEmit} 반환값 */
+    private static final long RETRY = -2;
+
+    private static final int mask;
+    private static final AtomicLongArray keys;
+    private static final AtomicLongArray deadlines;
+    private static final AtomicLongArray suppressedCounts;
+    /** 버킷별 등록 플래그 (1이면 다른 스레드가 버킷의 칸을 교체하는 중) */
+    private static final AtomicIntegerArray claims;
+
+    static {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, LogConfig.getInstance().getDedupCapacity()) - 1) << 1;
+        keys = new AtomicLongArray(capacity);
+        deadlines = new AtomicLongArray(capacity);
+        suppressedCounts = new AtomicLongArray(capacity);
+        claims = new AtomicIntegerArray(capacity / WAYS);
+        mask = capacity / WAYS - 1;
+    }
+
     private DuplicateLogFilter() {}
-    
+
     /**
      * 중복 로그인지 확인합니다.
-     * 
+     *
      * @param id 로그 식별자
      * @param minIntervalSeconds 최소 간격 (초)
      * @return true if log should be allowed
      */
     public static boolean shouldLog(String id, int minIntervalSeconds) {
+        return acquire(id, minIntervalSeconds) != SUPPRESSED;
+    }
+
+    /**
+     * 로그를 출력해도 되는지 확인하고, 출력한다면 직전 출력 이후 억제된 횟수를 반환합니다.
+     *
+     * @param id 로그 식별자
+     * @param minIntervalSeconds 최소 간격 (초)
+     * @return 억제된 횟수 (0 이상), 이번 로그를 억제해야 하면 {@link #SUPPRESSED}
+     */
+    static long acquire(String id, int minIntervalSeconds) {
         if (minIntervalSeconds <= 0) {
-            return true;
+            return 0;
+        }
+
+        long now = LogClock.currentTimeMillis();
+        long next = now + minIntervalSeconds * 1000L;
+        long key = hash(id);
+        int base = bucket(key);
+
+        while (true) {
+            int slot = find(base, key);
+            long result = slot < 0 ? register(base, key, next) : tryEmit(slot, key, now, next);
+            if (result != RETRY) {
+                return result;
+            }
+        }
+    }
+
+    private static int find(int base, long key) {
+        for (int way = 0; way < WAYS; way++) {
+            if (keys.get(base + way) == key) {
+                return base + way;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 새 ID를 버킷의 빈 칸이나 가장 먼저 만료될 칸에 등록합니다. 등록한 스레드만 출력합니다.
+     *
+     * @return 0, 다른 스레드가 같은 ID를 먼저 등록했으면 {@link #RETRY}
+     */
+    private static long register(int base, long key, long next) {
+        lockBucket(base);
+        try {
+            if (find(base, key) >= 0) {
+                return RETRY;
+            }
+            int victim = base;
+            long victimDeadline = deadlines.get(base);
+            for (int way = 1; way < WAYS; way++) {
+                long deadline = deadlines.get(base + way);
+                if (deadline < victimDeadline) {
+                    victim = base + way;
+                    victimDeadline = deadline;
+                }
+            }
+            // 이전 ID와 새 ID 모두 교체가 끝날 때까지 기다리게 한 뒤 ID와 시각을 바꿈
+            deadlines.set(victim, CLAIMING);
+            keys.set(victim, key);
+            suppressedCounts.set(victim, 0);
+            deadlines.set(victim, next);
+            return 0;
+        } finally {
+            unlockBucket(base);
         }
-        
-        long now = System.currentTimeMillis();
-        Long lastTime = lastLogTimes.get(id);
-        
-        if (lastTime == null) {
-            // 새로운 로그
-            lastLogTimes.put(id, now);
-            cleanupIfNeeded();
-            return true;
+    }
+
+    /**
+     * 등록된 ID의 다음 출력 가능 시각을 compare-and-set으로 갱신합니다.
+     *
+     * @return 억제된 횟수, 억제해야 하면 {@link #SUPPRESSED}, 칸이 다른 ID로 바뀌었으면 {@link #RETRY}
+     */
+    private static long tryEmit(int slot, long key, long now, long next) {
+        while (true) {
+            long deadline = deadlines.get(slot);
+            if (deadline == CLAIMING) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (keys.get(slot) != key) {
+                return RETRY;
+            }
+            if (now < deadline) {
+                // 중복 로그
+                suppressedCounts.incrementAndGet(slot);
+                return SUPPRESSED;
+            }
+            if (deadlines.compareAndSet(slot, deadline, next)) {
+                // 충분한 시간이 지났음
+                return suppressedCounts.getAndSet(slot, 0);
+            }
         }
-        
-        long timeDiff = now - lastTime;
-        if (timeDiff >= minIntervalSeconds * 1000L) {
-            // 충분한 시간이 지났음
-            lastLogTimes.put(id, now);
-            return true;
+    }
+
+    private static void lockBucket(int base) {
+        while (!claims.compareAndSet(base / WAYS, 0, 1)) {
+            Thread.onSpinWait();
         }
-        
-        // 중복 로그
-        return false;
     }
-    
+
+    private static void unlockBucket(int base) {
+        claims.set(base / WAYS, 0);
+    }
+
     /**
      * 특정 ID의 로그 기록을 제거합니다.
-     * 
+     *
      * @param id 로그 식별자
      */
     public static void removeLogRecord(String id) {
-        lastLogTimes.remove(id);
+        long key = hash(id);
+        int base = bucket(key);
+        lockBucket(base);
+        try {
+            for (int way = 0; way < WAYS; way++) {
+                int slot = base + way;
+                if (keys.get(slot) == key) {
+                    deadlines.set(slot, CLAIMING);
+                    keys.set(slot, 0);
+                    suppressedCounts.set(slot, 0);
+                    deadlines.set(slot, 0);
+                }
+            }
+        } finally {
+            unlockBucket(base);
+        }
     }
-    
+
     /**
      * 모든 로그 기록을 제거합니다.
      */
     public static void clear() {
-        lastLogTimes.clear();
+        for (int base = 0; base < keys.length(); base += WAYS) {
+            lockBucket(base);
+            try {
+                for (int slot = base; slot < base + WAYS; slot++) {
+                    deadlines.set(slot, CLAIMING);
+                    keys.set(slot, 0);
+                    suppressedCounts.set(slot, 0);
+                    deadlines.set(slot, 0);
+                }
+            } finally {
+                unlockBucket(base);
+            }
+        }
     }
-    
+
     /**
-     * 맵 크기가 제한을 초과하면 오래된 항목들을 제거합니다.
+     * 현재 저장된(아직 만료되지 않은) 로그 기록 수를 반환합니다.
+     *
+     * @return 로그 기록 수
      */
-    private static void cleanupIfNeeded() {
-        if (lastLogTimes.size() > MAX_ENTRIES) {
-            // 간단한 정리: 맵의 절반을 제거
-            int toRemove = MAX_ENTRIES / 2;
-            lastLogTimes.entrySet().stream()
-                .limit(toRemove)
-                .forEach(entry -> lastLogTimes.remove(entry.getKey()));
+    public static int size() {
+        long now = LogClock.currentTimeMillis();
+        int count = 0;
+        for (int slot = 0; slot < keys.length(); slot++) {
+            long deadline = deadlines.get(slot);
+            if (keys.get(slot) != 0 && deadline > now && deadline != CLAIMING) {
+                count++;
+            }
         }
+        return count;
     }
-    
+
+    private static int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & mask) * WAYS;
+    }
+
     /**
-     * 현재 저장된 로그 기록 수를 반환합니다.
-     * 
-     * @return 로그 기록 수
+     * ID의 64비트 해시(FNV-1a 후 혼합)를 계산합니다. 0은 빈 칸을 뜻하므로 사용하지 않습니다.
      */
-    public static int size() {
-        return lastLogTimes.size();
+    private static long hash(String id) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            h ^= id.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package io.csh.utils.logging;
+
+/**
+ * 로그 파일의 디스크 동기화 수준
+ *
+ * <p>flush는 데이터를 운영체제에 넘길 뿐이며, 전원 장애에도 남아 있으려면
+ * {@link java.nio.channels.FileChannel#force(boolean)}로 디스크 동기화가 필요합니다.</p>
+ */
+public enum Durability {
+    /**
+     * 디스크 동기화를 하지 않습니다 (기본값). 운영체제가 알아서 기록합니다.
+     */
+    NONE,
+
+    /**
+     * flush할 때마다 {@code force(false)}로 데이터를 디스크에 동기화하고,
+     * 파일을 닫을 때 {@code force(true)}를 호출합니다.
+     */
+    FLUSH,
+
+    /**
+     * 파일 회전이나 종료로 파일을 닫을 때만 {@code force(true)}를 호출합니다.
+     */
+    ROTATE;
+
+    /**
+     * 문자열에서 Durability를 찾습니다.
+     *
+     * @param value 동기화 수준 문자열
+     * @return Durability 인스턴스
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static Durability fromString(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported durability: " + value);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.csh.utils.logging;
+
+/**
+ * 로그 파일 flush 정책
+ */
+public enum FlushPolicy {
+    /**
+     * 로그 한 줄마다 파일에 씁니다 (기본값, 기존 동작).
+     * 비동기 모드에서는 배치마다 한 번 씁니다.
+     */
+    STRICT,
+
+    /**
+     * 큰 버퍼에 모았다가 다음 조건 중 하나가 만족될 때 씁니다.
+     * <ul>
+     *     <li>버퍼가 가득 찬 경우</li>
+     *     <li>마지막 flush 이후 {@code csh.logging.file.flush-records}개가 쌓인 경우</li>
+     *     <li>마지막 flush 이후 {@code csh.logging.file.flush-interval-ms}가 지난 경우</li>
+     *     <li>{@code csh.logging.file.flush-level} 이상(기본값 WARN)의 로그가 기록된 경우</li>
+     * </ul>
+     */
+    BUFFERED;
+
+    /**
+     * 문자열에서 FlushPolicy를 찾습니다.
+     *
+     * @param value 정책 문자열
+     * @return FlushPolicy 인스턴스
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static FlushPolicy fromString(String value) {
+        if (value == null) {
+            return STRICT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported flush policy: " + value);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.csh.utils.logging;
+
+/**
+ * 로그 한 줄을 JSON 객체 하나로 기록하는 인코더 (JSON Lines)
+ *
+ * <pre>
+ * {"ts":1718000000000,"level":"INFO","thread":"main","logger":"com.acme.Orders","msg":"paid","orderId":"A-1","latencyMs":12}
+ * </pre>
+ *
+ * <p>{@link LogBuffer}에 바로 기록하므로 중간 문자열이나 {@code StringBuilder}를 만들지 않습니다.
+ * 고정 키는 미리 만든 ASCII 바이트를 복사하고, 문자열은 {@link LogBuffer#putJsonString}의
+ * ASCII 빠른 경로로 이스케이프합니다. 진단 컨텍스트({@link LogContext})는 키-값과 같은 최상위 키로 기록되고,
+ * 샘플링된 로그에는 {@code sampleRate}, 예외가 있으면
+ * {@code error}(스택 트레이스)가 추가됩니다.</p>
+ */
+final class JsonLogEncoder {
+
+    private JsonLogEncoder() {}
+
+    /**
+     * 로그 한 줄(줄 구분자 제외)을 JSON 객체로 기록합니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param millis 기록 시각 (epoch 밀리초)
+     * @param level 로그 레벨
+     * @param threadName 스레드 이름 (null이면 현재 스레드)
+     * @param loggerName 로거 이름
+     * @param message 로그 메시지
+     * @param sampler 적용된 샘플러 (없으면 null)
+     * @param context 진단 컨텍스트 (없으면 null)
+     * @param fields 키-값 목록 (없으면 null)
+     * @param thrown 예외 (없으면 null)
+     * @param toFile 로그 파일에 기록할 줄이면 true ({@link StackTraceRenderer#render(Throwable, boolean)} 참고)
+     */
+    static void encodeTo(LogBuffer buffer, long millis, LogLevel level, String threadName, String loggerName,
+                         CharSequence message, Sampler sampler, LogContext context, LogFields fields,
+                         Throwable thrown, boolean toFile) {
+        buffer.putAscii("{\"ts\":").putLong(millis)
+              .putAscii(",\"level\":\"").putAscii(level.name())
+              .putAscii("\",\"thread\":")
+              .putJsonString(threadName != null ? threadName : Thread.currentThread().getName())
+              .putAscii(",\"logger\":").putJsonString(loggerName)
+              .putAscii(",\"msg\":").putJsonString(message);
+        if (sampler != null) {
+            buffer.putAscii(",\"sampleRate\":").putDouble(sampler.getRate());
+        }
+        if (context != null) {
+            for (int i = 0; i < context.size(); i++) {
+                buffer.put((byte) ',').putJsonString(context.key(i)).put((byte) ':').putJsonString(context.value(i));
+            }
+        }
+        if (fields != null) {
+            for (int i = 0; i < fields.size(); i++) {
+                buffer.put((byte) ',').putJsonString(fields.key(i)).put((byte) ':');
+                putValue(buffer, fields, i);
+            }
+        }
+        if (thrown != null) {
+            buffer.putAscii(",\"error\":").putJsonString(StackTraceRenderer.render(thrown, toFile));
+        }
+        buffer.put((byte) '}');
+    }
+
+    private static void putValue(LogBuffer buffer, LogFields fields, int i) {
+        switch (fields.type(i)) {
+            case LogFields.LONG:
+                buffer.putLong(fields.longAt(i));
+                break;
+            case LogFields.DOUBLE:
+                double value = fields.doubleAt(i);
+                if (Double.isNaN(value) || Double.isInfinite(value)) {
+                    // JSON 숫자로 나타낼 수 없는 값은 문자열로 기록
+                    buffer.put((byte) '"').putAscii(Double.toString(value)).put((byte) '"');
+                } else {
+                    buffer.putDouble(value);
+                }
+                break;
+            case LogFields.BOOLEAN:
+                buffer.putAscii(fields.booleanAt(i) ? "true" : "false");
+                break;
+            case LogFields.STRING:
+                buffer.putJsonString((String) fields.objectAt(i));
+                break;
+            default:
+                Object object = fields.objectAt(i);
+                if (object == null) {
+                    buffer.putAscii("null");
+                } else if (object instanceof Boolean
+                    || (object instanceof Number && isFinite((Number) object))) {
+                    buffer.putAscii(object.toString());
+                } else {
+                    buffer.putJsonString(object.toString());
+                }
+                break;
+        }
+    }
+
+    private static boolean isFinite(Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            return !Double.isNaN(value) && !Double.isInfinite(value);
+        }
+        return number instanceof Long || number instanceof Integer
+            || number instanceof Short || number instanceof Byte;
+    }
+}
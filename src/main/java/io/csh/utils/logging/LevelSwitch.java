@@ -0,0 +1,141 @@
+package io.csh.utils.logging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * 레벨별 전역 스위치
+ *
+ * <p>레벨마다 상수 {@code boolean}을 돌려주는 {@link MutableCallSite}를 두고, 그 호출자를
+ * {@code static final} 필드에 보관합니다. JIT는 이 값을 상수로 취급하므로 어떤 로거에서도
+ * 켜져 있지 않은 레벨의 로그 호출은 분기째 제거되어 빈 메서드와 같은 비용이 됩니다.</p>
+ *
+ * <p>레벨 설정이 바뀌어 어떤 레벨의 켜짐 여부가 실제로 달라질 때만 대상을 교체하고
+ * {@link MutableCallSite#syncAll}을 호출합니다. 이때 이 값을 상수로 접어 넣은 코드만
+ * 역최적화되고 다시 컴파일됩니다. 스위치가 켜진 레벨은 각 로거의 유효 레벨로 한 번 더 확인합니다.</p>
+ */
+final class LevelSwitch {
+    private static final LogLevel[] LEVELS = LogLevel.values();
+    private static final MutableCallSite[] SITES = new MutableCallSite[LEVELS.length];
+    private static final boolean[] enabled = new boolean[LEVELS.length];
+
+    static {
+        for (int i = 0; i < SITES.length; i++) {
+            enabled[i] = true;
+            SITES[i] = new MutableCallSite(MethodHandles.constant(boolean.class, true));
+        }
+    }
+
+    private static final MethodHandle TRACE = SITES[LogLevel.TRACE.ordinal()].dynamicInvoker();
+    private static final MethodHandle DEBUG = SITES[LogLevel.DEBUG.ordinal()].dynamicInvoker();
+    private static final MethodHandle INFO = SITES[LogLevel.INFO.ordinal()].dynamicInvoker();
+    private static final MethodHandle WARN = SITES[LogLevel.WARN.ordinal()].dynamicInvoker();
+    private static final MethodHandle ERROR = SITES[LogLevel.ERROR.ordinal()].dynamicInvoker();
+
+    static {
+        // 설정된 레벨을 읽어 스위치 초기값을 맞춤
+        LogLevels.root();
+    }
+
+    private LevelSwitch() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 가장 낮은 유효 레벨에 맞춰 스위치를 갱신합니다. 켜짐 여부가 바뀐 레벨만 교체합니다.
+     *
+     * @param minimum 어떤 로거에든 설정된 가장 낮은 레벨
+     */
+    static synchronized void update(LogLevel minimum) {
+        boolean changed = false;
+        for (LogLevel level : LEVELS) {
+            boolean on = level.isEnabled(minimum);
+            int i = level.ordinal();
+            if (enabled[i] != on) {
+                enabled[i] = on;
+                SITES[i].setTarget(MethodHandles.constant(boolean.class, on));
+                changed = true;
+            }
+        }
+        if (changed) {
+            MutableCallSite.syncAll(SITES);
+        }
+    }
+
+    /**
+     * 레벨 스위치를 확인합니다. 레벨이 상수가 아닌 경로에서 사용합니다.
+     *
+     * @param level 로그 레벨
+     * @return 어떤 로거에서든 켜져 있으면 true
+     */
+    static boolean isEnabled(LogLevel level) {
+        switch (level) {
+            case TRACE:
+                return isTraceEnabled();
+            case DEBUG:
+                return isDebugEnabled();
+            case INFO:
+                return isInfoEnabled();
+            case WARN:
+                return isWarnEnabled();
+            default:
+                return isErrorEnabled();
+        }
+    }
+
+    /**
+     * @return 어떤 로거에서든 TRACE 레벨이 켜져 있으면 true
+     */
+    static boolean isTraceEnabled() {
+        try {
+            return (boolean) TRACE.invokeExact();
+        } catch (Throwable t) {
+            throw new AssertionError(t);
+        }
+    }
+
+    /**
+     * @return 어떤 로거에서든 DEBUG 레벨이 켜져 있으면 true
+     */
+    static boolean isDebugEnabled() {
+        try {
+            return (boolean) DEBUG.invokeExact();
+        } catch (Throwable t) {
+            throw new AssertionError(t);
+        }
+    }
+
+    /**
+     * @return 어떤 로거에서든 INFO 레벨이 켜져 있으면 true
+     */
+    static boolean isInfoEnabled() {
+        try {
+            return (boolean) INFO.invokeExact();
+        } catch (Throwable t) {
+            throw new AssertionError(t);
+        }
+    }
+
+    /**
+     * @return 어떤 로거에서든 WARN 레벨이 켜져 있으면 true
+     */
+    static boolean isWarnEnabled() {
+        try {
+            return (boolean) WARN.invokeExact();
+        } catch (Throwable t) {
+            throw new AssertionError(t);
+        }
+    }
+
+    /**
+     * @return 어떤 로거에서든 ERROR 레벨이 켜져 있으면 true
+     */
+    static boolean isErrorEnabled() {
+        try {
+            return (boolean) ERROR.invokeExact();
+        } catch (Throwable t) {
+            throw new AssertionError(t);
+        }
+    }
+}
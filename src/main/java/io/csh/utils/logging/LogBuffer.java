@@ -0,0 +1,457 @@
+package io.csh.utils.logging;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 로그 한 줄을 UTF-8 바이트로 담는 재사용 버퍼
+ *
+ * <p>{@link LogFormatter}가 타임스탬프, 레벨, 로거 이름, 메시지를 중간 {@code String} 없이
+ * 바로 이 버퍼에 기록하고, 콘솔/파일 출력은 버퍼의 바이트를 그대로 사용합니다.
+ * 스레드별로 하나씩 재사용되므로 정상 상태에서는 할당이 발생하지 않습니다.</p>
+ *
+ * <p>로그 메시지 인자의 {@code toString()}이 다시 로그를 남기는 경우처럼 같은 스레드에서
+ * 중첩 사용되면 임시 버퍼를 새로 만들어 사용합니다.</p>
+ *
+ * <p>가상 스레드는 스레드별 버퍼 대신 공유 풀({@link StripedPool})에서 꺼내 쓰고 돌려놓으므로,
+ * 가상 스레드가 아무리 많아도 버퍼 수는 캐리어 스레드 수 정도로 유지됩니다.</p>
+ */
+final class LogBuffer {
+    static final int DEFAULT_CAPACITY = 512;
+
+    /** 이보다 커진 버퍼는 반환 시 기본 크기로 줄임 (큰 스택 트레이스 이후 메모리 유지 방지) */
+    static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<LogBuffer> THREAD_BUFFERS = ThreadLocal.withInitial(LogBuffer::new);
+    private static final StripedPool<LogBuffer> SHARED_BUFFERS = new StripedPool<>(LogBuffer::new);
+
+    private byte[] bytes;
+    private ByteBuffer view;
+    private int length;
+    private boolean inUse;
+    /** 가상 스레드가 공유 풀에서 꺼낸 버퍼인지 여부 */
+    private boolean pooled;
+    private final StringBuilder scratch = new StringBuilder(128);
+    /** 인자가 1~3개인 로그 호출에 재사용하는 인자 배열 (길이가 인자 수와 같아야 함) */
+    private final Object[][] argArrays = {new Object[1], new Object[2], new Object[3]};
+
+    /**
+     * 기본 크기의 버퍼를 생성합니다.
+     */
+    LogBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 지정한 크기의 버퍼를 생성합니다.
+     *
+     * @param capacity 초기 크기 (바이트)
+     */
+    LogBuffer(int capacity) {
+        this.bytes = new byte[capacity];
+        this.view = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * 현재 스레드의 버퍼를 비운 상태로 반환합니다.
+     * 사용이 끝나면 반드시 {@link #release()}를 호출해야 합니다.
+     *
+     * @return 사용 가능한 버퍼
+     */
+    static LogBuffer acquire() {
+        if (VirtualThreads.isCurrent()) {
+            LogBuffer buffer = SHARED_BUFFERS.take();
+            buffer.pooled = true;
+            buffer.length = 0;
+            return buffer;
+        }
+        LogBuffer buffer = THREAD_BUFFERS.get();
+        if (buffer.inUse) {
+            buffer = new LogBuffer();
+        }
+        buffer.inUse = true;
+        buffer.length = 0;
+        return buffer;
+    }
+
+    /**
+     * 버퍼 사용을 마칩니다.
+     */
+    void release() {
+        inUse = false;
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            length = 0;
+            resize(DEFAULT_CAPACITY);
+        }
+        if (pooled) {
+            pooled = false;
+            SHARED_BUFFERS.give(this);
+        }
+    }
+
+    /**
+     * 내용을 비웁니다.
+     */
+    void reset() {
+        length = 0;
+    }
+
+    /**
+     * 기록된 바이트 수를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * 내부 배열을 반환합니다. 유효한 범위는 {@code [0, length())}입니다.
+     *
+     * @return 내부 배열
+     */
+    byte[] array() {
+        return bytes;
+    }
+
+    /**
+     * 기록된 내용을 읽을 수 있는 {@link ByteBuffer} 뷰를 반환합니다.
+     * 뷰는 재사용되므로 다음 기록 전까지만 유효합니다.
+     *
+     * @return position 0, limit {@code length()}인 ByteBuffer
+     */
+    ByteBuffer byteBuffer() {
+        view.limit(length).position(0);
+        return view;
+    }
+
+    /**
+     * 메시지 포맷팅용 임시 StringBuilder를 비운 상태로 반환합니다.
+     *
+     * @return 재사용 StringBuilder
+     */
+    StringBuilder scratch() {
+        scratch.setLength(0);
+        return scratch;
+    }
+
+    /**
+     * 인자가 {@code count}개인 로그 호출에 쓸 재사용 인자 배열을 반환합니다.
+     * 사용한 뒤에는 인자 참조가 남지 않도록 비워야 합니다.
+     *
+     * @param count 인자 수 (1~3)
+     * @return 길이가 {@code count}인 배열
+     */
+    Object[] args(int count) {
+        return argArrays[count - 1];
+    }
+
+    /**
+     * 다른 버퍼의 내용을 복사합니다.
+     *
+     * @param source 원본 버퍼
+     */
+    void copyFrom(LogBuffer source) {
+        int size = source.length;
+        length = 0;
+        if (bytes.length > MAX_RETAINED_CAPACITY && size <= DEFAULT_CAPACITY) {
+            resize(DEFAULT_CAPACITY);
+        }
+        ensureCapacity(size);
+        System.arraycopy(source.bytes, 0, bytes, 0, size);
+        length = size;
+    }
+
+    LogBuffer put(byte b) {
+        ensureCapacity(1);
+        bytes[length++] = b;
+        return this;
+    }
+
+    LogBuffer put(byte[] src) {
+        return put(src, 0, src.length);
+    }
+
+    LogBuffer put(byte[] src, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(src, offset, bytes, length, count);
+        length += count;
+        return this;
+    }
+
+    /**
+     * ASCII 문자만으로 이루어진 문자열을 기록합니다 (레벨 이름, 구분자 등).
+     */
+    LogBuffer putAscii(String s) {
+        int n = s.length();
+        ensureCapacity(n);
+        for (int i = 0; i < n; i++) {
+            bytes[length++] = (byte) s.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     * 0 이상의 정수를 지정한 자릿수만큼 앞을 0으로 채워 기록합니다.
+     */
+    LogBuffer putDigits(int value, int digits) {
+        ensureCapacity(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    /**
+     * 정수를 10진수로 기록합니다.
+     */
+    LogBuffer putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            return putAscii("-9223372036854775808");
+        }
+        if (value < 0) {
+            put((byte) '-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    /**
+     * 문자열을 UTF-8로 인코딩하여 기록합니다. ASCII 문자는 그대로 한 바이트로 복사합니다.
+     */
+    LogBuffer putUtf8(CharSequence s) {
+        if (s == null) {
+            return putAscii("null");
+        }
+        int n = s.length();
+        ensureCapacity(n);
+        int i = 0;
+        // ASCII 빠른 경로
+        while (i < n) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                break;
+            }
+            bytes[length++] = (byte) c;
+            i++;
+        }
+        for (; i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                ensureCapacity(1);
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                ensureCapacity(4);
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 맞지 않는 surrogate
+                ensureCapacity(1);
+                bytes[length++] = (byte) '?';
+            } else {
+                ensureCapacity(3);
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 문자열을 따옴표로 감싼 JSON 문자열로 기록합니다.
+     * 이스케이프가 필요 없는 ASCII 문자는 검사 한 번으로 그대로 복사하고,
+     * 따옴표, 역슬래시, 제어 문자, 비 ASCII 문자만 느린 경로에서 처리합니다.
+     */
+    LogBuffer putJsonString(CharSequence s) {
+        if (s == null) {
+            return putAscii("null");
+        }
+        int n = s.length();
+        ensureCapacity(n + 2);
+        bytes[length++] = '"';
+        int i = 0;
+        // ASCII 빠른 경로
+        while (i < n) {
+            char c = s.charAt(i);
+            if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                break;
+            }
+            bytes[length++] = (byte) c;
+            i++;
+        }
+        for (; i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                ensureCapacity(1);
+                bytes[length++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                ensureCapacity(2);
+                bytes[length++] = '\\';
+                bytes[length++] = (byte) c;
+            } else if (c == '\n') {
+                putAscii("\\n");
+            } else if (c == '\r') {
+                putAscii("\\r");
+            } else if (c == '\t') {
+                putAscii("\\t");
+            } else if (c < 0x20) {
+                ensureCapacity(6);
+                bytes[length++] = '\\';
+                bytes[length++] = 'u';
+                bytes[length++] = '0';
+                bytes[length++] = '0';
+                bytes[length++] = HEX[c >> 4];
+                bytes[length++] = HEX[c & 0xF];
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                ensureCapacity(4);
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 맞지 않는 surrogate
+                ensureCapacity(1);
+                bytes[length++] = (byte) '?';
+            } else {
+                ensureCapacity(3);
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return put((byte) '"');
+    }
+
+    /**
+     * 실수를 기록합니다. 정수로 나타낼 수 있는 값은 문자열을 만들지 않고 바로 기록합니다.
+     */
+    LogBuffer putDouble(double value) {
+        if (value == (long) value && Math.abs(value) < 1e15) {
+            return putLong((long) value).putAscii(".0");
+        }
+        return putAscii(Double.toString(value));
+    }
+
+    /**
+     * 0 이상의 정수를 가변 길이(7비트 단위, 하위 바이트부터)로 기록합니다. 바이너리 형식용입니다.
+     */
+    LogBuffer putVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * 4바이트 정수를 big-endian으로 기록합니다. 바이너리 형식용입니다.
+     */
+    LogBuffer putInt(int value) {
+        ensureCapacity(4);
+        bytes[length++] = (byte) (value >>> 24);
+        bytes[length++] = (byte) (value >>> 16);
+        bytes[length++] = (byte) (value >>> 8);
+        bytes[length++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * 8바이트 정수를 big-endian으로 기록합니다. 바이너리 형식용입니다.
+     */
+    LogBuffer putLongBits(long value) {
+        return putInt((int) (value >>> 32)).putInt((int) value);
+    }
+
+    /**
+     * 문자열을 UTF-8 바이트 수(가변 길이)와 내용으로 기록합니다. 바이너리 형식용입니다.
+     */
+    LogBuffer putString(CharSequence s) {
+        if (s == null) {
+            s = "null";
+        }
+        return putVarint(utf8Length(s)).putUtf8(s);
+    }
+
+    /**
+     * {@link #putUtf8}이 기록할 바이트 수를 계산합니다.
+     */
+    static int utf8Length(CharSequence s) {
+        int n = s.length();
+        int count = n;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                count += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                count += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                count += 2;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 시스템 줄 구분자를 기록합니다.
+     */
+    LogBuffer putLineSeparator() {
+        return put(LINE_SEPARATOR);
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > bytes.length) {
+            resize(Math.max(required, bytes.length << 1));
+        }
+    }
+
+    private void resize(int capacity) {
+        bytes = Arrays.copyOf(bytes, Math.max(capacity, length));
+        view = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * 기록된 내용을 문자열로 변환합니다.
+     *
+     * @return UTF-8로 디코딩한 문자열
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,180 @@
+package io.csh.utils.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.function.LongSupplier;
+
+/**
+ * 로깅 전용 시계
+ *
+ * <p>로그 타임스탬프, 중복 로그 필터, 파일 회전이 같은 시간 소스를 공유합니다.
+ * 타임스탬프의 {@code yyyy-MM-dd HH:mm:ss.} 부분은 초 단위로 한 번만 만들어 캐시하고,
+ * 로그마다 밀리초 세 자리만 덧붙입니다.</p>
+ *
+ * <p>시간 소스는 교체할 수 있습니다. 기본값은 {@link System#currentTimeMillis()}이며,
+ * {@code csh.logging.clock.coarse=true}이면 별도 스레드가 주기적으로 갱신하는
+ * 값을 읽기만 하는 저해상도 시계를 사용합니다 (초당 로그 수가 매우 많을 때 유리).</p>
+ */
+public final class LogClock {
+    private static final LongSupplier SYSTEM = System::currentTimeMillis;
+
+    private static volatile LongSupplier timeSource = SYSTEM;
+    private static volatile CachedSecond cachedSecond = new CachedSecond(Long.MIN_VALUE, null, null);
+    private static volatile CoarseTicker ticker;
+
+    static {
+        LogConfig config = LogConfig.getInstance();
+        if (config.isCoarseClock()) {
+            useCoarseClock(config.getClockTickMillis());
+        }
+    }
+
+    private LogClock() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 현재 시각을 밀리초로 반환합니다.
+     *
+     * @return epoch 밀리초
+     */
+    public static long currentTimeMillis() {
+        return timeSource.getAsLong();
+    }
+
+    /**
+     * 시간 소스를 교체합니다. 주로 테스트에서 고정 시각을 사용할 때 사용합니다.
+     *
+     * @param source epoch 밀리초를 반환하는 시간 소스
+     */
+    public static void setTimeSource(LongSupplier source) {
+        stopTicker();
+        timeSource = source == null ? SYSTEM : source;
+    }
+
+    /**
+     * {@link System#currentTimeMillis()}를 시간 소스로 사용합니다.
+     */
+    public static void useSystemClock() {
+        setTimeSource(SYSTEM);
+    }
+
+    /**
+     * 지정한 주기로 갱신되는 저해상도 시계를 시간 소스로 사용합니다.
+     *
+     * @param tickMillis 갱신 주기 (밀리초)
+     */
+    public static synchronized void useCoarseClock(int tickMillis) {
+        stopTicker();
+        CoarseTicker newTicker = new CoarseTicker(Math.max(1, tickMillis));
+        newTicker.start();
+        ticker = newTicker;
+        timeSource = newTicker;
+    }
+
+    private static synchronized void stopTicker() {
+        CoarseTicker current = ticker;
+        if (current != null) {
+            current.running = false;
+            current.interrupt();
+            ticker = null;
+        }
+    }
+
+    /**
+     * 현재 날짜를 {@code yyyy-MM-dd} 형식으로 반환합니다. 초 단위 캐시를 사용합니다.
+     *
+     * @return 현재 날짜 문자열
+     */
+    static String currentDate() {
+        return cachedSecond(currentTimeMillis()).date;
+    }
+
+    /**
+     * {@code yyyy-MM-dd HH:mm:ss.SSS} 형식의 타임스탬프를 버퍼에 기록합니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param epochMillis 기록할 시각
+     */
+    static void appendTimestamp(LogBuffer buffer, long epochMillis) {
+        buffer.put(cachedSecond(epochMillis).prefix)
+              .putDigits((int) Math.floorMod(epochMillis, 1000L), 3);
+    }
+
+    private static CachedSecond cachedSecond(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        CachedSecond cached = cachedSecond;
+        if (cached.epochSecond != epochSecond) {
+            cached = CachedSecond.of(epochSecond);
+            cachedSecond = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * 특정 초에 대해 미리 만들어 둔 타임스탬프 앞부분
+     */
+    private static final class CachedSecond {
+        final long epochSecond;
+        final byte[] prefix;
+        final String date;
+
+        CachedSecond(long epochSecond, byte[] prefix, String date) {
+            this.epochSecond = epochSecond;
+            this.prefix = prefix;
+            this.date = date;
+        }
+
+        static CachedSecond of(long epochSecond) {
+            ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+            LocalDateTime time = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+            LogBuffer buffer = new LogBuffer(24);
+            buffer.putDigits(time.getYear(), 4).put((byte) '-')
+                  .putDigits(time.getMonthValue(), 2).put((byte) '-')
+                  .putDigits(time.getDayOfMonth(), 2);
+            String date = new String(buffer.array(), 0, buffer.length(), StandardCharsets.US_ASCII);
+            buffer.put((byte) ' ')
+                  .putDigits(time.getHour(), 2).put((byte) ':')
+                  .putDigits(time.getMinute(), 2).put((byte) ':')
+                  .putDigits(time.getSecond(), 2).put((byte) '.');
+            byte[] prefix = new byte[buffer.length()];
+            System.arraycopy(buffer.array(), 0, prefix, 0, prefix.length);
+            return new CachedSecond(epochSecond, prefix, date);
+        }
+    }
+
+    /**
+     * 주기적으로 현재 시각을 갱신하는 저해상도 시계
+     */
+    private static final class CoarseTicker extends Thread implements LongSupplier {
+        private final long tickMillis;
+        private volatile long now = System.currentTimeMillis();
+        private volatile boolean running = true;
+
+        CoarseTicker(long tickMillis) {
+            super("LogClock-Ticker");
+            this.tickMillis = tickMillis;
+            setDaemon(true);
+        }
+
+        @Override
+        public long getAsLong() {
+            return now;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                now = System.currentTimeMillis();
+                try {
+                    Thread.sleep(tickMillis);
+                } catch (InterruptedException e) {
+                    // 정지 요청 확인 후 종료
+                }
+            }
+        }
+    }
+}
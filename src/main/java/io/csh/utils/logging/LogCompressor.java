@@ -0,0 +1,194 @@
+package io.csh.utils.logging;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회전으로 닫힌 로그 파일을 백그라운드에서 압축하는 클래스
+ *
+ * <p>낮은 우선순위의 데몬 스레드에서 고정 크기 버퍼로 파일을 스트리밍하며 압축하므로
+ * 파일 전체를 메모리에 올리지 않습니다. 동시에 압축하는 파일 수는
+ * {@code csh.logging.file.compression.threads}로, 초당 읽는 바이트 수는
+ * {@code csh.logging.file.compression.max-bytes-per-sec}로 제한해
+ * 기록 스레드나 애플리케이션과 CPU를 다투지 않도록 합니다.</p>
+ *
+ * <p>압축은 {@code 파일명.gz.tmp}에 쓴 뒤 이름을 바꾸고 원본을 지우므로,
+ * 중간에 종료되어도 원본은 남고 불완전한 {@code .gz} 파일은 생기지 않습니다. 강제 종료로 남은
+ * {@code .gz.tmp}는 다음 시작 때 {@link #recover}가 지웁니다.</p>
+ *
+ * <p>지연 압축 예약은 메모리에만 있으므로 그 전에 프로세스가 끝나면 사라집니다. 시작할 때
+ * 세그먼트 매니페스트에서 아직 압축되지 않은 세그먼트를 찾아 마지막 기록 시각 기준으로 다시 예약합니다.</p>
+ */
+final class LogCompressor {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final CompressionFormat format;
+    private final long delayMillis;
+    private final long bytesPerSecondPerThread;
+    private final ScheduledThreadPoolExecutor executor;
+    private final BiConsumer<File, File> onCompressed;
+    /** 예약되었거나 압축 중인 파일 경로 (같은 파일을 두 번 압축하지 않도록) */
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param config 로그 설정
+     * @param onCompressed 압축을 마친 뒤 (원본, 압축 파일)로 호출되는 콜백
+     */
+    LogCompressor(LogConfig config, BiConsumer<File, File> onCompressed) {
+        this.onCompressed = onCompressed;
+        this.format = config.getCompressionFormat();
+        this.delayMillis = Math.max(0, config.getCompressionDelayMillis());
+        int threads = Math.max(1, config.getCompressionThreads());
+        long maxBytesPerSecond = config.getCompressionMaxBytesPerSecond();
+        this.bytesPerSecondPerThread = maxBytesPerSecond <= 0 ? 0 : Math.max(BUFFER_SIZE, maxBytesPerSecond / threads);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(threads, r -> {
+            Thread t = new Thread(r, "LogCompressor-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * 압축이 설정되어 있는지 확인합니다.
+     *
+     * @return 압축 사용 여부
+     */
+    boolean isEnabled() {
+        return format != CompressionFormat.NONE;
+    }
+
+    /**
+     * 닫힌 로그 파일의 압축을 예약합니다. 설정된 지연 시간이 지난 뒤 압축합니다.
+     *
+     * @param file 닫힌 로그 파일
+     */
+    void submit(File file) {
+        submit(file, LogClock.currentTimeMillis());
+    }
+
+    /**
+     * 닫힌 로그 파일의 압축을 닫힌 시각 기준으로 예약합니다. 이미 지연 시간이 지났으면 바로 압축합니다.
+     *
+     * @param file 닫힌 로그 파일
+     * @param closedMillis 파일에 마지막으로 기록한 시각 (epoch 밀리초)
+     */
+    void submit(File file, long closedMillis) {
+        if (!isEnabled() || executor.isShutdown() || !scheduled.add(file.getPath())) {
+            return;
+        }
+        long delay = Math.max(0, closedMillis + delayMillis - LogClock.currentTimeMillis());
+        executor.schedule(() -> {
+            try {
+                compress(file);
+            } finally {
+                scheduled.remove(file.getPath());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이전 실행에서 남은 압축 임시 파일을 지우고, 압축되지 않은 세그먼트를 다시 예약합니다.
+     * 시작 후 매니페스트를 읽은 뒤 한 번 호출합니다.
+     *
+     * @param dir 로그 디렉토리
+     * @param prefix 로그 파일 접두사
+     * @param pending 압축되지 않은 닫힌 세그먼트와 마지막 기록 시각
+     */
+    void recover(File dir, String prefix, Map<File, Long> pending) {
+        if (!isEnabled()) {
+            return;
+        }
+        String head = prefix + "_";
+        String suffix = format.extension() + TEMP_SUFFIX;
+        File[] temps = dir.listFiles((d, name) -> name.startsWith(head) && name.endsWith(suffix));
+        if (temps != null) {
+            for (File temp : temps) {
+                String sourcePath = temp.getPath().substring(0, temp.getPath().length() - suffix.length());
+                // 이번 실행에서 압축 중인 파일의 임시 파일은 건드리지 않음
+                if (!scheduled.contains(sourcePath) && !temp.delete()) {
+                    System.err.println("Failed to delete partial compressed log file: " + temp.getName());
+                }
+            }
+        }
+        pending.forEach(this::submit);
+    }
+
+    /**
+     * 압축 스레드를 종료합니다. 진행 중인 압축은 중단되고 임시 파일은 삭제됩니다.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void compress(File source) {
+        if (!source.isFile()) {
+            return;
+        }
+        File target = new File(source.getPath() + format.extension());
+        File temp = new File(target.getPath() + TEMP_SUFFIX);
+        try {
+            try (InputStream in = new FileInputStream(source);
+                 OutputStream out = new GZIPOutputStream(new FileOutputStream(temp), BUFFER_SIZE)) {
+                copyThrottled(in, out);
+            }
+            if (!temp.renameTo(target)) {
+                throw new IOException("Cannot rename " + temp.getName() + " to " + target.getName());
+            }
+            if (!source.delete()) {
+                System.err.println("Failed to delete compressed log file: " + source.getName());
+            }
+            onCompressed.accept(source, target);
+        } catch (InterruptedException e) {
+            temp.delete();
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            temp.delete();
+            System.err.println("Failed to compress log file " + source.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 고정 버퍼로 복사하면서 초당 처리량을 제한합니다.
+     */
+    private void copyThrottled(InputStream in, OutputStream out) throws IOException, InterruptedException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long windowStart = System.nanoTime();
+        long windowBytes = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            out.write(buffer, 0, read);
+            if (bytesPerSecondPerThread <= 0) {
+                continue;
+            }
+            windowBytes += read;
+            long expectedNanos = windowBytes * 1_000_000_000L / bytesPerSecondPerThread;
+            long elapsedNanos = System.nanoTime() - windowStart;
+            if (expectedNanos > elapsedNanos) {
+                TimeUnit.NANOSECONDS.sleep(expectedNanos - elapsedNanos);
+            }
+            if (elapsedNanos >= 1_000_000_000L) {
+                windowStart = System.nanoTime();
+                windowBytes = 0;
+            }
+        }
+    }
+}
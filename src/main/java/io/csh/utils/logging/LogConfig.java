@@ -1,18 +1,77 @@
 package io.csh.utils.logging;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
 
 /**
  * 로그 설정을 관리하는 클래스
  */
 public final class LogConfig {
     private static volatile LogConfig instance;
+    private static final String APPLICATION_PROPERTIES = "application.properties";
+    private static final String PROPERTY_PREFIX = "csh.logging.";
+    private static final String LEVEL_KEY = "csh.logging.level";
     
     private String logDir = "logs";
+    private LogLevel logLevel = LogLevel.INFO;
+    private Map<String, LogLevel> loggerLevels = Collections.emptyMap();
     private boolean logRotationEnabled = true;
+    private RotationUnit rotationUnit = RotationUnit.DAY;
+    private int rotationValue = 1;
+    private ZoneId rotationZone = ZoneId.systemDefault();
     private int logKeepDays = 30;
     private String logPrefix = "csh";
     private boolean consoleOutput = true;
+    private boolean consoleAsync = true;
+    private int consoleQueueSize = 8192;
+    private OverflowPolicy consoleOverflowPolicy = OverflowPolicy.DROP;
+    private LogLevel consoleDropThreshold = LogLevel.WARN;
+    private boolean asyncEnabled = false;
+    private int asyncQueueSize = 8192;
+    private int asyncBatchSize = 256;
+    private WaitStrategy asyncWaitStrategy = WaitStrategy.PARK;
+    private OverflowPolicy asyncOverflowPolicy = OverflowPolicy.BLOCK;
+    private LogLevel asyncDropThreshold = LogLevel.WARN;
+    private boolean asyncDeferred = false;
+    private boolean coarseClock = false;
+    private int clockTickMillis = 1;
+    private FlushPolicy fileFlushPolicy = FlushPolicy.STRICT;
+    private LogLevel fileFlushLevel = LogLevel.WARN;
+    private int fileFlushRecords = 1000;
+    private long fileFlushIntervalMillis = 1000;
+    private int fileBufferSize = 64 * 1024;
+    private boolean fileBufferDirect = false;
+    private Durability fileDurability = Durability.NONE;
+    private long maxFileSize = 0;
+    private int dedupCapacity = 4096;
+    private int stackTraceMaxDepth = 0;
+    private String stackTraceExclude;
+    private int stackTraceCacheSize = 256;
+    private boolean stackTraceReferences = false;
+    private String rateLimitRules;
+    private long rateLimitReportIntervalMillis = 10_000;
+    private String samplingRules;
+    private long maxTotalSize = 0;
+    private CompressionFormat compressionFormat = CompressionFormat.NONE;
+    private long compressionDelayMillis = 0;
+    private int compressionThreads = 1;
+    private long compressionMaxBytesPerSecond = 8L * 1024 * 1024;
+    private boolean fileMmapEnabled = false;
+    private long fileMmapRegionSize = 16L * 1024 * 1024;
+    private LogFormat fileFormat = LogFormat.TEXT;
+    private LogFormat consoleFormat = LogFormat.TEXT;
+    
+    private Properties applicationProperties = new Properties();
     
     private LogConfig() {}
     
@@ -24,8 +83,9 @@ public final class LogConfig {
         if (instance == null) {
             synchronized (LogConfig.class) {
                 if (instance == null) {
-                    instance = new LogConfig();
-                    instance.initializeFromSystemProperties();
+                    LogConfig config = new LogConfig();
+                    config.initializeFromSystemProperties();
+                    instance = config;
                 }
             }
         }
@@ -33,20 +93,36 @@ public final class LogConfig {
     }
     
     /**
-     * 시스템 프로퍼티에서 설정을 초기화합니다.
+     * 시스템 프로퍼티와 application.properties에서 설정을 초기화합니다.
+     * 같은 키가 둘 다 있으면 시스템 프로퍼티가 우선합니다.
      */
     private void initializeFromSystemProperties() {
-        String logDirProp = System.getProperty("csh.logging.dir");
+        this.applicationProperties = loadApplicationProperties();
+        
+        initializeLogLevels();
+        
+        String logDirProp = property("csh.logging.dir");
         if (logDirProp != null) {
             this.logDir = logDirProp;
         }
         
-        String rotationProp = System.getProperty("csh.logging.rotation.enabled");
+        String rotationProp = property("csh.logging.rotation.enabled");
         if (rotationProp != null) {
             this.logRotationEnabled = Boolean.parseBoolean(rotationProp);
         }
+        this.rotationUnit = parseEnum("csh.logging.rotation.unit", rotationUnit, RotationUnit::fromString);
+        this.rotationValue = Math.max(1, parseInt("csh.logging.rotation.value", rotationValue));
+        String zoneProp = property("csh.logging.rotation.zone");
+        if (zoneProp != null) {
+            try {
+                this.rotationZone = ZoneId.of(zoneProp.trim());
+            } catch (DateTimeException e) {
+                System.err.println("Invalid time zone for csh.logging.rotation.zone: " + zoneProp
+                    + ", using " + rotationZone + " as default");
+            }
+        }
         
-        String keepDaysProp = System.getProperty("csh.logging.keep.days");
+        String keepDaysProp = property("csh.logging.keep.days");
         if (keepDaysProp != null) {
             try {
                 this.logKeepDays = Integer.parseInt(keepDaysProp);
@@ -55,15 +131,297 @@ public final class LogConfig {
             }
         }
         
-        String prefixProp = System.getProperty("csh.logging.prefix");
+        String prefixProp = property("csh.logging.prefix");
         if (prefixProp != null) {
             this.logPrefix = prefixProp;
         }
         
-        String consoleProp = System.getProperty("csh.logging.console");
+        String consoleProp = property("csh.logging.console");
         if (consoleProp != null) {
             this.consoleOutput = Boolean.parseBoolean(consoleProp);
         }
+        
+        String consoleAsyncProp = property("csh.logging.console.async");
+        if (consoleAsyncProp != null) {
+            this.consoleAsync = Boolean.parseBoolean(consoleAsyncProp);
+        }
+        this.consoleQueueSize = parseInt("csh.logging.console.queue-size", consoleQueueSize);
+        this.consoleOverflowPolicy = parseEnum("csh.logging.console.overflow-policy", consoleOverflowPolicy,
+            OverflowPolicy::fromString);
+        this.consoleDropThreshold = parseEnum("csh.logging.console.drop-threshold", consoleDropThreshold,
+            LogLevel::fromString);
+        
+        String asyncProp = property("csh.logging.async.enabled");
+        if (asyncProp != null) {
+            this.asyncEnabled = Boolean.parseBoolean(asyncProp);
+        }
+        
+        this.asyncQueueSize = parseInt("csh.logging.async.queue-size", asyncQueueSize);
+        this.asyncBatchSize = parseInt("csh.logging.async.batch-size", asyncBatchSize);
+        
+        String waitProp = property("csh.logging.async.wait-strategy");
+        if (waitProp != null) {
+            try {
+                this.asyncWaitStrategy = WaitStrategy.fromString(waitProp);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage() + ", using " + asyncWaitStrategy + " as default");
+            }
+        }
+        
+        String overflowProp = property("csh.logging.async.overflow-policy");
+        if (overflowProp != null) {
+            try {
+                this.asyncOverflowPolicy = OverflowPolicy.fromString(overflowProp);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage() + ", using " + asyncOverflowPolicy + " as default");
+            }
+        }
+        
+        String thresholdProp = property("csh.logging.async.drop-threshold");
+        if (thresholdProp != null) {
+            try {
+                this.asyncDropThreshold = LogLevel.fromString(thresholdProp);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage() + ", using " + asyncDropThreshold + " as default");
+            }
+        }
+        
+        String deferredProp = property("csh.logging.async.deferred");
+        if (deferredProp != null) {
+            this.asyncDeferred = Boolean.parseBoolean(deferredProp);
+        }
+        
+        String coarseClockProp = property("csh.logging.clock.coarse");
+        if (coarseClockProp != null) {
+            this.coarseClock = Boolean.parseBoolean(coarseClockProp);
+        }
+        this.clockTickMillis = parseInt("csh.logging.clock.tick-ms", clockTickMillis);
+        this.dedupCapacity = parseInt("csh.logging.dedup.capacity", dedupCapacity);
+        this.stackTraceMaxDepth = parseInt("csh.logging.stacktrace.max-depth", stackTraceMaxDepth);
+        this.stackTraceExclude = property("csh.logging.stacktrace.exclude");
+        this.stackTraceCacheSize = parseInt("csh.logging.stacktrace.cache-size", stackTraceCacheSize);
+        String referencesProp = property("csh.logging.stacktrace.references");
+        if (referencesProp != null) {
+            this.stackTraceReferences = Boolean.parseBoolean(referencesProp);
+        }
+        this.rateLimitRules = property("csh.logging.ratelimit.rules");
+        this.rateLimitReportIntervalMillis = parseInt("csh.logging.ratelimit.report-interval-ms",
+            (int) rateLimitReportIntervalMillis);
+        this.samplingRules = property("csh.logging.sampling.rules");
+        
+        this.fileFlushPolicy = parseEnum("csh.logging.file.flush-policy", fileFlushPolicy, FlushPolicy::fromString);
+        this.fileFlushLevel = parseEnum("csh.logging.file.flush-level", fileFlushLevel, LogLevel::fromString);
+        this.fileFlushRecords = parseInt("csh.logging.file.flush-records", fileFlushRecords);
+        this.fileFlushIntervalMillis = parseInt("csh.logging.file.flush-interval-ms", (int) fileFlushIntervalMillis);
+        this.fileBufferSize = (int) Math.min(Integer.MAX_VALUE,
+            parseSize("csh.logging.file.buffer-size", fileBufferSize));
+        String directProp = property("csh.logging.file.buffer-direct");
+        if (directProp != null) {
+            this.fileBufferDirect = Boolean.parseBoolean(directProp);
+        }
+        this.fileDurability = parseEnum("csh.logging.file.durability", fileDurability, Durability::fromString);
+        this.maxFileSize = parseSize("csh.logging.file.max-size", maxFileSize);
+        this.maxTotalSize = parseSize("csh.logging.file.max-total-size", maxTotalSize);
+        this.compressionFormat = parseEnum("csh.logging.file.compression.format", compressionFormat,
+            CompressionFormat::fromString);
+        this.compressionDelayMillis = parseDelay("csh.logging.file.compression.unit",
+            "csh.logging.file.compression.value", compressionDelayMillis);
+        this.compressionThreads = Math.max(1, parseInt("csh.logging.file.compression.threads", compressionThreads));
+        this.compressionMaxBytesPerSecond = parseSize("csh.logging.file.compression.max-bytes-per-sec",
+            compressionMaxBytesPerSecond);
+        String mmapProp = property("csh.logging.file.mmap.enabled");
+        if (mmapProp != null) {
+            this.fileMmapEnabled = Boolean.parseBoolean(mmapProp);
+        }
+        this.fileMmapRegionSize = parseSize("csh.logging.file.mmap.region-size", fileMmapRegionSize);
+        this.fileFormat = parseEnum("csh.logging.file.format", fileFormat, LogFormat::fromString);
+        this.consoleFormat = parseEnum("csh.logging.console.format", consoleFormat, LogFormat::fromString);
+        if (consoleFormat == LogFormat.BINARY) {
+            System.err.println("Binary log format is only supported for files, using text for console");
+            this.consoleFormat = LogFormat.TEXT;
+        }
+    }
+    
+    /**
+     * 설정값을 읽습니다. 시스템 프로퍼티, application.properties 순으로 확인합니다.
+     *
+     * @param key 설정 키
+     * @return 설정값, 없으면 null
+     */
+    String property(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = applicationProperties.getProperty(key);
+        }
+        return value;
+    }
+    
+    /**
+     * 전역 로그 레벨과 {@code csh.logging.level.<접두사>} 형식의 로거별 레벨을 읽습니다.
+     * 전역 레벨은 시스템 프로퍼티, 환경 변수 {@code CSH_LOGGING_LEVEL}, application.properties 순으로 찾습니다.
+     */
+    private void initializeLogLevels() {
+        String levelProp = System.getProperty(LEVEL_KEY);
+        if (levelProp == null) {
+            levelProp = System.getenv("CSH_LOGGING_LEVEL");
+        }
+        if (levelProp == null) {
+            levelProp = applicationProperties.getProperty(LEVEL_KEY);
+        }
+        if (levelProp != null) {
+            try {
+                this.logLevel = LogLevel.fromString(levelProp.trim());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid log level: " + levelProp + ", using " + logLevel + " as default");
+            }
+        }
+        
+        Map<String, LogLevel> levels = new LinkedHashMap<>();
+        collectLoggerLevels(applicationProperties, levels);
+        collectLoggerLevels(System.getProperties(), levels);
+        this.loggerLevels = levels;
+    }
+    
+    private static void collectLoggerLevels(Properties source, Map<String, LogLevel> levels) {
+        String head = LEVEL_KEY + ".";
+        for (String key : source.stringPropertyNames()) {
+            if (!key.startsWith(head) || key.length() == head.length()) {
+                continue;
+            }
+            String value = source.getProperty(key);
+            try {
+                levels.put(key.substring(head.length()), LogLevel.fromString(value.trim()));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid log level for " + key + ": " + value);
+            }
+        }
+    }
+    
+    /**
+     * 애플리케이션 클래스패스의 application.properties에서 {@code csh.logging.} 키만 읽습니다.
+     * 없으면 빈 Properties를 반환합니다. 같은 이름의 파일이 여러 개이면 컨텍스트 클래스 로더가 먼저
+     * 찾는 파일 하나만 사용하며(보통 애플리케이션 자신의 파일), 라이브러리 jar에는 이 파일을 넣지 않습니다.
+     */
+    private static Properties loadApplicationProperties() {
+        Properties properties = new Properties();
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = LogConfig.class.getClassLoader();
+        }
+        if (loader == null) {
+            return properties;
+        }
+        try (InputStream in = loader.getResourceAsStream(APPLICATION_PROPERTIES)) {
+            if (in != null) {
+                Properties all = new Properties();
+                all.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+                for (String key : all.stringPropertyNames()) {
+                    // Spring 등 다른 설정 키가 섞여 있어도 로깅 설정에는 영향이 없도록 함
+                    if (key.startsWith(PROPERTY_PREFIX)) {
+                        properties.setProperty(key, all.getProperty(key));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read " + APPLICATION_PROPERTIES + ": " + e.getMessage());
+        }
+        return properties;
+    }
+    
+    /**
+     * 열거형 시스템 프로퍼티를 읽습니다. 값이 잘못된 경우 경고를 출력하고 기본값을 반환합니다.
+     */
+    private <E extends Enum<E>> E parseEnum(String key, E defaultValue, Function<String, E> parser) {
+        String value = property(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + ", using " + defaultValue + " as default");
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * 단위(MINUTE, HOUR, DAY, WEEK 등)와 개수 프로퍼티를 밀리초로 변환합니다.
+     * 단위가 없으면 기본값을 사용하고, 개수가 없으면 1로 간주합니다.
+     */
+    private long parseDelay(String unitKey, String valueKey, long defaultValue) {
+        String unitValue = property(unitKey);
+        if (unitValue == null || unitValue.trim().isEmpty()) {
+            return defaultValue;
+        }
+        String unitName = unitValue.trim().toUpperCase();
+        if (!unitName.endsWith("S")) {
+            unitName = unitName + "S";
+        }
+        try {
+            ChronoUnit unit = ChronoUnit.valueOf(unitName);
+            int amount = Math.max(0, parseInt(valueKey, 1));
+            return unit.getDuration().multipliedBy(amount).toMillis();
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            System.err.println("Invalid unit for " + unitKey + ": " + unitValue + ", using " + defaultValue + " as default");
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * 크기 시스템 프로퍼티를 바이트 단위로 읽습니다.
+     * {@code 512}, {@code 64KB}, {@code 1MB}, {@code 1GB} 형식을 지원합니다.
+     */
+    private long parseSize(String key, long defaultValue) {
+        String value = property(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return parseSize(value);
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid size for " + key + ": " + value + ", using " + defaultValue + " as default");
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * 크기 문자열을 바이트 단위로 변환합니다.
+     *
+     * @param value {@code 512}, {@code 64KB}, {@code 1MB}, {@code 1GB} 형식의 문자열
+     * @return 바이트 수
+     * @throws NumberFormatException 형식이 잘못된 경우
+     */
+    static long parseSize(String value) {
+        String s = value.trim().toUpperCase();
+        long multiplier = 1;
+        if (s.endsWith("KB")) {
+            multiplier = 1024L;
+        } else if (s.endsWith("MB")) {
+            multiplier = 1024L * 1024;
+        } else if (s.endsWith("GB")) {
+            multiplier = 1024L * 1024 * 1024;
+        }
+        if (multiplier != 1) {
+            s = s.substring(0, s.length() - 2).trim();
+        } else if (s.endsWith("B")) {
+            s = s.substring(0, s.length() - 1).trim();
+        }
+        return Long.parseLong(s) * multiplier;
+    }
+    
+    /**
+     * 정수형 시스템 프로퍼티를 읽습니다. 값이 없거나 잘못된 경우 기본값을 반환합니다.
+     */
+    private int parseInt(String key, int defaultValue) {
+        String value = property(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
     
     /**
@@ -76,6 +434,30 @@ public final class LogConfig {
         }
     }
     
+    /**
+     * 전역(루트) 로그 레벨을 반환합니다.
+     * @return 전역 로그 레벨
+     */
+    public LogLevel getLogLevel() {
+        return logLevel;
+    }
+    
+    /**
+     * 전역(루트) 로그 레벨의 초기값을 설정합니다. 실행 중 변경은 {@link LoggerFactory#setLogLevel(LogLevel)}을 사용합니다.
+     * @param logLevel 전역 로그 레벨
+     */
+    public void setLogLevel(LogLevel logLevel) {
+        this.logLevel = logLevel;
+    }
+    
+    /**
+     * 설정 파일과 시스템 프로퍼티에서 읽은 로거 이름 접두사별 레벨을 반환합니다.
+     * @return 접두사별 로그 레벨 (변경 불가)
+     */
+    public Map<String, LogLevel> getLoggerLevels() {
+        return Collections.unmodifiableMap(loggerLevels);
+    }
+    
     /**
      * 로그 디렉토리 경로를 반환합니다.
      * @return 로그 디렉토리 경로
@@ -108,6 +490,54 @@ public final class LogConfig {
         this.logRotationEnabled = logRotationEnabled;
     }
     
+    /**
+     * 시간 기준 회전 단위를 반환합니다.
+     * @return 회전 단위
+     */
+    public RotationUnit getRotationUnit() {
+        return rotationUnit;
+    }
+    
+    /**
+     * 시간 기준 회전 단위를 설정합니다. 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param rotationUnit 회전 단위
+     */
+    public void setRotationUnit(RotationUnit rotationUnit) {
+        this.rotationUnit = rotationUnit;
+    }
+    
+    /**
+     * 회전 단위 개수를 반환합니다. 예: 단위가 MINUTE이고 15이면 15분마다 회전합니다.
+     * @return 회전 단위 개수
+     */
+    public int getRotationValue() {
+        return rotationValue;
+    }
+    
+    /**
+     * 회전 단위 개수를 설정합니다. 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param rotationValue 회전 단위 개수 (1 이상)
+     */
+    public void setRotationValue(int rotationValue) {
+        this.rotationValue = Math.max(1, rotationValue);
+    }
+    
+    /**
+     * 회전 구간을 나눌 시간대를 반환합니다.
+     * @return 시간대
+     */
+    public ZoneId getRotationZone() {
+        return rotationZone;
+    }
+    
+    /**
+     * 회전 구간을 나눌 시간대를 설정합니다. 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param rotationZone 시간대
+     */
+    public void setRotationZone(ZoneId rotationZone) {
+        this.rotationZone = rotationZone;
+    }
+    
     /**
      * 로그 보관 일수를 반환합니다.
      * @return 로그 보관 일수
@@ -155,4 +585,636 @@ public final class LogConfig {
     public void setConsoleOutput(boolean consoleOutput) {
         this.consoleOutput = consoleOutput;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 콘솔 출력을 전용 기록 스레드에서 처리하는지 여부를 반환합니다.
+     * @return 콘솔 비동기 출력 여부
+     */
+    public boolean isConsoleAsync() {
+        return consoleAsync;
+    }
+    
+    /**
+     * 콘솔 출력을 전용 기록 스레드에서 처리할지 설정합니다.
+     * false이면 호출 스레드에서 {@link System#out}/{@link System#err}에 바로 기록합니다.
+     * @param consoleAsync 콘솔 비동기 출력 여부
+     */
+    public void setConsoleAsync(boolean consoleAsync) {
+        this.consoleAsync = consoleAsync;
+    }
+    
+    /**
+     * 콘솔 큐 크기를 반환합니다.
+     * @return 콘솔 큐 크기
+     */
+    public int getConsoleQueueSize() {
+        return consoleQueueSize;
+    }
+    
+    /**
+     * 콘솔 큐 크기를 설정합니다. 2의 거듭제곱으로 올림되며, 콘솔 기록 스레드가 시작되기 전에 설정해야 적용됩니다.
+     * @param consoleQueueSize 콘솔 큐 크기
+     */
+    public void setConsoleQueueSize(int consoleQueueSize) {
+        this.consoleQueueSize = consoleQueueSize;
+    }
+    
+    /**
+     * 콘솔 큐가 가득 찼을 때의 정책을 반환합니다.
+     * @return 오버플로 정책
+     */
+    public OverflowPolicy getConsoleOverflowPolicy() {
+        return consoleOverflowPolicy;
+    }
+    
+    /**
+     * 콘솔 큐가 가득 찼을 때의 정책을 설정합니다 (기본값 {@link OverflowPolicy#DROP}).
+     * 콘솔 기록 스레드가 시작되기 전에 설정해야 적용됩니다.
+     * @param consoleOverflowPolicy 오버플로 정책
+     */
+    public void setConsoleOverflowPolicy(OverflowPolicy consoleOverflowPolicy) {
+        this.consoleOverflowPolicy = consoleOverflowPolicy;
+    }
+    
+    /**
+     * 콘솔 큐에서 {@link OverflowPolicy#DROP_BELOW_LEVEL} 정책이 버리지 않을 최소 레벨을 반환합니다.
+     * @return 기준 레벨
+     */
+    public LogLevel getConsoleDropThreshold() {
+        return consoleDropThreshold;
+    }
+    
+    /**
+     * 콘솔 큐에서 {@link OverflowPolicy#DROP_BELOW_LEVEL} 정책이 버리지 않을 최소 레벨을 설정합니다.
+     * @param consoleDropThreshold 기준 레벨
+     */
+    public void setConsoleDropThreshold(LogLevel consoleDropThreshold) {
+        this.consoleDropThreshold = consoleDropThreshold;
+    }
+    
+    /**
+     * 비동기 로깅 활성화 여부를 반환합니다.
+     * @return 비동기 로깅 활성화 여부
+     */
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+    
+    /**
+     * 비동기 로깅 활성화 여부를 설정합니다.
+     * 첫 로거가 생성되기 전에 설정해야 적용됩니다.
+     * @param asyncEnabled 비동기 로깅 활성화 여부
+     */
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
+    
+    /**
+     * 비동기 큐 크기를 반환합니다.
+     * @return 비동기 큐 크기
+     */
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+    
+    /**
+     * 비동기 큐 크기를 설정합니다. 2의 거듭제곱으로 올림되어 적용됩니다.
+     * @param asyncQueueSize 비동기 큐 크기
+     */
+    public void setAsyncQueueSize(int asyncQueueSize) {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+    
+    /**
+     * 기록 스레드가 한 번에 처리하는 최대 로그 수를 반환합니다.
+     * @return 배치 크기
+     */
+    public int getAsyncBatchSize() {
+        return asyncBatchSize;
+    }
+    
+    /**
+     * 기록 스레드가 한 번에 처리하는 최대 로그 수를 설정합니다.
+     * @param asyncBatchSize 배치 크기
+     */
+    public void setAsyncBatchSize(int asyncBatchSize) {
+        this.asyncBatchSize = asyncBatchSize;
+    }
+    
+    /**
+     * 비동기 기록 스레드의 대기 전략을 반환합니다.
+     * @return 대기 전략
+     */
+    public WaitStrategy getAsyncWaitStrategy() {
+        return asyncWaitStrategy;
+    }
+    
+    /**
+     * 비동기 기록 스레드의 대기 전략을 설정합니다.
+     * @param asyncWaitStrategy 대기 전략
+     */
+    public void setAsyncWaitStrategy(WaitStrategy asyncWaitStrategy) {
+        this.asyncWaitStrategy = asyncWaitStrategy;
+    }
+    
+    /**
+     * 비동기 큐가 가득 찼을 때의 정책을 반환합니다.
+     * @return 오버플로 정책
+     */
+    public OverflowPolicy getAsyncOverflowPolicy() {
+        return asyncOverflowPolicy;
+    }
+    
+    /**
+     * 비동기 큐가 가득 찼을 때의 정책을 설정합니다.
+     * @param asyncOverflowPolicy 오버플로 정책
+     */
+    public void setAsyncOverflowPolicy(OverflowPolicy asyncOverflowPolicy) {
+        this.asyncOverflowPolicy = asyncOverflowPolicy;
+    }
+    
+    /**
+     * {@link OverflowPolicy#DROP_BELOW_LEVEL} 정책에서 버리지 않을 최소 레벨을 반환합니다.
+     * @return 기준 레벨
+     */
+    public LogLevel getAsyncDropThreshold() {
+        return asyncDropThreshold;
+    }
+    
+    /**
+     * {@link OverflowPolicy#DROP_BELOW_LEVEL} 정책에서 버리지 않을 최소 레벨을 설정합니다.
+     * @param asyncDropThreshold 기준 레벨
+     */
+    public void setAsyncDropThreshold(LogLevel asyncDropThreshold) {
+        this.asyncDropThreshold = asyncDropThreshold;
+    }
+    
+    /**
+     * 메시지 포맷팅과 인코딩을 비동기 기록 스레드로 미루는지 여부를 반환합니다.
+     * 비동기 로깅이 활성화된 경우에만 적용됩니다.
+     * @return 지연 렌더링 사용 여부
+     */
+    public boolean isAsyncDeferred() {
+        return asyncDeferred;
+    }
+    
+    /**
+     * 지연 렌더링 사용 여부를 설정합니다. 첫 로거를 만들기 전에 설정해야 적용됩니다.
+     * @param asyncDeferred 지연 렌더링 사용 여부
+     */
+    public void setAsyncDeferred(boolean asyncDeferred) {
+        this.asyncDeferred = asyncDeferred;
+    }
+    
+    /**
+     * 저해상도 시계 사용 여부를 반환합니다.
+     * @return 저해상도 시계 사용 여부
+     */
+    public boolean isCoarseClock() {
+        return coarseClock;
+    }
+    
+    /**
+     * 저해상도 시계 사용 여부를 설정합니다.
+     * 실행 중 변경하려면 {@link LogClock#useCoarseClock(int)}를 사용합니다.
+     * @param coarseClock 저해상도 시계 사용 여부
+     */
+    public void setCoarseClock(boolean coarseClock) {
+        this.coarseClock = coarseClock;
+    }
+    
+    /**
+     * 저해상도 시계의 갱신 주기(밀리초)를 반환합니다.
+     * @return 갱신 주기
+     */
+    public int getClockTickMillis() {
+        return clockTickMillis;
+    }
+    
+    /**
+     * 저해상도 시계의 갱신 주기(밀리초)를 설정합니다.
+     * @param clockTickMillis 갱신 주기
+     */
+    public void setClockTickMillis(int clockTickMillis) {
+        this.clockTickMillis = clockTickMillis;
+    }
+    
+    /**
+     * 로그 파일 flush 정책을 반환합니다.
+     * @return 로그 파일 flush 정책
+     */
+    public FlushPolicy getFileFlushPolicy() {
+        return fileFlushPolicy;
+    }
+    
+    /**
+     * 로그 파일 flush 정책을 설정합니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param fileFlushPolicy 로그 파일 flush 정책
+     */
+    public void setFileFlushPolicy(FlushPolicy fileFlushPolicy) {
+        this.fileFlushPolicy = fileFlushPolicy;
+    }
+    
+    /**
+     * 즉시 flush할 최소 로그 레벨을 반환합니다.
+     * @return 즉시 flush할 최소 로그 레벨 (BUFFERED 정책)
+     */
+    public LogLevel getFileFlushLevel() {
+        return fileFlushLevel;
+    }
+    
+    /**
+     * 즉시 flush할 최소 로그 레벨을 설정합니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param fileFlushLevel 즉시 flush할 최소 로그 레벨 (BUFFERED 정책)
+     */
+    public void setFileFlushLevel(LogLevel fileFlushLevel) {
+        this.fileFlushLevel = fileFlushLevel;
+    }
+    
+    /**
+     * flush 간 최대 로그 수를 반환합니다.
+     * @return flush 간 최대 로그 수 (BUFFERED 정책)
+     */
+    public int getFileFlushRecords() {
+        return fileFlushRecords;
+    }
+    
+    /**
+     * flush 간 최대 로그 수를 설정합니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param fileFlushRecords flush 간 최대 로그 수 (BUFFERED 정책)
+     */
+    public void setFileFlushRecords(int fileFlushRecords) {
+        this.fileFlushRecords = fileFlushRecords;
+    }
+    
+    /**
+     * flush 간 최대 간격(밀리초)을 반환합니다.
+     * @return flush 간 최대 간격(밀리초) (BUFFERED 정책)
+     */
+    public long getFileFlushIntervalMillis() {
+        return fileFlushIntervalMillis;
+    }
+    
+    /**
+     * flush 간 최대 간격(밀리초)을 설정합니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param fileFlushIntervalMillis flush 간 최대 간격(밀리초) (BUFFERED 정책)
+     */
+    public void setFileFlushIntervalMillis(long fileFlushIntervalMillis) {
+        this.fileFlushIntervalMillis = fileFlushIntervalMillis;
+    }
+    
+    /**
+     * 파일 기록 버퍼 크기(바이트)를 반환합니다.
+     * @return 파일 기록 버퍼 크기(바이트)
+     */
+    public int getFileBufferSize() {
+        return fileBufferSize;
+    }
+    
+    /**
+     * 파일 기록 버퍼 크기(바이트)를 설정합니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param fileBufferSize 파일 기록 버퍼 크기(바이트)
+     */
+    public void setFileBufferSize(int fileBufferSize) {
+        this.fileBufferSize = fileBufferSize;
+    }
+    
+    /**
+     * 파일 기록 버퍼의 direct 버퍼 사용 여부를 반환합니다.
+     * @return 파일 기록 버퍼의 direct 버퍼 사용 여부
+     */
+    public boolean isFileBufferDirect() {
+        return fileBufferDirect;
+    }
+    
+    /**
+     * 파일 기록 버퍼의 direct 버퍼 사용 여부를 설정합니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param fileBufferDirect 파일 기록 버퍼의 direct 버퍼 사용 여부
+     */
+    public void setFileBufferDirect(boolean fileBufferDirect) {
+        this.fileBufferDirect = fileBufferDirect;
+    }
+    
+    /**
+     * 로그 파일 디스크 동기화 수준을 반환합니다.
+     * @return 로그 파일 디스크 동기화 수준
+     */
+    public Durability getFileDurability() {
+        return fileDurability;
+    }
+    
+    /**
+     * 로그 파일 디스크 동기화 수준을 설정합니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param fileDurability 로그 파일 디스크 동기화 수준
+     */
+    public void setFileDurability(Durability fileDurability) {
+        this.fileDurability = fileDurability;
+    }
+    
+    /**
+     * 메모리 매핑 기록 사용 여부를 반환합니다.
+     * @return 메모리 매핑 기록 사용 여부
+     */
+    public boolean isFileMmapEnabled() {
+        return fileMmapEnabled;
+    }
+    
+    /**
+     * 메모리 매핑 기록 사용 여부를 설정합니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param fileMmapEnabled 메모리 매핑 기록 사용 여부
+     */
+    public void setFileMmapEnabled(boolean fileMmapEnabled) {
+        this.fileMmapEnabled = fileMmapEnabled;
+    }
+    
+    /**
+     * 한 번에 매핑할 영역 크기(바이트)를 반환합니다.
+     * @return 매핑 영역 크기
+     */
+    public long getFileMmapRegionSize() {
+        return fileMmapRegionSize;
+    }
+    
+    /**
+     * 한 번에 매핑할 영역 크기(바이트)를 설정합니다.
+     * @param fileMmapRegionSize 매핑 영역 크기
+     */
+    public void setFileMmapRegionSize(long fileMmapRegionSize) {
+        this.fileMmapRegionSize = fileMmapRegionSize;
+    }
+    
+    /**
+     * 로그 파일 하나의 최대 크기(바이트)를 반환합니다. 0이면 크기 기준 회전을 하지 않습니다.
+     * @return 로그 파일 최대 크기
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+    
+    /**
+     * 로그 파일 하나의 최대 크기(바이트)를 설정합니다. 0이면 크기 기준 회전을 하지 않습니다.
+     * 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param maxFileSize 로그 파일 최대 크기
+     */
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+    
+    /**
+     * 로그 파일 전체 크기 상한(바이트)을 반환합니다. 넘으면 오래된 파일부터 삭제합니다. 0이면 제한하지 않습니다.
+     * @return 전체 크기 상한
+     */
+    public long getMaxTotalSize() {
+        return maxTotalSize;
+    }
+    
+    /**
+     * 로그 파일 전체 크기 상한(바이트)을 설정합니다. 0이면 제한하지 않습니다.
+     * @param maxTotalSize 전체 크기 상한
+     */
+    public void setMaxTotalSize(long maxTotalSize) {
+        this.maxTotalSize = maxTotalSize;
+    }
+    
+    /**
+     * 회전된 로그 파일의 압축 형식을 반환합니다.
+     * @return 압축 형식
+     */
+    public CompressionFormat getCompressionFormat() {
+        return compressionFormat;
+    }
+    
+    /**
+     * 회전된 로그 파일의 압축 형식을 설정합니다. 로그 파일 매니저가 생성되기 전에 설정해야 적용됩니다.
+     * @param compressionFormat 압축 형식
+     */
+    public void setCompressionFormat(CompressionFormat compressionFormat) {
+        this.compressionFormat = compressionFormat;
+    }
+    
+    /**
+     * 파일이 닫힌 뒤 압축하기까지 기다리는 시간(밀리초)을 반환합니다.
+     * {@code csh.logging.file.compression.unit}과 {@code value}로 설정합니다.
+     * @return 압축 지연 시간
+     */
+    public long getCompressionDelayMillis() {
+        return compressionDelayMillis;
+    }
+    
+    /**
+     * 파일이 닫힌 뒤 압축하기까지 기다리는 시간(밀리초)을 설정합니다.
+     * @param compressionDelayMillis 압축 지연 시간
+     */
+    public void setCompressionDelayMillis(long compressionDelayMillis) {
+        this.compressionDelayMillis = compressionDelayMillis;
+    }
+    
+    /**
+     * 동시에 압축할 수 있는 최대 파일 수를 반환합니다.
+     * @return 압축 스레드 수
+     */
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+    
+    /**
+     * 동시에 압축할 수 있는 최대 파일 수를 설정합니다.
+     * @param compressionThreads 압축 스레드 수
+     */
+    public void setCompressionThreads(int compressionThreads) {
+        this.compressionThreads = Math.max(1, compressionThreads);
+    }
+    
+    /**
+     * 압축 시 초당 읽을 수 있는 최대 바이트 수를 반환합니다. 0이면 제한하지 않습니다.
+     * @return 초당 최대 바이트 수
+     */
+    public long getCompressionMaxBytesPerSecond() {
+        return compressionMaxBytesPerSecond;
+    }
+    
+    /**
+     * 압축 시 초당 읽을 수 있는 최대 바이트 수를 설정합니다. 0이면 제한하지 않습니다.
+     * @param compressionMaxBytesPerSecond 초당 최대 바이트 수
+     */
+    public void setCompressionMaxBytesPerSecond(long compressionMaxBytesPerSecond) {
+        this.compressionMaxBytesPerSecond = compressionMaxBytesPerSecond;
+    }
+    
+    /**
+     * 중복 로그 필터가 기억하는 최대 ID 수를 반환합니다. 2의 거듭제곱으로 올림됩니다.
+     * @return 중복 로그 필터 용량
+     */
+    public int getDedupCapacity() {
+        return dedupCapacity;
+    }
+    
+    /**
+     * 중복 로그 필터가 기억하는 최대 ID 수를 설정합니다. 필터가 처음 사용되기 전에 설정해야 적용됩니다.
+     * @param dedupCapacity 중복 로그 필터 용량
+     */
+    public void setDedupCapacity(int dedupCapacity) {
+        this.dedupCapacity = dedupCapacity;
+    }
+    
+    /**
+     * 예외 하나당 출력할 최대 스택 프레임 수를 반환합니다.
+     * @return 최대 프레임 수 (0이면 제한 없음)
+     */
+    public int getStackTraceMaxDepth() {
+        return stackTraceMaxDepth;
+    }
+    
+    /**
+     * 예외 하나당 출력할 최대 스택 프레임 수를 설정합니다. 첫 예외가 기록되기 전에 설정해야 적용됩니다.
+     * @param stackTraceMaxDepth 최대 프레임 수 (0이면 제한 없음)
+     */
+    public void setStackTraceMaxDepth(int stackTraceMaxDepth) {
+        this.stackTraceMaxDepth = stackTraceMaxDepth;
+    }
+    
+    /**
+     * 스택 트레이스에서 제외할 클래스 이름 접두사 목록(쉼표 구분)을 반환합니다.
+     * @return 제외 접두사 목록 (없으면 null)
+     */
+    public String getStackTraceExclude() {
+        return stackTraceExclude;
+    }
+    
+    /**
+     * 스택 트레이스에서 제외할 클래스 이름 접두사 목록을 설정합니다 (예: {@code java.lang.reflect.,jdk.internal.}).
+     * 첫 예외가 기록되기 전에 설정해야 적용됩니다.
+     * @param stackTraceExclude 쉼표로 구분한 접두사 목록
+     */
+    public void setStackTraceExclude(String stackTraceExclude) {
+        this.stackTraceExclude = stackTraceExclude;
+    }
+    
+    /**
+     * 스택 트레이스 캐시 크기를 반환합니다.
+     * @return 캐시 크기 (0이면 캐시 사용 안 함)
+     */
+    public int getStackTraceCacheSize() {
+        return stackTraceCacheSize;
+    }
+    
+    /**
+     * 스택 트레이스 캐시 크기를 설정합니다. 2의 거듭제곱으로 올림되며, 첫 예외가 기록되기 전에 설정해야 적용됩니다.
+     * @param stackTraceCacheSize 캐시 크기 (0이면 캐시와 참조를 사용하지 않음)
+     */
+    public void setStackTraceCacheSize(int stackTraceCacheSize) {
+        this.stackTraceCacheSize = stackTraceCacheSize;
+    }
+    
+    /**
+     * 같은 세그먼트에서 반복된 스택 트레이스를 참조로 줄여 기록하는지 여부를 반환합니다.
+     * @return 참조 사용 여부
+     */
+    public boolean isStackTraceReferences() {
+        return stackTraceReferences;
+    }
+    
+    /**
+     * 같은 세그먼트에서 반복된 스택 트레이스를 "same as trace #지문" 참조로 줄여 기록할지 설정합니다.
+     * 첫 예외가 기록되기 전에 설정해야 적용됩니다.
+     * @param stackTraceReferences 참조 사용 여부
+     */
+    public void setStackTraceReferences(boolean stackTraceReferences) {
+        this.stackTraceReferences = stackTraceReferences;
+    }
+    
+    /**
+     * 출력 제한 규칙 문자열을 반환합니다. 형식은 {@link RateLimits}를 참고하세요.
+     * @return 출력 제한 규칙 (없으면 null)
+     */
+    public String getRateLimitRules() {
+        return rateLimitRules;
+    }
+    
+    /**
+     * 출력 제한 규칙 문자열을 설정합니다. {@link RateLimits}가 처음 사용되기 전에 설정해야 적용되며,
+     * 이후에는 {@link RateLimits#limit(String, LogLevel, double, int)}를 사용합니다.
+     * @param rateLimitRules 출력 제한 규칙
+     */
+    public void setRateLimitRules(String rateLimitRules) {
+        this.rateLimitRules = rateLimitRules;
+    }
+    
+    /**
+     * 버려진 로그 수를 요약해 기록하는 주기(밀리초)를 반환합니다.
+     * @return 요약 주기
+     */
+    public long getRateLimitReportIntervalMillis() {
+        return rateLimitReportIntervalMillis;
+    }
+    
+    /**
+     * 버려진 로그 수를 요약해 기록하는 주기(밀리초)를 설정합니다.
+     * @param rateLimitReportIntervalMillis 요약 주기
+     */
+    public void setRateLimitReportIntervalMillis(long rateLimitReportIntervalMillis) {
+        this.rateLimitReportIntervalMillis = rateLimitReportIntervalMillis;
+    }
+    
+    /**
+     * 샘플링 규칙 문자열을 반환합니다. 형식은 {@link Sampling}을 참고하세요.
+     * @return 샘플링 규칙 (없으면 null)
+     */
+    public String getSamplingRules() {
+        return samplingRules;
+    }
+    
+    /**
+     * 샘플링 규칙 문자열을 설정합니다. {@link Sampling}이 처음 사용되기 전에 설정해야 적용되며,
+     * 이후에는 {@link Sampling#sample(String, LogLevel, Sampler)}를 사용합니다.
+     * @param samplingRules 샘플링 규칙
+     */
+    public void setSamplingRules(String samplingRules) {
+        this.samplingRules = samplingRules;
+    }
+    
+    /**
+     * 로그 파일 출력 형식을 반환합니다.
+     * @return 파일 출력 형식
+     */
+    public LogFormat getFileFormat() {
+        return fileFormat;
+    }
+    
+    /**
+     * 로그 파일 출력 형식을 설정합니다. {@link LogFormat#BINARY} 사용 여부는 파일 관리자가
+     * 시작할 때 정해지므로, 실행 중에는 텍스트와 JSON 사이의 전환만 반영됩니다.
+     * @param fileFormat 파일 출력 형식
+     */
+    public void setFileFormat(LogFormat fileFormat) {
+        this.fileFormat = fileFormat;
+    }
+    
+    /**
+     * 콘솔 출력 형식을 반환합니다.
+     * @return 콘솔 출력 형식
+     */
+    public LogFormat getConsoleFormat() {
+        return consoleFormat;
+    }
+    
+    /**
+     * 콘솔 출력 형식을 설정합니다.
+     * @param consoleFormat 콘솔 출력 형식 ({@link LogFormat#BINARY}는 사용할 수 없음)
+     * @throws IllegalArgumentException 바이너리 형식인 경우
+     */
+    public void setConsoleFormat(LogFormat consoleFormat) {
+        if (consoleFormat == LogFormat.BINARY) {
+            throw new IllegalArgumentException("Binary log format is only supported for files");
+        }
+        this.consoleFormat = consoleFormat;
+    }
+}
@@ -0,0 +1,252 @@
+package io.csh.utils.logging;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * 로그 줄마다 붙는 진단 컨텍스트 (MDC)
+ *
+ * <p>요청 ID, 테넌트 ID처럼 한 작업 동안 모든 로그에 함께 기록할 값을 담습니다.
+ * 컨텍스트는 바꿀 수 없는 작은 맵이고, 값을 추가하면 새 스냅샷이 만들어집니다. 스레드에는
+ * 스냅샷 참조 하나만 보관하므로 복사 비용이 없고, 다른 스레드나 실행기로 그대로 넘길 수 있습니다.
+ * 로거는 줄마다 현재 스냅샷의 배열을 그대로 읽어 기록하며 맵을 복사하지 않습니다.</p>
+ *
+ * <pre>
+ * try (LogContext.Scope scope = LogContext.put("requestId", requestId)) {
+ *     logger.info("handling");                       // ... - handling requestId=r-1
+ *     executor.execute(LogContext.wrap(this::audit)); // 다른 스레드에서도 requestId 유지
+ * }
+ * </pre>
+ *
+ * <p>스코프를 닫으면 이전 스냅샷으로 돌아가고, 바깥 스코프까지 닫혀 비게 되면 스레드에서 참조를 지웁니다.
+ * 따라서 가상 스레드처럼 스레드 수가 매우 많아도 컨텍스트를 쓰지 않는 스레드에는 아무것도 남지 않습니다.</p>
+ */
+public final class LogContext {
+    /** 빈 컨텍스트 */
+    public static final LogContext EMPTY = new LogContext(new String[0], new String[0]);
+
+    private static final ThreadLocal<LogContext> CURRENT = new ThreadLocal<>();
+
+    private final String[] keys;
+    private final String[] values;
+
+    private LogContext(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * 현재 스레드의 컨텍스트를 반환합니다.
+     *
+     * @return 현재 컨텍스트 (없으면 {@link #EMPTY})
+     */
+    public static LogContext current() {
+        LogContext context = CURRENT.get();
+        return context != null ? context : EMPTY;
+    }
+
+    /**
+     * 현재 컨텍스트에 값을 추가한 스냅샷을 적용합니다. 반환된 스코프를 닫으면 이전 상태로 돌아갑니다.
+     *
+     * @param key 키
+     * @param value 값 (null이면 키를 제거)
+     * @return 이전 상태로 되돌리는 스코프
+     */
+    public static Scope put(String key, String value) {
+        LogContext current = current();
+        return use(value == null ? current.without(key) : current.with(key, value));
+    }
+
+    /**
+     * 지정한 스냅샷을 현재 스레드에 적용합니다. 다른 스레드에서 캡처한 컨텍스트를 이어받을 때 사용합니다.
+     *
+     * @param context 적용할 컨텍스트
+     * @return 이전 상태로 되돌리는 스코프
+     */
+    public static Scope use(LogContext context) {
+        LogContext previous = CURRENT.get();
+        set(context);
+        return new Scope(previous);
+    }
+
+    /**
+     * 현재 컨텍스트를 캡처하여, 실행될 스레드에서 같은 컨텍스트로 작업을 실행하는 Runnable을 반환합니다.
+     *
+     * @param task 작업
+     * @return 컨텍스트를 이어받는 작업
+     */
+    public static Runnable wrap(Runnable task) {
+        LogContext captured = current();
+        return () -> {
+            Scope scope = use(captured);
+            try {
+                task.run();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * 현재 컨텍스트를 캡처하여, 실행될 스레드에서 같은 컨텍스트로 작업을 실행하는 Callable을 반환합니다.
+     *
+     * @param task 작업
+     * @param <T> 결과 타입
+     * @return 컨텍스트를 이어받는 작업
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        LogContext captured = current();
+        return () -> {
+            Scope scope = use(captured);
+            try {
+                return task.call();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * 작업을 제출한 스레드의 컨텍스트를 실행 스레드로 넘겨주는 실행기를 반환합니다.
+     *
+     * @param executor 실제 실행기
+     * @return 컨텍스트를 전달하는 실행기
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    /**
+     * 값을 추가(또는 교체)한 새 스냅샷을 반환합니다. 이 스냅샷은 바뀌지 않습니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 새 컨텍스트
+     */
+    public LogContext with(String key, String value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Context key and value must not be null");
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            if (value.equals(values[index])) {
+                return this;
+            }
+            String[] newValues = values.clone();
+            newValues[index] = value;
+            return new LogContext(keys, newValues);
+        }
+        String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+        String[] newValues = Arrays.copyOf(values, values.length + 1);
+        newKeys[keys.length] = key;
+        newValues[values.length] = value;
+        return new LogContext(newKeys, newValues);
+    }
+
+    /**
+     * 키를 제거한 새 스냅샷을 반환합니다.
+     *
+     * @param key 키
+     * @return 새 컨텍스트 (키가 없으면 이 컨텍스트)
+     */
+    public LogContext without(String key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return this;
+        }
+        if (keys.length == 1) {
+            return EMPTY;
+        }
+        String[] newKeys = new String[keys.length - 1];
+        String[] newValues = new String[values.length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+        System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+        return new LogContext(newKeys, newValues);
+    }
+
+    /**
+     * 키의 값을 반환합니다.
+     *
+     * @param key 키
+     * @return 값, 없으면 null
+     */
+    public String get(String key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 비어 있는지 확인합니다.
+     *
+     * @return 비어 있으면 true
+     */
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    String key(int i) {
+        return keys[i];
+    }
+
+    String value(int i) {
+        return values[i];
+    }
+
+    private int indexOf(String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void set(LogContext context) {
+        if (context == null || context.isEmpty()) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keys[i]).append('=').append(values[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * 컨텍스트 적용 범위. 닫으면 적용 전의 컨텍스트로 돌아갑니다.
+     * 적용한 스레드에서 닫아야 합니다.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final LogContext previous;
+
+        private Scope(LogContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            set(previous);
+        }
+    }
+}
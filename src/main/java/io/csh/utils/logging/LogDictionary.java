@@ -0,0 +1,107 @@
+package io.csh.utils.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 바이너리 로그 형식에서 반복되는 문자열(로거 이름, 스레드 이름, 메시지 패턴, 키)에 붙이는 번호표
+ *
+ * <p>번호는 프로세스 안에서 한 번만 정해지며 1부터 시작합니다. 0은 "등록되지 않음"을 뜻하고,
+ * 이 경우 인코더는 문자열을 레코드에 직접 기록합니다. 파일에는 번호만 기록되고, 각 세그먼트에서
+ * 처음 쓰이는 번호의 문자열은 {@link BinarySegmentWriter}가 그 세그먼트 안에 정의 레코드로 남기므로
+ * 세그먼트 하나만으로도 디코딩할 수 있습니다.</p>
+ *
+ * <p>동적으로 만든 문자열이 계속 등록되어 메모리가 늘지 않도록 최대 {@value #MAX_SIZE}개까지만 등록합니다.</p>
+ */
+final class LogDictionary {
+    static final int MAX_SIZE = 1 << 16;
+
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+    private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    /** 번호별 UTF-8 바이트 (필요할 때 1024개 단위로 할당) */
+    private static final byte[][][] ENTRIES = new byte[(MAX_SIZE >>> CHUNK_BITS) + 1][][];
+    private static int size;
+
+    private static final ThreadLocal<ThreadName> THREAD_NAMES = ThreadLocal.withInitial(ThreadName::new);
+
+    private LogDictionary() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 문자열의 번호를 반환합니다. 처음 보는 문자열이면 등록합니다.
+     *
+     * @param s 문자열
+     * @return 번호, 등록할 수 없으면(null이거나 사전이 가득 찬 경우) 0
+     */
+    static int id(String s) {
+        if (s == null) {
+            return 0;
+        }
+        Integer id = IDS.get(s);
+        return id != null ? id : register(s);
+    }
+
+    /**
+     * 현재 스레드 이름의 번호를 반환합니다. 이름이 바뀌지 않았으면 조회 없이 이전 번호를 사용합니다.
+     * 가상 스레드는 스레드별 캐시를 두지 않고 바로 조회합니다.
+     *
+     * @return 번호, 등록할 수 없으면 0
+     */
+    static int currentThreadId() {
+        if (VirtualThreads.isCurrent()) {
+            return id(Thread.currentThread().getName());
+        }
+        ThreadName cached = THREAD_NAMES.get();
+        String name = Thread.currentThread().getName();
+        if (name != cached.name) {
+            cached.id = id(name);
+            cached.name = name;
+        }
+        return cached.id;
+    }
+
+    /**
+     * 번호에 해당하는 문자열의 UTF-8 바이트를 반환합니다.
+     *
+     * @param id 번호 ({@link #id}가 반환한 값)
+     * @return UTF-8 바이트, 없으면 null
+     */
+    static byte[] bytes(int id) {
+        if (id <= 0 || id > MAX_SIZE) {
+            return null;
+        }
+        byte[][] chunk = ENTRIES[id >>> CHUNK_BITS];
+        return chunk == null ? null : chunk[id & CHUNK_MASK];
+    }
+
+    private static synchronized int register(String s) {
+        Integer existing = IDS.get(s);
+        if (existing != null) {
+            return existing;
+        }
+        if (size >= MAX_SIZE) {
+            return 0;
+        }
+        int id = ++size;
+        byte[][] chunk = ENTRIES[id >>> CHUNK_BITS];
+        if (chunk == null) {
+            chunk = new byte[1 << CHUNK_BITS][];
+            ENTRIES[id >>> CHUNK_BITS] = chunk;
+        }
+        // 번호를 공개하기 전에 바이트를 먼저 저장 (IDS.put 이후 다른 스레드가 번호를 볼 수 있음)
+        chunk[id & CHUNK_MASK] = s.getBytes(StandardCharsets.UTF_8);
+        IDS.put(s, id);
+        return id;
+    }
+
+    /**
+     * 스레드별로 마지막에 조회한 스레드 이름과 번호
+     */
+    private static final class ThreadName {
+        String name;
+        int id;
+    }
+}
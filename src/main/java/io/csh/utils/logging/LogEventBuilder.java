@@ -0,0 +1,89 @@
+package io.csh.utils.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * 구조화 로그(키-값) 작성기
+ *
+ * <p>{@link Logger#atInfo()} 등으로 얻으며, 키-값을 추가한 뒤 {@link #log(String)}로 기록합니다.
+ * 레벨이 꺼져 있거나 샘플링/출력 제한으로 걸러진 경우 아무 일도 하지 않는 작성기가 반환되므로
+ * 키-값 추가 비용이 들지 않습니다.</p>
+ *
+ * <pre>
+ * logger.atInfo()
+ *       .kv("orderId", orderId)
+ *       .kv("latencyMs", 12L)
+ *       .log("paid");
+ * </pre>
+ *
+ * <p>작성기는 스레드별로 재사용되므로 필드에 보관하거나 다른 스레드에 넘기지 말고,
+ * 한 문장 안에서 {@code log}까지 호출해야 합니다.</p>
+ */
+public interface LogEventBuilder {
+    /**
+     * 문자열 값을 추가합니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 이 작성기
+     */
+    LogEventBuilder kv(String key, String value);
+
+    /**
+     * 정수 값을 추가합니다. {@code int}, {@code short} 등도 이 메서드로 박싱 없이 기록됩니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 이 작성기
+     */
+    LogEventBuilder kv(String key, long value);
+
+    /**
+     * 실수 값을 추가합니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 이 작성기
+     */
+    LogEventBuilder kv(String key, double value);
+
+    /**
+     * 논리 값을 추가합니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 이 작성기
+     */
+    LogEventBuilder kv(String key, boolean value);
+
+    /**
+     * 객체 값을 추가합니다. 기록할 때 {@code toString()}으로 변환됩니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 이 작성기
+     */
+    LogEventBuilder kv(String key, Object value);
+
+    /**
+     * 함께 기록할 예외를 지정합니다.
+     *
+     * @param thrown 예외
+     * @return 이 작성기
+     */
+    LogEventBuilder cause(Throwable thrown);
+
+    /**
+     * 메시지와 함께 기록합니다.
+     *
+     * @param message 로그 메시지
+     */
+    void log(String message);
+
+    /**
+     * 메시지를 만들어 기록합니다. 걸러진 경우 Supplier를 호출하지 않습니다.
+     *
+     * @param messageSupplier 메시지 공급자
+     */
+    void log(Supplier<String> messageSupplier);
+}
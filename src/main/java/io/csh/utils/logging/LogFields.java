@@ -0,0 +1,146 @@
+package io.csh.utils.logging;
+
+import java.util.Arrays;
+
+/**
+ * 구조화 로그의 키-값 목록
+ *
+ * <p>값은 타입별 배열에 나누어 저장하므로 {@code long}, {@code double}, {@code boolean} 값은
+ * 박싱되지 않습니다. {@link StructuredEvent}가 스레드별로 하나씩 재사용하며,
+ * 인코더({@link LogFormatter}, {@link JsonLogEncoder})가 순서대로 읽어 기록합니다.</p>
+ */
+final class LogFields {
+    static final byte LONG = 0;
+    static final byte DOUBLE = 1;
+    static final byte BOOLEAN = 2;
+    static final byte STRING = 3;
+    static final byte OBJECT = 4;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private long[] longs = new long[INITIAL_CAPACITY];
+    private double[] doubles = new double[INITIAL_CAPACITY];
+    private Object[] objects = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    LogFields add(String key, long value) {
+        int i = next(key, LONG);
+        longs[i] = value;
+        return this;
+    }
+
+    LogFields add(String key, double value) {
+        int i = next(key, DOUBLE);
+        doubles[i] = value;
+        return this;
+    }
+
+    LogFields add(String key, boolean value) {
+        int i = next(key, BOOLEAN);
+        longs[i] = value ? 1 : 0;
+        return this;
+    }
+
+    LogFields add(String key, String value) {
+        int i = next(key, STRING);
+        objects[i] = value;
+        return this;
+    }
+
+    LogFields add(String key, Object value) {
+        int i = next(key, OBJECT);
+        objects[i] = value;
+        return this;
+    }
+
+    /**
+     * 목록을 비웁니다. 객체 참조도 지워 GC를 막지 않도록 합니다.
+     */
+    void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 객체 값을 문자열로 한 번만 변환해 둡니다. 콘솔과 파일 형식이 달라 두 번 인코딩할 때
+     * {@code toString()}이 두 번 호출되지 않도록 합니다. 숫자와 논리 객체는 그대로 둡니다.
+     */
+    void freezeObjects() {
+        for (int i = 0; i < size; i++) {
+            Object value = objects[i];
+            if (types[i] == OBJECT && value != null && !(value instanceof Number) && !(value instanceof Boolean)) {
+                objects[i] = value.toString();
+                types[i] = STRING;
+            }
+        }
+    }
+
+    /**
+     * 다른 목록의 내용을 복사합니다. 지연 렌더링용으로, 객체 값은 {@link DeferredRecord#snapshot}
+     * 규칙에 따라 바뀌지 않는 값이 아니면 문자열로 고정합니다.
+     *
+     * @param source 원본 목록
+     */
+    void copyFrom(LogFields source) {
+        clear();
+        for (int i = 0; i < source.size; i++) {
+            byte type = source.types[i];
+            int j = next(source.keys[i], type);
+            longs[j] = source.longs[i];
+            doubles[j] = source.doubles[i];
+            Object value = source.objects[i];
+            if (type == OBJECT) {
+                value = DeferredRecord.snapshot(value);
+                if (value instanceof String) {
+                    types[j] = STRING;
+                }
+            }
+            objects[j] = value;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    String key(int i) {
+        return keys[i];
+    }
+
+    byte type(int i) {
+        return types[i];
+    }
+
+    long longAt(int i) {
+        return longs[i];
+    }
+
+    double doubleAt(int i) {
+        return doubles[i];
+    }
+
+    boolean booleanAt(int i) {
+        return longs[i] != 0;
+    }
+
+    Object objectAt(int i) {
+        return objects[i];
+    }
+
+    private int next(String key, byte type) {
+        if (size == keys.length) {
+            int capacity = size << 1;
+            keys = Arrays.copyOf(keys, capacity);
+            types = Arrays.copyOf(types, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            doubles = Arrays.copyOf(doubles, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+        keys[size] = String.valueOf(key);
+        types[size] = type;
+        return size++;
+    }
+}
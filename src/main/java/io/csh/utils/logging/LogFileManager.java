@@ -1,40 +1,98 @@
 package io.csh.utils.logging;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.io.OutputStreamWriter;
-import java.io.FileOutputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 로그 파일 관리를 담당하는 클래스
+ *
+ * <p>실제 기록은 {@link LogFileWriter}가 담당하고, 이 클래스는 파일 열기/회전과
+ * {@link FlushPolicy}에 따른 flush 시점을 결정합니다.</p>
+ *
+ * <p>회전 구간({@link RotationUnit})이 바뀌거나 {@code csh.logging.file.max-size}를 넘으면
+ * 다음 파일로 회전합니다. 다음 구간의 시작 시각을 미리 계산해 두므로 기록할 때마다
+ * 날짜 문자열을 만들지 않고 시각 하나만 비교합니다.
+ * 크기는 기록한 바이트 수를 직접 세어 판단하고, 다음 번호는 메모리에 있는 값으로 정하므로
+ * 회전할 때 디렉토리를 다시 읽지 않습니다. 새 파일을 연 뒤 기록기만 바꾸고,
+ * 이전 파일의 flush와 닫기는 백그라운드 스레드에서 처리하고, 압축이 설정되어 있으면
+ * 닫힌 파일을 {@link LogCompressor}에 넘깁니다.</p>
+ *
+ * <p>파일 목록은 {@link SegmentManifest}에 보관하고, 보관 정리
+ * ({@code csh.logging.keep.days}, {@code csh.logging.file.max-total-size})는
+ * 매니페스트만 보고 판단하므로 디렉토리를 읽지 않습니다. 매니페스트는 시작 후 백그라운드에서 읽습니다.
+ * 시작할 때의 파일 번호는 {@link SegmentMarker}가 마지막 파일 이름으로 찾으므로
+ * 시작 비용이 디렉토리 크기에 비례하지 않습니다.</p>
+ *
+ * <p>파일 형식이 {@link LogFormat#BINARY}이면 로거가 만든 중간 레코드를 {@link BinarySegmentWriter}가
+ * 세그먼트별 사전과 CRC를 붙인 프레임으로 바꿔 기록합니다.</p>
+ *
+ * <p>파일 I/O를 감싸는 임계 구역은 모니터({@code synchronized}) 대신 {@link ReentrantLock}으로 보호합니다.
+ * 가상 스레드가 모니터 안에서 I/O로 블록되면 캐리어 스레드까지 고정(pinning)되지만, 락에서 기다리거나
+ * 락을 잡고 블록되는 가상 스레드는 캐리어에서 내려오므로 다른 가상 스레드의 실행을 막지 않습니다.</p>
  */
 public final class LogFileManager {
     private static volatile LogFileManager instance;
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
     
-    private PrintWriter fileWriter;
+    private LogFileWriter fileWriter;
     private File currentLogFile;
     private final LogConfig config;
     private final ScheduledExecutorService scheduler;
+    private final LogCompressor compressor;
+    private volatile SegmentManifest manifest;
+    private SegmentMarker marker;
+    private final long maxTotalSize;
     private volatile boolean initialized = false;
     private int currentFileNumber = 1;
+    private String currentBaseName;
+    private final long maxFileSize;
+    private long bytesWritten;
+    private final RotationSchedule rotationSchedule;
+    private long nextRotationMillis = Long.MAX_VALUE;
+    
+    private final FlushPolicy flushPolicy;
+    private final LogLevel flushLevel;
+    private final int flushRecords;
+    private final long flushIntervalMillis;
+    private int recordsSinceFlush;
+    private long lastFlushMillis;
+    private boolean urgentFlush;
+    
+    /** 바이너리 형식일 때 세그먼트별 사전과 프레임을 담당 (텍스트/JSON이면 null) */
+    private final BinarySegmentWriter binaryWriter;
+    
+    private static final LogRingBuffer.SlotConsumer DISCARD = (record, level) -> { };
+    private final LogRingBuffer.SlotConsumer batchWriter = this::append;
+    /** 파일 상태와 기록을 보호하는 락 (가상 스레드 pinning 방지를 위해 모니터 대신 사용) */
+    private final ReentrantLock lock = new ReentrantLock();
     
     private LogFileManager() {
         this.config = LogConfig.getInstance();
+        this.flushPolicy = config.getFileFlushPolicy();
+        this.flushLevel = config.getFileFlushLevel();
+        this.flushRecords = Math.max(1, config.getFileFlushRecords());
+        this.flushIntervalMillis = Math.max(1, config.getFileFlushIntervalMillis());
+        this.maxFileSize = Math.max(0, config.getMaxFileSize());
+        this.rotationSchedule = RotationSchedule.from(config);
+        this.maxTotalSize = Math.max(0, config.getMaxTotalSize());
+        this.compressor = new LogCompressor(config, this::compressed);
+        this.binaryWriter = config.getFileFormat() == LogFormat.BINARY ? new BinarySegmentWriter() : null;
         this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "LogFileManager-Cleanup");
             t.setDaemon(true);
             return t;
         });
         scheduleCleanup();
+        if (flushPolicy == FlushPolicy.BUFFERED) {
+            scheduler.scheduleAtFixedRate(this::flushIfDue,
+                flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
     }
     
     /**
@@ -55,16 +113,20 @@ public final class LogFileManager {
     /**
      * 로그 파일을 초기화합니다.
      */
-    public synchronized void initialize() {
-        if (initialized) {
-            return;
-        }
+    public void initialize() {
+        lock.lock();
         try {
+            if (initialized) {
+                return;
+            }
             openLogFile();
             initialized = true;
+            scheduler.execute(this::loadManifest);
         } catch (IOException e) {
             System.err.println("Failed to initialize log file: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            lock.unlock();
         }
     }
     
@@ -83,68 +145,186 @@ public final class LogFileManager {
             throw new IOException("Cannot write to log directory: " + config.getLogDir());
         }
         
-        String fileName = generateFileName(logDir);
+        if (marker == null) {
+            marker = new SegmentMarker(logDir, config.getLogPrefix());
+        }
         
-        File logFile = new File(logDir, fileName);
-        OutputStreamWriter fw = new OutputStreamWriter(new FileOutputStream(logFile, true), StandardCharsets.UTF_8);
-        fileWriter = new PrintWriter(fw, true);
+        String fileName = generateFileName();
+        switchTo(new File(logDir, fileName), currentFileNumber);
+    }
+    
+    /**
+     * 새 파일을 열고 기록기를 교체합니다. 이전 기록기는 백그라운드에서 닫습니다.
+     * 락을 잡은 상태에서 호출합니다.
+     */
+    private void switchTo(File logFile, int fileNumber) throws IOException {
+        LogFileWriter newWriter = createWriter(logFile);
+        LogFileWriter oldWriter = fileWriter;
+        File oldFile = currentLogFile;
+        fileWriter = newWriter;
         currentLogFile = logFile;
+        currentFileNumber = fileNumber;
+        bytesWritten = newWriter.initialSize();
+        if (binaryWriter != null) {
+            binaryWriter.reset();
+        }
+        StackTraceRenderer.newSegment();
+        recordsSinceFlush = 0;
+        urgentFlush = false;
+        lastFlushMillis = LogClock.currentTimeMillis();
+        SegmentManifest current = manifest;
+        if (current != null) {
+            current.opened(logFile.getName(), bytesWritten, lastFlushMillis);
+        }
+        String name = logFile.getName();
+        runInBackground(() -> marker.write(name));
+        if (oldWriter != null) {
+            runInBackground(() -> closeRotated(oldWriter, oldFile));
+        }
     }
     
     /**
-     * 파일명을 생성합니다.
+     * 매니페스트를 읽고 현재 파일을 반영합니다. 초기화 후 백그라운드에서 한 번 실행됩니다.
+     * 이전 실행이 압축하지 못하고 끝난 세그먼트는 여기서 다시 압축을 예약합니다.
      */
-    private String generateFileName(File logDir) {
-        String today = LocalDate.now().format(DATE_FORMATTER);
-        String baseName = config.getLogPrefix() + "_" + today;
-        
-        // 기존 파일들을 확인하여 넘버 결정
-        int fileNumber = 1;
-        File[] existingFiles = logDir.listFiles((dir, name) -> 
-            name.startsWith(baseName) && name.endsWith(".log"));
-        
-        if (existingFiles != null) {
-            for (File file : existingFiles) {
-                String name = file.getName();
-                // appname_2025-06-18_1.log에서 1 부분 추출
-                int lastUnderscore = name.lastIndexOf('_');
-                int dotIndex = name.lastIndexOf('.');
-                if (lastUnderscore > 0 && dotIndex > lastUnderscore) {
-                    try {
-                        int num = Integer.parseInt(name.substring(lastUnderscore + 1, dotIndex));
-                        fileNumber = Math.max(fileNumber, num + 1);
-                    } catch (NumberFormatException e) {
-                        // 숫자가 아니면 무시
-                    }
-                }
+    private void loadManifest() {
+        File dir = new File(config.getLogDir());
+        SegmentManifest loaded = SegmentManifest.load(dir, config.getLogPrefix());
+        String activeName;
+        lock.lock();
+        try {
+            activeName = currentLogFile == null ? null : currentLogFile.getName();
+            if (activeName != null) {
+                loaded.opened(activeName, bytesWritten, LogClock.currentTimeMillis());
             }
+            manifest = loaded;
+        } finally {
+            lock.unlock();
+        }
+        loaded.save();
+        if (compressor.isEnabled()) {
+            compressor.recover(dir, config.getLogPrefix(), loaded.uncompressed(activeName));
+        }
+    }
+    
+    /**
+     * 백그라운드 스레드에서 실행합니다. 스케줄러가 종료된 경우 바로 실행합니다.
+     */
+    private void runInBackground(Runnable task) {
+        try {
+            scheduler.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+    
+    /**
+     * 회전으로 밀려난 기록기를 닫고 매니페스트 갱신, 압축 예약, 보관 정리를 합니다.
+     */
+    private void closeRotated(LogFileWriter writer, File file) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close log file: " + e.getMessage());
+        }
+        SegmentManifest current = manifest;
+        if (current != null) {
+            current.closed(file.getName(), file.length(), LogClock.currentTimeMillis());
+            current.save();
+        }
+        compressor.submit(file);
+        clearOldLogs();
+    }
+    
+    /**
+     * 압축을 마친 파일을 매니페스트에 반영합니다.
+     */
+    private void compressed(File source, File target) {
+        SegmentManifest current = manifest;
+        if (current != null) {
+            current.replaced(source, target);
+            current.save();
+        }
+    }
+    
+    /**
+     * 설정에 맞는 기록기를 생성합니다.
+     */
+    private LogFileWriter createWriter(File logFile) throws IOException {
+        if (config.isFileMmapEnabled()) {
+            return new MappedLogFileWriter(logFile.toPath(), config.getFileMmapRegionSize(),
+                config.getFileDurability());
         }
+        return new ChannelLogFileWriter(logFile.toPath(), config.getFileBufferSize(),
+            config.isFileBufferDirect(), config.getFileDurability());
+    }
+    
+    /**
+     * 파일명을 생성하고 다음 회전 시각을 계산합니다.
+     */
+    private String generateFileName() {
+        long now = LogClock.currentTimeMillis();
+        String baseName = config.getLogPrefix() + "_" + rotationSchedule.label(now);
+        nextRotationMillis = rotationSchedule.nextBoundary(now);
+        
+        // 시작할 때는 마커로, 새 구간에서는 1부터 빈 번호를 확인하여 넘버 결정
+        int fileNumber = currentBaseName == null
+            ? marker.nextIndex(baseName)
+            : marker.probe(baseName, baseName.equals(currentBaseName) ? currentFileNumber + 1 : 1);
         
         currentFileNumber = fileNumber;
+        currentBaseName = baseName;
         return baseName + "_" + fileNumber + ".log";
     }
     
+    /**
+     * 파일에 실제로 기록하는 형식을 반환합니다. 바이너리 형식 여부는 시작할 때 정해지므로,
+     * 실행 중에 바이너리로 바꾸거나 바이너리에서 다른 형식으로 바꾸는 설정은 반영되지 않습니다.
+     *
+     * @return 파일 출력 형식
+     */
+    LogFormat getFormat() {
+        if (binaryWriter != null) {
+            return LogFormat.BINARY;
+        }
+        LogFormat format = config.getFileFormat();
+        return format == LogFormat.BINARY ? LogFormat.TEXT : format;
+    }
+    
     /**
      * 로그 메시지를 파일에 기록합니다.
      * @param message 기록할 로그 메시지
      */
-    public synchronized void writeToFile(String message) {
+    public void writeToFile(String message) {
         if (!initialized) {
             Logging.raw("LogFileManager.writeToFile() - Not initialized");
             return;
         }
-        if (fileWriter == null) {
-            Logging.raw("LogFileManager.writeToFile() - File writer is null");
+        writeLine(message);
+    }
+    
+    /**
+     * 라이브러리 내부 알림(버려진 로그 요약 등)을 파일 출력 형식({@link LogFormat})에 맞춰 기록합니다.
+     *
+     * @param level 로그 레벨
+     * @param loggerName 로거 이름
+     * @param message 로그 메시지
+     */
+    void writeEvent(LogLevel level, String loggerName, String message) {
+        if (!initialized) {
             return;
         }
+        LogBuffer buffer = LogBuffer.acquire();
         try {
-            checkAndRotateFile();
-            fileWriter.println(message);
-            fileWriter.flush();
-        } catch (Exception e) {
-            System.err.println("Failed to write to log file: " + e.getMessage());
-            e.printStackTrace();
-            closeFile();
+            LogFormat format = getFormat();
+            LogFormatter.encodeTo(buffer, format, LogClock.currentTimeMillis(), level, null, loggerName,
+                LogFormatter.encodeName(loggerName), message, null, null, null, null, true);
+            if (format != LogFormat.BINARY) {
+                buffer.putLineSeparator();
+            }
+            write(buffer, level);
+        } finally {
+            buffer.release();
         }
     }
     
@@ -155,101 +335,242 @@ public final class LogFileManager {
      * 
      * @param message 기록할 메시지
      */
-    public synchronized void writeRaw(String message) {
+    public void writeRaw(String message) {
         if (!initialized) {
             return;
         }
-        if (fileWriter == null) {
-            return;
+        writeLine(message);
+    }
+    
+    /**
+     * 문자열을 인코딩하여 한 줄로 기록합니다. 바이너리 형식에서는 텍스트 레코드로 기록합니다.
+     */
+    private void writeLine(String message) {
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            if (binaryWriter != null) {
+                BinaryLogEncoder.beginRaw(buffer);
+                buffer.putUtf8(message);
+            } else {
+                buffer.putUtf8(message).putLineSeparator();
+            }
+            write(buffer, null);
+        } finally {
+            buffer.release();
         }
+    }
+    
+    /**
+     * 포맷팅된 로그 한 줄(줄 구분자 포함)을 파일에 기록합니다.
+     * flush 여부는 {@link FlushPolicy}에 따릅니다.
+     * 
+     * @param record 기록할 로그
+     * @param level 로그 레벨 (원시 출력인 경우 null)
+     */
+    void write(LogBuffer record, LogLevel level) {
+        lock.lock();
         try {
+            if (!initialized || fileWriter == null) {
+                return;
+            }
             checkAndRotateFile();
-            fileWriter.println(message);
-            fileWriter.flush();
+            append(record, level);
+            if (flushPolicy == FlushPolicy.STRICT || shouldFlush()) {
+                flush();
+            }
         } catch (Exception e) {
-            System.err.println("Failed to write raw message to log file: " + e.getMessage());
+            System.err.println("Failed to write to log file: " + e.getMessage());
+            e.printStackTrace();
             closeFile();
+        } finally {
+            lock.unlock();
         }
     }
     
     /**
-     * 날짜가 바뀌었는지 확인하고 필요시 파일을 교체합니다.
+     * 링 버퍼에 쌓인 로그를 최대 {@code max}개까지 기록합니다.
+     * 비동기 기록 스레드가 배치 단위로 호출하며, STRICT 정책에서는 배치마다 한 번 flush합니다.
+     * 
+     * @param ringBuffer 로그가 쌓인 링 버퍼
+     * @param max 최대 개수
+     * @return 처리한 로그 수
+     */
+    int writeBatch(LogRingBuffer ringBuffer, int max) {
+        lock.lock();
+        try {
+            if (!initialized || fileWriter == null) {
+                // 기록할 수 없어도 생산자가 막히지 않도록 큐는 비움
+                return ringBuffer.drain(DISCARD, max);
+            }
+            checkAndRotateFile();
+            int count = ringBuffer.drain(batchWriter, max);
+            if (count > 0 && (flushPolicy == FlushPolicy.STRICT || shouldFlush())) {
+                flush();
+            }
+            return count;
+        } catch (Exception e) {
+            System.err.println("Failed to write to log file: " + e.getMessage());
+            e.printStackTrace();
+            closeFile();
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 로그 한 건을 기록기에 넘기고 flush 조건을 갱신합니다. 락을 잡은 상태에서 호출합니다.
+     * 바이너리 형식에서는 회전 여부를 먼저 정한 뒤 해당 세그먼트의 프레임으로 바꿔 기록합니다.
+     */
+    private void append(LogBuffer record, LogLevel level) throws IOException {
+        int length = record.length();
+        if (maxFileSize > 0 && bytesWritten > 0 && bytesWritten + length > maxFileSize) {
+            rotateBySize();
+        }
+        if (binaryWriter != null) {
+            record = binaryWriter.encode(record);
+            if (record == null) {
+                return;
+            }
+            length = record.length();
+        }
+        fileWriter.write(record);
+        bytesWritten += length;
+        recordsSinceFlush++;
+        if (level != null && level.isEnabled(flushLevel)) {
+            urgentFlush = true;
+        }
+    }
+    
+    /**
+     * BUFFERED 정책의 flush 조건을 확인합니다.
+     */
+    private boolean shouldFlush() {
+        return urgentFlush
+            || recordsSinceFlush >= flushRecords
+            || LogClock.currentTimeMillis() - lastFlushMillis >= flushIntervalMillis;
+    }
+    
+    private void flush() throws IOException {
+        fileWriter.flush();
+        recordsSinceFlush = 0;
+        urgentFlush = false;
+        lastFlushMillis = LogClock.currentTimeMillis();
+    }
+    
+    /**
+     * 주기적으로 호출되어, 로그가 뜸해도 버퍼에 오래 머물지 않도록 flush합니다.
+     */
+    private void flushIfDue() {
+        lock.lock();
+        try {
+            if (fileWriter == null || recordsSinceFlush == 0) {
+                return;
+            }
+            if (LogClock.currentTimeMillis() - lastFlushMillis >= flushIntervalMillis) {
+                flush();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to flush log file: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 같은 구간의 다음 번호 파일로 교체합니다.
+     */
+    private void rotateBySize() throws IOException {
+        int nextNumber = currentFileNumber + 1;
+        File next = new File(currentLogFile.getParentFile(), currentBaseName + "_" + nextNumber + ".log");
+        switchTo(next, nextNumber);
+    }
+    
+    /**
+     * 회전 시각이 지났는지 확인하고 필요시 파일을 교체합니다.
      */
     private void checkAndRotateFile() {
-        if (!config.isLogRotationEnabled()) {
+        long now = LogClock.currentTimeMillis();
+        if (now < nextRotationMillis) {
             return;
         }
         
-        String today = LocalDate.now().format(DATE_FORMATTER);
-        String currentFileName = currentLogFile.getName();
+        if (!config.isLogRotationEnabled()) {
+            nextRotationMillis = rotationSchedule.nextBoundary(now);
+            return;
+        }
         
-        if (!currentFileName.contains(today)) {
-            try {
-                closeFile();
-                openLogFile();
-            } catch (IOException e) {
-                System.err.println("Failed to rotate log file: " + e.getMessage());
-            }
+        try {
+            openLogFile();
+        } catch (IOException e) {
+            System.err.println("Failed to rotate log file: " + e.getMessage());
+            // 다음 구간까지는 기존 파일에 계속 기록
+            nextRotationMillis = rotationSchedule.nextBoundary(now);
         }
     }
     
     /**
-     * 파일을 닫습니다.
+     * 파일을 닫습니다. 매니페스트 저장은 락 밖에서 하도록 백그라운드에 맡깁니다.
      */
     private void closeFile() {
-        if (fileWriter != null) {
-            fileWriter.close();
-            fileWriter = null;
+        SegmentManifest current = manifest;
+        lock.lock();
+        try {
+            if (fileWriter != null) {
+                try {
+                    fileWriter.close();
+                } catch (IOException e) {
+                    System.err.println("Failed to close log file: " + e.getMessage());
+                }
+                fileWriter = null;
+                if (current != null) {
+                    current.closed(currentLogFile.getName(), currentLogFile.length(), LogClock.currentTimeMillis());
+                }
+            }
+            currentLogFile = null;
+        } finally {
+            lock.unlock();
+        }
+        if (current != null) {
+            runInBackground(current::save);
         }
-        currentLogFile = null;
     }
     
     /**
-     * 오래된 로그 파일을 정리합니다.
+     * 보관 기간({@code csh.logging.keep.days})이 지났거나 전체 크기 상한
+     * ({@code csh.logging.file.max-total-size})을 넘은 로그 파일을 오래된 것부터 정리합니다.
+     * 대상은 매니페스트에서 고르며, 현재 기록 중인 파일은 지우지 않습니다.
      */
     private void clearOldLogs() {
-        if (config.getLogKeepDays() <= 0) {
+        SegmentManifest current = manifest;
+        if (current == null) {
             return;
         }
         
-        File logDir = new File(config.getLogDir());
-        if (!logDir.exists()) {
+        int keepDays = config.getLogKeepDays();
+        long cutoffMillis = keepDays > 0 ? LogClock.currentTimeMillis() - keepDays * DAY_MILLIS : 0;
+        if (cutoffMillis <= 0 && maxTotalSize <= 0) {
             return;
         }
         
-        File[] files = logDir.listFiles();
-        if (files == null) {
+        List<File> expired;
+        lock.lock();
+        try {
+            String activeName = currentLogFile == null ? null : currentLogFile.getName();
+            expired = current.expire(activeName, bytesWritten, maxTotalSize, cutoffMillis);
+        } finally {
+            lock.unlock();
+        }
+        if (expired.isEmpty()) {
             return;
         }
+        current.save();
         
-        String logPrefix = config.getLogPrefix() + "-";
-        LocalDate cutoffDate = LocalDate.now().minusDays(config.getLogKeepDays());
-        
-        for (File file : files) {
-            if (file.isDirectory()) {
-                continue;
-            }
-            
-            String name = file.getName();
-            if (!name.startsWith(logPrefix) || !name.endsWith(".log")) {
-                continue;
-            }
-            
-            // 날짜 부분 추출
-            String datePart = name.substring(logPrefix.length(), name.length() - 4);
-            if (datePart.length() != 8) {
-                continue;
-            }
-            
-            try {
-                LocalDate fileDate = LocalDate.parse(datePart, DATE_FORMATTER);
-                if (fileDate.isBefore(cutoffDate)) {
-                    if (file.delete()) {
-                        System.out.println("Deleted old log file: " + name);
-                    }
-                }
-            } catch (Exception e) {
-                // 날짜 파싱 실패 시 무시
+        for (File file : expired) {
+            if (file.delete()) {
+                System.out.println("Deleted old log file: " + file.getName());
+            } else if (file.exists()) {
+                System.err.println("Failed to delete old log file: " + file.getName());
             }
         }
     }
@@ -265,7 +586,14 @@ public final class LogFileManager {
      * 리소스를 정리합니다.
      */
     public void shutdown() {
+        compressor.shutdown();
         scheduler.shutdown();
+        try {
+            // 회전 후 남은 이전 파일 닫기 작업이 끝나기를 기다림
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         closeFile();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,41 @@
+package io.csh.utils.logging;
+
+import java.io.IOException;
+
+/**
+ * 현재 로그 파일(세그먼트)에 바이트를 기록하는 기록기
+ *
+ * <p>{@link LogFileManager}가 락을 잡은 상태에서만 호출하므로 구현체는 스레드 안전할 필요가 없습니다.
+ * flush 시점은 {@link LogFileManager}가 {@link FlushPolicy}에 따라 결정합니다.</p>
+ */
+interface LogFileWriter {
+
+    /**
+     * 로그 한 건을 기록합니다. 구현체에 따라 내부 버퍼에 머물 수 있습니다.
+     *
+     * @param record 포맷팅된 로그 (줄 구분자 포함)
+     * @throws IOException 기록 실패 시
+     */
+    void write(LogBuffer record) throws IOException;
+
+    /**
+     * 버퍼에 남은 내용을 파일에 씁니다.
+     *
+     * @throws IOException 기록 실패 시
+     */
+    void flush() throws IOException;
+
+    /**
+     * 파일을 열 때의 데이터 크기(바이트)를 반환합니다. 이어서 기록하는 경우 기존 내용의 크기입니다.
+     *
+     * @return 열 때의 데이터 크기
+     */
+    long initialSize();
+
+    /**
+     * 남은 내용을 쓰고 파일을 닫습니다.
+     *
+     * @throws IOException 기록 실패 시
+     */
+    void close() throws IOException;
+}
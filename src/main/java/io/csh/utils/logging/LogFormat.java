@@ -0,0 +1,50 @@
+package io.csh.utils.logging;
+
+/**
+ * 로그 출력 형식
+ *
+ * <p>콘솔과 파일은 각각 하나의 형식을 선택합니다.</p>
+ * <ul>
+ *   <li>{@link #TEXT}: {@code 2024-01-01 12:00:00.000 [main] INFO  com.acme.Foo - message key=value} 형식</li>
+ *   <li>{@link #JSON}: 한 줄에 JSON 객체 하나 (JSON Lines)</li>
+ *   <li>{@link #BINARY}: 사전 압축 바이너리 레코드 (파일 전용, {@link BinaryLogDecoder}로 텍스트 변환)</li>
+ * </ul>
+ */
+public enum LogFormat {
+    /**
+     * 사람이 읽기 위한 텍스트 형식
+     */
+    TEXT,
+
+    /**
+     * 수집 파이프라인을 위한 JSON Lines 형식
+     */
+    JSON,
+
+    /**
+     * 로거 이름, 스레드 이름, 메시지 패턴을 세그먼트별 사전 번호로 기록하는 바이너리 형식 (파일 전용)
+     */
+    BINARY;
+
+    /**
+     * 문자열로부터 LogFormat을 찾습니다.
+     *
+     * @param format 형식 문자열 (text, json, jsonl, json-lines, binary)
+     * @return LogFormat
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     */
+    public static LogFormat fromString(String format) {
+        if (format == null) {
+            return TEXT;
+        }
+        String normalized = format.trim().toUpperCase().replace('-', '_');
+        if ("JSONL".equals(normalized) || "JSON_LINES".equals(normalized)) {
+            return JSON;
+        }
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported log format: " + format);
+        }
+    }
+}
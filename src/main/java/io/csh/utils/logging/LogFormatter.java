@@ -1,44 +1,40 @@
 package io.csh.utils.logging;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.charset.StandardCharsets;
 
 /**
  * 로그 메시지 포맷팅을 담당하는 클래스
+ *
+ * <p>로거는 {@code formatTo} 계열 메서드로 {@link LogBuffer}에 바로 기록합니다.
+ * 레벨 이름은 {@link LogLevel}에, 로거 이름은 {@link LoggerImpl}에 미리 만들어 두므로
+ * 정상 상태에서 줄마다 {@code StringBuilder}나 중간 문자열을 만들지 않습니다.
+ * {@code String}을 반환하는 메서드는 기존 API 호환을 위해 유지됩니다.</p>
  */
 public final class LogFormatter {
-    private static final DateTimeFormatter TIMESTAMP_FORMATTER = 
-        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
-    
+
     private LogFormatter() {}
-    
+
     /**
      * 기본 로그 메시지를 포맷팅합니다.
-     * 
+     *
      * @param level 로그 레벨
      * @param loggerName 로거 이름
      * @param message 로그 메시지
      * @return 포맷팅된 로그 메시지
      */
     public static String format(LogLevel level, String loggerName, String message) {
-        StringBuilder sb = new StringBuilder(256);
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-        String threadName = Thread.currentThread().getName();
-        
-        sb.append(timestamp)
-          .append(" [").append(threadName).append("] ")
-          .append(String.format("%-5s", level.name()))
-          .append(" ").append(loggerName)
-          .append(" - ").append(message);
-        
-        return sb.toString();
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            formatTo(buffer, level, encodeName(loggerName), message, null);
+            return buffer.toString();
+        } finally {
+            buffer.release();
+        }
     }
-    
+
     /**
      * 예외 정보를 포함한 로그 메시지를 포맷팅합니다.
-     * 
+     *
      * @param level 로그 레벨
      * @param loggerName 로거 이름
      * @param message 로그 메시지
@@ -46,19 +42,157 @@ public final class LogFormatter {
      * @return 포맷팅된 로그 메시지
      */
     public static String formatWithException(LogLevel level, String loggerName, String message, Throwable thrown) {
-        StringBuilder sb = new StringBuilder(512);
-        sb.append(format(level, loggerName, message));
-        
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            formatTo(buffer, level, encodeName(loggerName), message, thrown);
+            return buffer.toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 로그 한 줄(줄 구분자 제외)을 버퍼에 기록합니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param level 로그 레벨
+     * @param loggerName UTF-8로 미리 인코딩된 로거 이름
+     * @param message 로그 메시지
+     * @param thrown 예외 (없으면 null)
+     */
+    static void formatTo(LogBuffer buffer, LogLevel level, byte[] loggerName, CharSequence message, Throwable thrown) {
+        formatTo(buffer, LogClock.currentTimeMillis(), level, null, loggerName, message, null, null, null, thrown,
+            false);
+    }
+
+    /**
+     * 키-값과 샘플링 비율을 포함한 로그 한 줄(줄 구분자 제외)을 텍스트 형식으로 버퍼에 기록합니다.
+     * 진단 컨텍스트와 키-값은 메시지 뒤에 {@code key=value} 형식으로 붙고, 공백이나 따옴표가 있는 값은 따옴표로 감쌉니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param millis 기록 시각 (epoch 밀리초)
+     * @param level 로그 레벨
+     * @param threadName 스레드 이름 (null이면 현재 스레드)
+     * @param loggerName UTF-8로 미리 인코딩된 로거 이름
+     * @param message 로그 메시지
+     * @param sampler 적용된 샘플러 (없으면 null)
+     * @param context 진단 컨텍스트 (없으면 null)
+     * @param fields 키-값 목록 (없으면 null)
+     * @param thrown 예외 (없으면 null)
+     * @param toFile 로그 파일에 기록할 줄이면 true ({@link StackTraceRenderer#render(Throwable, boolean)} 참고)
+     */
+    static void formatTo(LogBuffer buffer, long millis, LogLevel level, String threadName, byte[] loggerName,
+                         CharSequence message, Sampler sampler, LogContext context, LogFields fields,
+                         Throwable thrown, boolean toFile) {
+        LogClock.appendTimestamp(buffer, millis);
+        buffer.putAscii(" [").putUtf8(threadName != null ? threadName : Thread.currentThread().getName())
+              .putAscii("] ")
+              .putAscii(level.paddedName())
+              .put((byte) ' ').put(loggerName)
+              .putAscii(" - ").putUtf8(message);
+
+        if (context != null) {
+            for (int i = 0; i < context.size(); i++) {
+                buffer.put((byte) ' ').putUtf8(context.key(i)).put((byte) '=');
+                appendTextString(buffer, context.value(i));
+            }
+        }
+        if (fields != null) {
+            for (int i = 0; i < fields.size(); i++) {
+                buffer.put((byte) ' ').putUtf8(fields.key(i)).put((byte) '=');
+                appendTextValue(buffer, fields, i);
+            }
+        }
+        if (sampler != null) {
+            buffer.put(sampler.tag());
+        }
         if (thrown != null) {
-            sb.append("\n").append(formatStackTrace(thrown));
+            buffer.put((byte) '\n').putUtf8(StackTraceRenderer.render(thrown, toFile));
+        }
+    }
+
+    /**
+     * 출력 형식에 맞는 인코더로 로그 한 줄(줄 구분자 제외)을 버퍼에 기록합니다.
+     * 바이너리 형식은 {@link BinaryLogEncoder}의 중간 레코드를 기록합니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param format 출력 형식
+     * @param millis 기록 시각 (epoch 밀리초)
+     * @param level 로그 레벨
+     * @param threadName 스레드 이름 (null이면 현재 스레드)
+     * @param loggerName 로거 이름
+     * @param encodedName UTF-8로 미리 인코딩된 로거 이름
+     * @param message 로그 메시지
+     * @param sampler 적용된 샘플러 (없으면 null)
+     * @param context 진단 컨텍스트 (없으면 null)
+     * @param fields 키-값 목록 (없으면 null)
+     * @param thrown 예외 (없으면 null)
+     * @param toFile 로그 파일에 기록할 줄이면 true ({@link StackTraceRenderer#render(Throwable, boolean)} 참고)
+     */
+    static void encodeTo(LogBuffer buffer, LogFormat format, long millis, LogLevel level, String threadName,
+                         String loggerName, byte[] encodedName, CharSequence message, Sampler sampler,
+                         LogContext context, LogFields fields, Throwable thrown, boolean toFile) {
+        if (format == LogFormat.JSON) {
+            JsonLogEncoder.encodeTo(buffer, millis, level, threadName, loggerName, message, sampler, context, fields,
+                thrown, toFile);
+        } else if (format == LogFormat.BINARY) {
+            BinaryLogEncoder.encodeTo(buffer, millis, level, threadName, LogDictionary.id(loggerName), loggerName,
+                message, null, null, 0, sampler, context, fields, thrown);
+        } else {
+            formatTo(buffer, millis, level, threadName, encodedName, message, sampler, context, fields, thrown,
+                toFile);
+        }
+    }
+
+    private static void appendTextValue(LogBuffer buffer, LogFields fields, int i) {
+        switch (fields.type(i)) {
+            case LogFields.LONG:
+                buffer.putLong(fields.longAt(i));
+                break;
+            case LogFields.DOUBLE:
+                buffer.putDouble(fields.doubleAt(i));
+                break;
+            case LogFields.BOOLEAN:
+                buffer.putAscii(fields.booleanAt(i) ? "true" : "false");
+                break;
+            default:
+                Object value = fields.objectAt(i);
+                appendTextString(buffer, value == null ? "null" : value.toString());
+                break;
+        }
+    }
+
+    /**
+     * 키-값의 문자열 값을 기록합니다. 공백, 따옴표, {@code =}가 있거나 빈 값이면 따옴표로 감쌉니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param text 값
+     */
+    static void appendTextString(LogBuffer buffer, String text) {
+        if (needsQuoting(text)) {
+            buffer.putJsonString(text);
+        } else {
+            buffer.putUtf8(text);
+        }
+    }
+
+    private static boolean needsQuoting(String text) {
+        if (text.isEmpty()) {
+            return true;
         }
-        
-        return sb.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c <= ' ' || c == '"' || c == '=' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
     }
-    
+
     /**
-     * 예외의 스택 트레이스를 포맷팅합니다.
-     * 
+     * 예외의 스택 트레이스를 포맷팅합니다. 프레임 필터와 최대 깊이 설정이 적용됩니다
+     * ({@link StackTraceRenderer} 참고).
+     *
      * @param thrown 예외
      * @return 포맷팅된 스택 트레이스
      */
@@ -66,45 +200,67 @@ public final class LogFormatter {
         if (thrown == null) {
             return "";
         }
-        
-        StringWriter sw = new StringWriter();
-        PrintWriter pw = new PrintWriter(sw);
-        
-        try {
-            thrown.printStackTrace(pw);
-            return sw.toString();
-        } finally {
-            pw.close();
-        }
+        return StackTraceRenderer.format(thrown);
     }
-    
+
     /**
      * 간단한 로그 메시지를 포맷팅합니다 (Spiceware 스타일).
-     * 
+     *
      * @param level 로그 레벨
      * @param id 로그 ID
      * @param message 로그 메시지
      * @return 포맷팅된 로그 메시지
      */
     public static String formatSimple(LogLevel level, String id, String message) {
-        StringBuilder sb = new StringBuilder(128);
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-        
-        sb.append(timestamp)
-          .append(" ").append(level.name())
-          .append(" [CSH:").append(id).append("] ")
-          .append(message);
-        
-        return sb.toString();
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            formatSimpleTo(buffer, level, id, message);
+            return buffer.toString();
+        } finally {
+            buffer.release();
+        }
     }
-    
+
+    /**
+     * 간단한 로그 메시지(줄 구분자 제외)를 버퍼에 기록합니다 (Spiceware 스타일).
+     *
+     * @param buffer 출력 버퍼
+     * @param level 로그 레벨
+     * @param id 로그 ID
+     * @param message 로그 메시지
+     */
+    static void formatSimpleTo(LogBuffer buffer, LogLevel level, String id, CharSequence message) {
+        appendTimestamp(buffer);
+        buffer.put((byte) ' ').putAscii(level.name())
+              .putAscii(" [CSH:").putUtf8(id).putAscii("] ")
+              .putUtf8(message);
+    }
+
+    /**
+     * {@code yyyy-MM-dd HH:mm:ss.SSS} 형식의 현재 시각을 기록합니다.
+     * 초 단위로 캐시된 앞부분에 밀리초만 덧붙입니다 ({@link LogClock}).
+     */
+    private static void appendTimestamp(LogBuffer buffer) {
+        LogClock.appendTimestamp(buffer, LogClock.currentTimeMillis());
+    }
+
+    /**
+     * 로거 이름을 UTF-8로 인코딩합니다. 로거는 생성 시 한 번만 호출합니다.
+     *
+     * @param loggerName 로거 이름
+     * @return 인코딩된 이름
+     */
+    static byte[] encodeName(String loggerName) {
+        return String.valueOf(loggerName).getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * 객체를 문자열로 변환합니다.
-     * 
+     *
      * @param obj 변환할 객체
      * @return 문자열
      */
     public static String toString(Object obj) {
         return obj == null ? "null" : obj.toString();
     }
-} 
\ No newline at end of file
+}
@@ -50,6 +50,7 @@ public enum LogLevel {
     ERROR(4);
 
     private final int level;
+    private final String paddedName;
 
     /**
      * Create LogLevel.
@@ -57,6 +58,12 @@ public enum LogLevel {
      */
     LogLevel(int level) {
         this.level = level;
+        // Precomputed "%-5s" form used by LogFormatter
+        StringBuilder sb = new StringBuilder(name());
+        while (sb.length() < 5) {
+            sb.append(' ');
+        }
+        this.paddedName = sb.toString();
     }
 
     /**
@@ -86,6 +93,14 @@ public enum LogLevel {
         }
     }
 
+    /**
+     * Get the level name right-padded to five characters.
+     * @return padded level name
+     */
+    String paddedName() {
+        return paddedName;
+    }
+
     /**
      * Get level value.
      * @return level value
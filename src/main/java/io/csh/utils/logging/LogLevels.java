@@ -0,0 +1,144 @@
+package io.csh.utils.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로거 이름 접두사(패키지 계층)별 로그 레벨을 관리하는 클래스
+ *
+ * <p>레벨은 패키지 계층을 따라 상속됩니다. {@code com.acme.payments.Gateway$Retry} 로거는
+ * {@code com.acme.payments.Gateway$Retry}, {@code com.acme.payments.Gateway}, {@code com.acme.payments},
+ * {@code com.acme}, {@code com} 순으로 설정된 레벨을 찾고, 없으면 전역 레벨을 사용합니다.</p>
+ *
+ * <p>이 탐색은 로거를 만들 때와 레벨이 바뀔 때만 수행되며, 결과(유효 레벨)는 각 로거의 필드에
+ * 저장됩니다. 레벨이 바뀌면 바뀐 접두사 아래의 로거만 다시 계산합니다.</p>
+ *
+ * <p>설정은 {@code csh.logging.level}(전역)과 {@code csh.logging.level.<접두사>}(로거별)
+ * 시스템 프로퍼티 또는 application.properties에서 읽습니다.</p>
+ */
+final class LogLevels {
+    private static final Map<String, LogLevel> levels = new ConcurrentHashMap<>();
+    private static volatile LogLevel rootLevel;
+
+    static {
+        LogConfig config = LogConfig.getInstance();
+        rootLevel = config.getLogLevel();
+        levels.putAll(config.getLoggerLevels());
+        updateMinimum();
+    }
+
+    private LogLevels() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 전역 로그 레벨을 반환합니다.
+     *
+     * @return 전역 로그 레벨
+     */
+    static LogLevel root() {
+        return rootLevel;
+    }
+
+    /**
+     * 전역 로그 레벨을 설정하고 모든 로거의 유효 레벨을 다시 계산합니다.
+     *
+     * @param level 전역 로그 레벨
+     */
+    static void setRoot(LogLevel level) {
+        synchronized (levels) {
+            rootLevel = level;
+            updateMinimum();
+        }
+        LoggerImpl.refreshLevels("");
+    }
+
+    /**
+     * 로거 이름 접두사의 레벨을 설정하고 해당 로거들의 유효 레벨을 다시 계산합니다.
+     *
+     * @param prefix 로거 이름 접두사 (패키지 또는 클래스 이름)
+     * @param level 로그 레벨 (null이면 설정 제거)
+     */
+    static void set(String prefix, LogLevel level) {
+        String normalized = LoggerRules.normalize(prefix);
+        if (normalized.isEmpty()) {
+            if (level != null) {
+                setRoot(level);
+            }
+            return;
+        }
+        synchronized (levels) {
+            if (level == null) {
+                levels.remove(normalized);
+            } else {
+                levels.put(normalized, level);
+            }
+            updateMinimum();
+        }
+        LoggerImpl.refreshLevels(normalized);
+    }
+
+    /**
+     * 로거 이름 접두사에 직접 설정된 레벨을 반환합니다.
+     *
+     * @param prefix 로거 이름 접두사
+     * @return 설정된 레벨 (없으면 null)
+     */
+    static LogLevel get(String prefix) {
+        String normalized = LoggerRules.normalize(prefix);
+        return normalized.isEmpty() ? rootLevel : levels.get(normalized);
+    }
+
+    /**
+     * 접두사별 설정을 모두 제거합니다. 전역 레벨은 유지됩니다.
+     */
+    static void clear() {
+        synchronized (levels) {
+            levels.clear();
+            updateMinimum();
+        }
+        LoggerImpl.refreshLevels("");
+    }
+
+    /**
+     * 로거의 유효 레벨을 계산합니다. 이름을 {@code .}과 {@code $} 단위로 줄여 가며
+     * 가장 가까운 상위 설정을 찾습니다.
+     *
+     * @param loggerName 로거 이름
+     * @return 유효 레벨
+     */
+    static LogLevel resolve(String loggerName) {
+        if (!levels.isEmpty()) {
+            String name = loggerName;
+            while (!name.isEmpty()) {
+                LogLevel level = levels.get(name);
+                if (level != null) {
+                    return level;
+                }
+                int cut = Math.max(name.lastIndexOf('.'), name.lastIndexOf('$'));
+                if (cut < 0) {
+                    break;
+                }
+                name = name.substring(0, cut);
+            }
+        }
+        return rootLevel;
+    }
+
+    /**
+     * 설정된 레벨 중 가장 낮은 레벨을 다시 계산하고 {@link LevelSwitch}에 반영합니다.
+     */
+    private static void updateMinimum() {
+        LevelSwitch.update(computeMinimum());
+    }
+
+    private static LogLevel computeMinimum() {
+        LogLevel minimum = rootLevel;
+        for (LogLevel level : levels.values()) {
+            if (level.compareTo(minimum) < 0) {
+                minimum = level;
+            }
+        }
+        return minimum;
+    }
+}
@@ -0,0 +1,222 @@
+package io.csh.utils.logging;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 비동기 로깅용 고정 크기 링 버퍼 (다중 생산자 / 단일 소비자)
+ *
+ * <p>락 없이 동작합니다. 생산자는 쓰기 위치를 CAS로 예약한 뒤 슬롯에 값을 채우고,
+ * 슬롯별 시퀀스 번호를 갱신하여 소비자에게 공개합니다. 소비자는 시퀀스 번호로
+ * 공개 여부를 확인하고 한 번에 여러 슬롯을 꺼냅니다.</p>
+ *
+ * <p>슬롯마다 {@link LogBuffer}를 하나씩 미리 할당해 두고, 생산자는 포맷팅된 바이트를
+ * 슬롯 버퍼로 복사합니다. 소비자는 슬롯 버퍼를 그 자리에서 기록한 뒤 반환하므로
+ * 정상 상태에서 할당이 없습니다.</p>
+ *
+ * <p>지연 렌더링 모드에서는 슬롯마다 {@link DeferredRecord}도 미리 만들어 두고, 생산자는 바이트 대신
+ * 포맷팅 전의 값을 채웁니다. 소비자는 이런 슬롯을 꺼낼 때 슬롯 버퍼에 인코딩한 뒤 넘깁니다.</p>
+ */
+final class LogRingBuffer {
+    private static final int SLOT_CAPACITY = 256;
+
+    /**
+     * 링 버퍼의 슬롯
+     */
+    static final class Slot {
+        final LogBuffer record = new LogBuffer(SLOT_CAPACITY);
+        LogLevel level;
+        /** 포맷팅 전의 로그 (지연 렌더링을 사용하지 않으면 null) */
+        final DeferredRecord deferred;
+        /** {@code record} 대신 {@code deferred}에 값이 들어 있는지 여부 */
+        boolean pending;
+
+        Slot(boolean deferred) {
+            this.deferred = deferred ? new DeferredRecord() : null;
+        }
+    }
+
+    /**
+     * 소비자가 꺼낸 로그를 처리하는 콜백
+     */
+    interface SlotConsumer {
+        /**
+         * 로그 한 건을 처리합니다. 호출이 끝나면 슬롯은 재사용되므로 버퍼를 보관하면 안 됩니다.
+         *
+         * @param record 포맷팅된 로그 (줄 구분자 포함)
+         * @param level 로그 레벨 (원시 출력인 경우 null)
+         * @throws IOException 기록 실패 시
+         */
+        void accept(LogBuffer record, LogLevel level) throws IOException;
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+
+    /** 생산자 쓰기 위치 */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** 소비자 읽기 위치 (소비자 스레드 전용) */
+    private long head;
+
+    /**
+     * 링 버퍼를 생성합니다.
+     *
+     * @param requestedCapacity 요청 크기 (2의 거듭제곱으로 올림)
+     */
+    LogRingBuffer(int requestedCapacity) {
+        this(requestedCapacity, false);
+    }
+
+    /**
+     * 링 버퍼를 생성합니다.
+     *
+     * @param requestedCapacity 요청 크기 (2의 거듭제곱으로 올림)
+     * @param deferred 슬롯마다 {@link DeferredRecord}를 만들지 여부
+     */
+    LogRingBuffer(int requestedCapacity, boolean deferred) {
+        this.capacity = ceilingPowerOfTwo(Math.min(Math.max(2, requestedCapacity), 1 << 30));
+        this.mask = capacity - 1;
+        this.slots = new Slot[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(deferred);
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 로그를 큐에 넣습니다. 내용은 슬롯 버퍼로 복사되므로 호출 후 원본을 재사용해도 됩니다.
+     *
+     * @param record 포맷팅된 로그 (줄 구분자 포함)
+     * @param level 로그 레벨 (원시 출력인 경우 null)
+     * @return 큐가 가득 찬 경우 false
+     */
+    boolean offer(LogBuffer record, LogLevel level) {
+        long pos = claim();
+        if (pos < 0) {
+            return false;
+        }
+        Slot slot = slot(pos);
+        slot.record.copyFrom(record);
+        slot.level = level;
+        publish(pos);
+        return true;
+    }
+
+    /**
+     * 쓰기 위치 하나를 예약합니다. 예약한 생산자는 {@link #slot}을 채운 뒤 반드시 {@link #publish}를 호출해야 합니다.
+     *
+     * @return 예약한 위치, 큐가 가득 찬 경우 -1
+     */
+    long claim() {
+        long pos = tail.get();
+        for (;;) {
+            int index = (int) (pos & mask);
+            long diff = sequences.getAcquire(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    return pos;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // 소비자가 아직 이 슬롯을 비우지 못함 - 가득 참
+                return -1;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 예약한 위치의 슬롯을 반환합니다.
+     *
+     * @param pos {@link #claim}이 반환한 위치
+     * @return 슬롯
+     */
+    Slot slot(long pos) {
+        return slots[(int) (pos & mask)];
+    }
+
+    /**
+     * 채운 슬롯을 소비자에게 공개합니다.
+     *
+     * @param pos {@link #claim}이 반환한 위치
+     */
+    void publish(long pos) {
+        sequences.setRelease((int) (pos & mask), pos + 1);
+    }
+
+    /**
+     * 공개된 로그를 최대 {@code max}개까지 순서대로 꺼내 {@code consumer}에 넘깁니다.
+     * 포맷팅 전의 로그는 슬롯 버퍼에 인코딩한 뒤 넘기고, 인코딩에 실패하면 건너뜁니다.
+     * 소비자 스레드에서만 호출해야 합니다.
+     *
+     * @param consumer 로그 처리 콜백
+     * @param max 최대 개수
+     * @return 꺼낸 개수
+     * @throws IOException 콜백에서 기록에 실패한 경우 (해당 슬롯까지는 반환됨)
+     */
+    int drain(SlotConsumer consumer, int max) throws IOException {
+        int count = 0;
+        while (count < max) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) {
+                break;
+            }
+            Slot slot = slots[index];
+            try {
+                if (!slot.pending || slot.deferred.renderTo(slot.record)) {
+                    consumer.accept(slot.record, slot.level);
+                }
+            } finally {
+                if (slot.pending) {
+                    slot.pending = false;
+                    // 큰 스택 트레이스를 인코딩한 뒤 커진 버퍼를 줄임
+                    slot.record.release();
+                }
+                slot.level = null;
+                sequences.setRelease(index, head + capacity);
+                head++;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 소비자가 꺼낼 로그가 있는지 확인합니다.
+     *
+     * @return 비어 있으면 true
+     */
+    boolean isEmpty() {
+        return sequences.getAcquire((int) (head & mask)) != head + 1;
+    }
+
+    /**
+     * 예약된 위치를 모두 꺼냈는지 확인합니다. 예약만 하고 아직 공개하지 않은 생산자가 있으면 false입니다.
+     * 소비자 스레드에서만 호출해야 합니다.
+     *
+     * @return 모두 꺼냈으면 true
+     */
+    boolean isDrained() {
+        return head == tail.get();
+    }
+
+    /**
+     * 버퍼 크기를 반환합니다.
+     *
+     * @return 슬롯 수
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+}
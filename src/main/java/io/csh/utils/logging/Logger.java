@@ -1,10 +1,15 @@
 package io.csh.utils.logging;
 
+import java.util.function.Supplier;
+
 /**
  * 로거 인터페이스
  * 
  * <p>표준 로깅 레벨을 모두 지원하며, 각 레벨별로 예외 정보를 포함한
  * 오버로딩 메서드를 제공합니다. 중복 로그 방지 기능도 지원합니다.</p>
+ *
+ * <p>{@code {}} 플레이스홀더와 {@link Supplier} 오버로드는 레벨이 활성화된 경우에만
+ * 메시지를 만듭니다. 인자 1~3개 버전은 비활성 레벨에서 배열을 만들지 않습니다.</p>
  */
 public interface Logger {
     /**
@@ -22,6 +27,58 @@ public interface Logger {
      */
     void trace(String message, Throwable thrown);
 
+    /**
+     * TRACE 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 레벨이 비활성화된 경우 포맷팅을 수행하지 않습니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    void trace(String format, Object arg);
+
+    /**
+     * TRACE 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    void trace(String format, Object arg1, Object arg2);
+
+    /**
+     * TRACE 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    void trace(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * TRACE 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    void trace(String format, Object... args);
+
+    /**
+     * TRACE 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    void trace(Supplier<String> messageSupplier);
+
+    /**
+     * TRACE 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    void trace(Supplier<String> messageSupplier, Throwable thrown);
+
     /**
      * DEBUG 레벨 로그를 기록합니다.
      *
@@ -37,6 +94,58 @@ public interface Logger {
      */
     void debug(String message, Throwable thrown);
 
+    /**
+     * DEBUG 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 레벨이 비활성화된 경우 포맷팅을 수행하지 않습니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    void debug(String format, Object arg);
+
+    /**
+     * DEBUG 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    void debug(String format, Object arg1, Object arg2);
+
+    /**
+     * DEBUG 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    void debug(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * DEBUG 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    void debug(String format, Object... args);
+
+    /**
+     * DEBUG 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    void debug(Supplier<String> messageSupplier);
+
+    /**
+     * DEBUG 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    void debug(Supplier<String> messageSupplier, Throwable thrown);
+
     /**
      * INFO 레벨 로그를 기록합니다.
      *
@@ -52,6 +161,58 @@ public interface Logger {
      */
     void info(String message, Throwable thrown);
 
+    /**
+     * INFO 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 레벨이 비활성화된 경우 포맷팅을 수행하지 않습니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    void info(String format, Object arg);
+
+    /**
+     * INFO 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    void info(String format, Object arg1, Object arg2);
+
+    /**
+     * INFO 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    void info(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * INFO 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    void info(String format, Object... args);
+
+    /**
+     * INFO 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    void info(Supplier<String> messageSupplier);
+
+    /**
+     * INFO 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    void info(Supplier<String> messageSupplier, Throwable thrown);
+
     /**
      * WARN 레벨 로그를 기록합니다.
      *
@@ -67,6 +228,58 @@ public interface Logger {
      */
     void warn(String message, Throwable thrown);
 
+    /**
+     * WARN 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 레벨이 비활성화된 경우 포맷팅을 수행하지 않습니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    void warn(String format, Object arg);
+
+    /**
+     * WARN 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    void warn(String format, Object arg1, Object arg2);
+
+    /**
+     * WARN 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    void warn(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * WARN 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    void warn(String format, Object... args);
+
+    /**
+     * WARN 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    void warn(Supplier<String> messageSupplier);
+
+    /**
+     * WARN 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    void warn(Supplier<String> messageSupplier, Throwable thrown);
+
     /**
      * ERROR 레벨 로그를 기록합니다.
      *
@@ -82,6 +295,58 @@ public interface Logger {
      */
     void error(String message, Throwable thrown);
 
+    /**
+     * ERROR 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 레벨이 비활성화된 경우 포맷팅을 수행하지 않습니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    void error(String format, Object arg);
+
+    /**
+     * ERROR 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    void error(String format, Object arg1, Object arg2);
+
+    /**
+     * ERROR 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    void error(String format, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * ERROR 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    void error(String format, Object... args);
+
+    /**
+     * ERROR 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    void error(Supplier<String> messageSupplier);
+
+    /**
+     * ERROR 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    void error(Supplier<String> messageSupplier, Throwable thrown);
+
     /**
      * TRACE 레벨이 활성화되어 있는지 확인합니다.
      *
@@ -116,4 +381,58 @@ public interface Logger {
      * @return 활성화 여부
      */
     boolean isErrorEnabled();
-} 
\ No newline at end of file
+
+    /**
+     * 주어진 샘플러로 걸러서 기록하는 로거를 반환합니다. 호출 위치별 샘플링에 사용합니다.
+     * 샘플러는 레벨 확인 직후, 메시지 포맷팅 전에 적용되며 로거 설정의 샘플링 규칙보다 우선합니다.
+     * 같은 비율의 샘플러로 다시 호출하면 이미 만든 로거를 반환하지만, 조회 비용이 있으므로 필드에 두고 사용합니다.
+     *
+     * <pre>
+     * private static final Logger HOT = logger.sampled(Sampler.oneIn(1000));
+     * </pre>
+     *
+     * @param sampler 샘플러
+     * @return 샘플링하는 로거
+     */
+    Logger sampled(Sampler sampler);
+
+    /**
+     * TRACE 레벨 구조화 로그 작성기를 반환합니다.
+     * 레벨이 비활성화되었거나 샘플링/출력 제한으로 걸러지면 아무 일도 하지 않는 작성기를 반환합니다.
+     *
+     * @return 구조화 로그 작성기
+     */
+    LogEventBuilder atTrace();
+
+    /**
+     * DEBUG 레벨 구조화 로그 작성기를 반환합니다.
+     *
+     * @return 구조화 로그 작성기
+     */
+    LogEventBuilder atDebug();
+
+    /**
+     * INFO 레벨 구조화 로그 작성기를 반환합니다.
+     *
+     * <pre>
+     * logger.atInfo().kv("orderId", id).kv("latencyMs", 12L).log("paid");
+     * </pre>
+     *
+     * @return 구조화 로그 작성기
+     */
+    LogEventBuilder atInfo();
+
+    /**
+     * WARN 레벨 구조화 로그 작성기를 반환합니다.
+     *
+     * @return 구조화 로그 작성기
+     */
+    LogEventBuilder atWarn();
+
+    /**
+     * ERROR 레벨 구조화 로그 작성기를 반환합니다.
+     *
+     * @return 구조화 로그 작성기
+     */
+    LogEventBuilder atError();
+}
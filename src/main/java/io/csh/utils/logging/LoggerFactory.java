@@ -32,13 +32,45 @@ public final class LoggerFactory {
 
     /**
      * 전역 로그 레벨을 설정합니다.
+     * 기존 로거 인스턴스는 그대로 두고 유효 레벨만 다시 계산합니다.
      *
      * @param level 설정할 로그 레벨
      */
     public static void setLogLevel(LogLevel level) {
         LoggerImpl.setLogLevel(level);
-        // 기존 로거 인스턴스들을 무효화하여 새로운 설정이 적용되도록 함
-        loggers.clear();
+    }
+
+    /**
+     * 로거 이름 접두사(패키지 또는 클래스)의 로그 레벨을 설정합니다.
+     * 하위 패키지와 클래스는 더 구체적인 설정이 없으면 이 레벨을 따릅니다.
+     * 해당 접두사 아래의 로거만 유효 레벨을 다시 계산합니다.
+     *
+     * <pre>
+     * LoggerFactory.setLogLevel("com.acme.payments", LogLevel.DEBUG);
+     * </pre>
+     *
+     * @param loggerPrefix 로거 이름 접두사 ({@code *}나 빈 문자열이면 전역 레벨)
+     * @param level 설정할 로그 레벨 (null이면 설정을 제거하고 상위 레벨을 따름)
+     */
+    public static void setLogLevel(String loggerPrefix, LogLevel level) {
+        LogLevels.set(loggerPrefix, level);
+    }
+
+    /**
+     * 로거 이름 접두사에 직접 설정된 로그 레벨을 반환합니다.
+     *
+     * @param loggerPrefix 로거 이름 접두사 ({@code *}나 빈 문자열이면 전역 레벨)
+     * @return 설정된 레벨 (없으면 null)
+     */
+    public static LogLevel getLogLevel(String loggerPrefix) {
+        return LogLevels.get(loggerPrefix);
+    }
+
+    /**
+     * 로거 이름 접두사별 레벨 설정을 모두 제거합니다. 전역 레벨은 유지됩니다.
+     */
+    public static void clearLogLevels() {
+        LogLevels.clear();
     }
 
     /**
@@ -67,8 +99,11 @@ public final class LoggerFactory {
     
     /**
      * 로그 파일 매니저를 종료합니다.
+     * 비동기 모드인 경우 큐에 남은 로그를 모두 기록한 뒤 종료하고, 콘솔 큐도 비웁니다.
      */
     public static void shutdown() {
+        AsyncLogWriter.shutdownInstance();
+        ConsoleLogWriter.shutdownInstance();
         LogFileManager.getInstance().shutdown();
     }
 
@@ -1,5 +1,13 @@
 package io.csh.utils.logging;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * 로거 구현체
  * 
@@ -9,19 +17,62 @@ package io.csh.utils.logging;
  */
 public final class LoggerImpl implements Logger {
     private final String name;
-    private static volatile LogLevel currentLevel;
+    private final byte[] encodedName;
+    /** 바이너리 형식에서 사용할 로거 이름의 사전 번호 (0이면 이름을 직접 기록) */
+    private final int nameId;
     private final LogConfig config;
     private final LogFileManager fileManager;
+    private final AsyncLogWriter asyncWriter;
+    /** 포맷팅을 비동기 기록 스레드로 미루는지 여부 */
+    private final boolean deferred;
+    private volatile RateLimiter[] rateLimiters;
+    private volatile Sampler[] samplers;
+    /** 호출 위치별 샘플러 ({@link #sampled(Sampler)}로 만든 로거에만 있음) */
+    private final Sampler callSiteSampler;
+    /** {@link #sampled(Sampler)}로 만든 로거 (같은 비율의 샘플러마다 하나만 만들어 재사용) */
+    private final Map<Sampler, LoggerImpl> sampledLoggers = new ConcurrentHashMap<>();
+    /** 패키지 계층에서 찾은 이 로거의 유효 레벨 */
+    private volatile LogLevel effectiveLevel;
 
-    static {
-        initializeLogLevel();
-    }
+    /** 규칙 변경을 반영하기 위해 생성된 로거를 추적합니다 (GC를 막지 않음). */
+    private static final Set<LoggerImpl> INSTANCES = Collections.newSetFromMap(new WeakHashMap<>());
 
     private LoggerImpl(Class<?> clazz) {
         this.name = clazz.getName();
+        this.encodedName = LogFormatter.encodeName(name);
         this.config = LogConfig.getInstance();
         this.fileManager = LogFileManager.getInstance();
         this.fileManager.initialize();
+        this.nameId = fileManager.getFormat() == LogFormat.BINARY ? LogDictionary.id(name) : 0;
+        this.asyncWriter = config.isAsyncEnabled() ? AsyncLogWriter.getInstance() : null;
+        this.deferred = asyncWriter != null && asyncWriter.isDeferred();
+        this.callSiteSampler = null;
+        register(this);
+    }
+
+    private LoggerImpl(LoggerImpl parent, Sampler sampler) {
+        this.name = parent.name;
+        this.encodedName = parent.encodedName;
+        this.nameId = parent.nameId;
+        this.config = parent.config;
+        this.fileManager = parent.fileManager;
+        this.asyncWriter = parent.asyncWriter;
+        this.deferred = parent.deferred;
+        this.callSiteSampler = sampler;
+        register(this);
+    }
+
+    /**
+     * 로거를 등록하고 레벨과 규칙을 연결합니다. 등록, 연결, 다시 계산을 모두 같은 락 안에서 하므로
+     * 생성 중이나 동시에 바뀐 설정도 마지막 값으로 반영됩니다.
+     */
+    private static void register(LoggerImpl logger) {
+        synchronized (INSTANCES) {
+            INSTANCES.add(logger);
+            logger.effectiveLevel = LogLevels.resolve(logger.name);
+            logger.rateLimiters = RateLimits.resolve(logger.name);
+            logger.samplers = Sampling.resolve(logger.name);
+        }
     }
 
     /**
@@ -35,43 +86,94 @@ public final class LoggerImpl implements Logger {
     }
 
     /**
-     * 로그 레벨을 초기화합니다.
-     * 시스템 프로퍼티나 환경 변수에서 설정을 읽어옵니다.
+     * 전역 로그 레벨을 설정합니다. 패키지별 레벨이 설정되지 않은 로거에 적용됩니다.
+     *
+     * @param level 설정할 로그 레벨
      */
-    private static void initializeLogLevel() {
-        String levelStr = System.getProperty("csh.logging.level");
-        if (levelStr == null) {
-            levelStr = System.getenv("CSH_LOGGING_LEVEL");
-        }
-        if (levelStr == null) {
-            levelStr = "INFO"; // 기본값
+    public static void setLogLevel(LogLevel level) {
+        LogLevels.setRoot(level);
+    }
+
+    /**
+     * 전역 로그 레벨을 반환합니다.
+     *
+     * @return 현재 로그 레벨
+     */
+    public static LogLevel getLogLevel() {
+        return LogLevels.root();
+    }
+
+    /**
+     * 이 로거의 유효 레벨(직접 또는 상위 패키지에 설정된 레벨, 없으면 전역 레벨)을 반환합니다.
+     *
+     * @return 유효 레벨
+     */
+    public LogLevel getEffectiveLevel() {
+        return effectiveLevel;
+    }
+
+    /**
+     * 접두사 아래에 있는 로거들의 유효 레벨을 다시 계산합니다. 레벨 설정이 바뀌었을 때 호출됩니다.
+     *
+     * @param prefix 로거 이름 접두사 (빈 문자열이면 모든 로거)
+     */
+    static void refreshLevels(String prefix) {
+        synchronized (INSTANCES) {
+            for (LoggerImpl logger : INSTANCES) {
+                if (LoggerRules.matches(prefix, logger.name)) {
+                    logger.effectiveLevel = LogLevels.resolve(logger.name);
+                }
+            }
         }
-        
-        try {
-            LogLevel level = LogLevel.fromString(levelStr);
-            currentLevel = level;
-        } catch (IllegalArgumentException e) {
-            System.err.println("Invalid log level: " + levelStr + ", using INFO as default");
-            currentLevel = LogLevel.INFO;
+    }
+
+    /**
+     * 접두사 아래에 있는 로거들의 출력 제한기와 샘플러를 다시 연결합니다. 규칙이 바뀌었을 때 호출됩니다.
+     *
+     * @param prefix 로거 이름 접두사 (빈 문자열이면 모든 로거)
+     */
+    static void refreshRules(String prefix) {
+        synchronized (INSTANCES) {
+            for (LoggerImpl logger : INSTANCES) {
+                if (LoggerRules.matches(prefix, logger.name)) {
+                    logger.rateLimiters = RateLimits.resolve(logger.name);
+                    logger.samplers = Sampling.resolve(logger.name);
+                }
+            }
         }
     }
 
     /**
-     * 전역 로그 레벨을 설정합니다.
+     * 샘플링을 적용하고, 출력 제한이 설정되어 있으면 토큰을 하나 사용합니다. 포맷팅 전에 호출합니다.
      *
-     * @param level 설정할 로그 레벨
+     * @param level 로그 레벨
+     * @return 출력해도 되면 true
      */
-    public static void setLogLevel(LogLevel level) {
-        currentLevel = level;
+    private boolean permitted(LogLevel level) {
+        Sampler sampler = samplerFor(level);
+        if (sampler != null && !sampler.sample()) {
+            return false;
+        }
+        RateLimiter[] limiters = rateLimiters;
+        if (limiters == null) {
+            return true;
+        }
+        RateLimiter limiter = limiters[level.ordinal()];
+        return limiter == null || limiter.tryAcquire();
     }
 
     /**
-     * 전역 로그 레벨을 반환합니다.
+     * 레벨에 적용할 샘플러를 찾습니다. 호출 위치별 샘플러가 로거 규칙보다 우선합니다.
      *
-     * @return 현재 로그 레벨
+     * @param level 로그 레벨
+     * @return 샘플러, 샘플링하지 않으면 null
      */
-    public static LogLevel getLogLevel() {
-        return currentLevel;
+    private Sampler samplerFor(LogLevel level) {
+        if (callSiteSampler != null) {
+            return callSiteSampler;
+        }
+        Sampler[] levelSamplers = samplers;
+        return levelSamplers == null ? null : levelSamplers[level.ordinal()];
     }
 
     /**
@@ -81,12 +183,7 @@ public final class LoggerImpl implements Logger {
      * @param message 로그 메시지
      */
     private void log(LogLevel level, String message) {
-        if (!level.isEnabled(currentLevel)) {
-            return;
-        }
-        
-        String formattedMessage = LogFormatter.format(level, name, message);
-        outputLog(formattedMessage, level);
+        log(level, message, null);
     }
 
     /**
@@ -94,35 +191,225 @@ public final class LoggerImpl implements Logger {
      *
      * @param level 로그 레벨
      * @param message 로그 메시지
-     * @param thrown 예외 정보
+     * @param thrown 예외 정보 (없으면 null)
      */
     private void log(LogLevel level, String message, Throwable thrown) {
-        if (!level.isEnabled(currentLevel)) {
+        if (!level.isEnabled(effectiveLevel) || !permitted(level)) {
             return;
         }
-        
-        String formattedMessage = LogFormatter.formatWithException(level, name, message, thrown);
-        outputLog(formattedMessage, level);
+        write(level, message, thrown);
     }
 
     /**
-     * 로그를 출력합니다.
+     * 레벨과 출력 제한 확인이 끝난 메시지를 포맷팅하여 출력합니다.
      *
-     * @param message 포맷팅된 로그 메시지
      * @param level 로그 레벨
+     * @param message 로그 메시지
+     * @param thrown 예외 정보 (없으면 null)
      */
-    private void outputLog(String message, LogLevel level) {
-        // 콘솔 출력
+    private void write(LogLevel level, String message, Throwable thrown) {
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            output(buffer, level, message, null, null, null, thrown);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 구조화 로그를 출력합니다. {@link StructuredEvent}가 레벨과 출력 제한 확인 후 호출합니다.
+     *
+     * @param level 로그 레벨
+     * @param message 로그 메시지
+     * @param fields 키-값 목록
+     * @param thrown 예외 정보 (없으면 null)
+     */
+    void writeEvent(LogLevel level, String message, LogFields fields, Throwable thrown) {
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            output(buffer, level, message, null, null, fields, thrown);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 플레이스홀더 메시지를 포맷팅하여 출력합니다.
+     * 호출 전에 레벨 확인이 끝나 있어야 합니다.
+     *
+     * @param level 로그 레벨
+     * @param format 메시지 패턴
+     * @param args 인자 배열 (마지막 인자가 예외이면 예외 정보로 사용)
+     */
+    private void logFormatted(LogLevel level, String format, Object[] args) {
+        if (!permitted(level)) {
+            return;
+        }
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            output(buffer, level, null, format, args, null, MessageFormatter.getThrowableCandidate(args));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 인자가 1~3개인 플레이스홀더 메시지를 출력합니다. 인자 배열은 버퍼의 것을 재사용하므로 할당이 없습니다.
+     * 호출 전에 레벨 확인이 끝나 있어야 합니다.
+     */
+    private void logFormatted(LogLevel level, String format, Object arg) {
+        if (!permitted(level)) {
+            return;
+        }
+        LogBuffer buffer = LogBuffer.acquire();
+        Object[] args = buffer.args(1);
+        args[0] = arg;
+        outputReused(buffer, level, format, args);
+    }
+
+    private void logFormatted(LogLevel level, String format, Object arg1, Object arg2) {
+        if (!permitted(level)) {
+            return;
+        }
+        LogBuffer buffer = LogBuffer.acquire();
+        Object[] args = buffer.args(2);
+        args[0] = arg1;
+        args[1] = arg2;
+        outputReused(buffer, level, format, args);
+    }
+
+    private void logFormatted(LogLevel level, String format, Object arg1, Object arg2, Object arg3) {
+        if (!permitted(level)) {
+            return;
+        }
+        LogBuffer buffer = LogBuffer.acquire();
+        Object[] args = buffer.args(3);
+        args[0] = arg1;
+        args[1] = arg2;
+        args[2] = arg3;
+        outputReused(buffer, level, format, args);
+    }
+
+    /**
+     * 버퍼의 재사용 인자 배열로 로그를 출력한 뒤, 인자 참조를 지우고 버퍼를 반환합니다.
+     */
+    private void outputReused(LogBuffer buffer, LogLevel level, String format, Object[] args) {
+        try {
+            output(buffer, level, null, format, args, null, MessageFormatter.getThrowableCandidate(args));
+        } finally {
+            Arrays.fill(args, null);
+            buffer.release();
+        }
+    }
+
+    /**
+     * 로그를 출력합니다. 지연 렌더링을 사용하면 원시 값만 기록 스레드에 넘기고,
+     * 아니면 이 스레드에서 인코딩하여 콘솔과 파일에 출력합니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param level 로그 레벨
+     * @param message 완성된 로그 메시지 (패턴 메시지이면 null)
+     * @param template 메시지 패턴 (완성된 메시지이면 null)
+     * @param args 패턴 인자
+     * @param fields 키-값 목록 (없으면 null)
+     * @param thrown 예외 정보 (없으면 null)
+     */
+    private void output(LogBuffer buffer, LogLevel level, String message, String template, Object[] args,
+                        LogFields fields, Throwable thrown) {
+        long millis = LogClock.currentTimeMillis();
+        Sampler sampler = samplerFor(level);
+        LogContext context = LogContext.current();
+        if (deferred && asyncWriter.publishDeferred(this, level, millis, message, template, args, fields, thrown,
+                sampler, context)) {
+            return;
+        }
+        encode(buffer, level, millis, null, message, template, args, MessageFormatter.argumentCount(args), sampler,
+            context, fields, thrown);
+        writeFile(buffer, level);
+    }
+
+    /**
+     * 로그를 콘솔과 파일에 각각 설정된 형식({@link LogFormat})으로 인코딩합니다. 콘솔 출력은 바로 내보내고,
+     * 끝나면 {@code buffer}에 파일에 기록할 내용이 남습니다. 두 형식이 같으면 한 번만 인코딩합니다.
+     * 패턴 메시지는 텍스트나 JSON으로 인코딩할 때만 포맷팅하고, 바이너리 형식에는 패턴과 인자를 그대로 기록합니다.
+     * 지연 렌더링에서는 {@link DeferredRecord}가 기록 스레드에서 호출합니다.
+     *
+     * @param buffer 출력 버퍼
+     * @param level 로그 레벨
+     * @param millis 기록 시각 (epoch 밀리초)
+     * @param threadName 스레드 이름 (null이면 현재 스레드)
+     * @param message 완성된 로그 메시지 (패턴 메시지이면 null)
+     * @param template 메시지 패턴 (완성된 메시지이면 null)
+     * @param args 패턴 인자
+     * @param argCount 치환에 사용할 인자 수
+     * @param sampler 적용된 샘플러 (없으면 null)
+     * @param context 진단 컨텍스트 (없으면 null)
+     * @param fields 키-값 목록 (없으면 null)
+     * @param thrown 예외 정보 (없으면 null)
+     */
+    void encode(LogBuffer buffer, LogLevel level, long millis, String threadName, CharSequence message,
+                String template, Object[] args, int argCount, Sampler sampler, LogContext context,
+                LogFields fields, Throwable thrown) {
+        LogFormat fileFormat = fileManager.getFormat();
         if (config.isConsoleOutput()) {
-            if (level == LogLevel.ERROR || level == LogLevel.WARN) {
-                System.err.println(message);
-            } else {
-                System.out.println(message);
+            LogFormat consoleFormat = config.getConsoleFormat();
+            if (consoleFormat != fileFormat && fields != null) {
+                fields.freezeObjects();
+            }
+            if (message == null) {
+                // 인자의 toString()이 한 번만 호출되도록 포맷팅한 메시지를 파일에도 사용
+                message = render(buffer, template, args, argCount);
+                template = null;
+            }
+            // 형식이 다르면 콘솔 쪽은 트레이스 참조를 쓰지 않고 파일 쪽의 세그먼트 판단에도 영향을 주지 않음
+            LogFormatter.encodeTo(buffer, consoleFormat, millis, level, threadName, name, encodedName, message,
+                sampler, context, fields, thrown, consoleFormat == fileFormat);
+            buffer.putLineSeparator();
+            writeConsole(buffer, level);
+            if (consoleFormat == fileFormat) {
+                return;
             }
+            buffer.reset();
+        }
+        if (fileFormat == LogFormat.BINARY) {
+            BinaryLogEncoder.encodeTo(buffer, millis, level, threadName, nameId, name, message, template, args,
+                argCount, sampler, context, fields, thrown);
+        } else {
+            if (message == null) {
+                message = render(buffer, template, args, argCount);
+            }
+            LogFormatter.encodeTo(buffer, fileFormat, millis, level, threadName, name, encodedName, message,
+                sampler, context, fields, thrown, true);
+            buffer.putLineSeparator();
+        }
+    }
+
+    /**
+     * 패턴 메시지를 버퍼의 임시 StringBuilder에 포맷팅합니다.
+     */
+    private static CharSequence render(LogBuffer buffer, String template, Object[] args, int argCount) {
+        StringBuilder message = buffer.scratch();
+        MessageFormatter.formatTo(message, template, args, argCount);
+        return message;
+    }
+
+    private void writeConsole(LogBuffer buffer, LogLevel level) {
+        ConsoleLogWriter.write(buffer, level);
+    }
+
+    /**
+     * 인코딩된 로그 한 줄(줄 구분자 포함)을 파일에 기록합니다.
+     *
+     * @param buffer 인코딩된 로그
+     * @param level 로그 레벨
+     */
+    private void writeFile(LogBuffer buffer, LogLevel level) {
+        // 비동기 모드에서는 기록 스레드에 위임
+        if (asyncWriter != null) {
+            asyncWriter.publish(buffer, level);
+        } else {
+            fileManager.write(buffer, level);
         }
-        
-        // 파일 출력
-        fileManager.writeToFile(message);
     }
 
     /**
@@ -134,90 +421,425 @@ public final class LoggerImpl implements Logger {
      * @param minIntervalSeconds 최소 간격 (초)
      */
     public void logWithDuplicateFilter(LogLevel level, String id, String message, int minIntervalSeconds) {
-        if (!level.isEnabled(currentLevel)) {
+        if (!level.isEnabled(effectiveLevel)) {
             return;
         }
         
-        if (!DuplicateLogFilter.shouldLog(id, minIntervalSeconds)) {
+        // 샘플링이나 출력 제한으로 버려질 로그가 중복 필터의 출력 기회를 차지하지 않도록 먼저 확인
+        if (!permitted(level)) {
+            return;
+        }
+        long suppressed = DuplicateLogFilter.acquire(id, minIntervalSeconds);
+        if (suppressed == DuplicateLogFilter.SUPPRESSED) {
             return;
         }
         
-        String formattedMessage = LogFormatter.formatSimple(level, id, message);
-        outputLog(formattedMessage, level);
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            Sampler sampler = samplerFor(level);
+            LogFormat fileFormat = fileManager.getFormat();
+            if (config.isConsoleOutput()) {
+                LogFormat consoleFormat = config.getConsoleFormat();
+                encodeSimple(buffer, consoleFormat, level, id, message, suppressed, sampler);
+                writeConsole(buffer, level);
+                if (consoleFormat == fileFormat) {
+                    writeFile(buffer, level);
+                    return;
+                }
+                buffer.reset();
+            }
+            encodeSimple(buffer, fileFormat, level, id, message, suppressed, sampler);
+            writeFile(buffer, level);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 중복 방지 로그 한 줄(줄 구분자 포함)을 인코딩합니다. JSON 형식에서는 ID와 억제 횟수를 필드로 기록하고,
+     * 바이너리 형식에서는 텍스트 줄을 그대로 담은 레코드로 기록합니다.
+     */
+    private void encodeSimple(LogBuffer buffer, LogFormat format, LogLevel level, String id, String message,
+                              long suppressed, Sampler sampler) {
+        if (format == LogFormat.JSON) {
+            LogFields fields = new LogFields().add("id", id);
+            if (suppressed > 0) {
+                fields.add("suppressed", suppressed);
+            }
+            JsonLogEncoder.encodeTo(buffer, LogClock.currentTimeMillis(), level, null, name, message, sampler, null,
+                fields, null, false);
+        } else {
+            if (format == LogFormat.BINARY) {
+                BinaryLogEncoder.beginRaw(buffer);
+            }
+            LogFormatter.formatSimpleTo(buffer, level, id, message);
+            if (suppressed > 0) {
+                buffer.putAscii(" (suppressed ").putLong(suppressed).putAscii(" times)");
+            }
+            if (sampler != null) {
+                buffer.put(sampler.tag());
+            }
+            if (format == LogFormat.BINARY) {
+                return;
+            }
+        }
+        buffer.putLineSeparator();
+    }
+
+    @Override
+    public Logger sampled(Sampler sampler) {
+        if (sampler == null) {
+            throw new IllegalArgumentException("Sampler must not be null");
+        }
+        LoggerImpl cached = sampledLoggers.get(sampler);
+        if (cached != null) {
+            return cached;
+        }
+        return sampledLoggers.computeIfAbsent(sampler, s -> new LoggerImpl(this, s));
+    }
+
+    @Override
+    public LogEventBuilder atTrace() {
+        if (LevelSwitch.isTraceEnabled() && LogLevel.TRACE.isEnabled(effectiveLevel) && permitted(LogLevel.TRACE)) {
+            return StructuredEvent.acquire(this, LogLevel.TRACE);
+        }
+        return StructuredEvent.DISABLED;
+    }
+
+    @Override
+    public LogEventBuilder atDebug() {
+        if (LevelSwitch.isDebugEnabled() && LogLevel.DEBUG.isEnabled(effectiveLevel) && permitted(LogLevel.DEBUG)) {
+            return StructuredEvent.acquire(this, LogLevel.DEBUG);
+        }
+        return StructuredEvent.DISABLED;
+    }
+
+    @Override
+    public LogEventBuilder atInfo() {
+        if (LevelSwitch.isInfoEnabled() && LogLevel.INFO.isEnabled(effectiveLevel) && permitted(LogLevel.INFO)) {
+            return StructuredEvent.acquire(this, LogLevel.INFO);
+        }
+        return StructuredEvent.DISABLED;
+    }
+
+    @Override
+    public LogEventBuilder atWarn() {
+        if (LevelSwitch.isWarnEnabled() && LogLevel.WARN.isEnabled(effectiveLevel) && permitted(LogLevel.WARN)) {
+            return StructuredEvent.acquire(this, LogLevel.WARN);
+        }
+        return StructuredEvent.DISABLED;
+    }
+
+    @Override
+    public LogEventBuilder atError() {
+        if (LevelSwitch.isErrorEnabled() && LogLevel.ERROR.isEnabled(effectiveLevel) && permitted(LogLevel.ERROR)) {
+            return StructuredEvent.acquire(this, LogLevel.ERROR);
+        }
+        return StructuredEvent.DISABLED;
     }
 
     @Override
     public void trace(String message) {
-        log(LogLevel.TRACE, message);
+        if (LevelSwitch.isTraceEnabled()) {
+            log(LogLevel.TRACE, message);
+        }
     }
 
     @Override
     public void trace(String message, Throwable thrown) {
-        log(LogLevel.TRACE, message, thrown);
+        if (LevelSwitch.isTraceEnabled()) {
+            log(LogLevel.TRACE, message, thrown);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg) {
+        if (LevelSwitch.isTraceEnabled() && LogLevel.TRACE.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.TRACE, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isTraceEnabled() && LogLevel.TRACE.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.TRACE, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isTraceEnabled() && LogLevel.TRACE.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.TRACE, format, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object... args) {
+        if (LevelSwitch.isTraceEnabled() && LogLevel.TRACE.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.TRACE, format, args);
+        }
+    }
+
+    @Override
+    public void trace(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isTraceEnabled() && LogLevel.TRACE.isEnabled(effectiveLevel) && permitted(LogLevel.TRACE)) {
+            write(LogLevel.TRACE, messageSupplier.get(), null);
+        }
+    }
+
+    @Override
+    public void trace(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isTraceEnabled() && LogLevel.TRACE.isEnabled(effectiveLevel) && permitted(LogLevel.TRACE)) {
+            write(LogLevel.TRACE, messageSupplier.get(), thrown);
+        }
     }
 
     @Override
     public void debug(String message) {
-        log(LogLevel.DEBUG, message);
+        if (LevelSwitch.isDebugEnabled()) {
+            log(LogLevel.DEBUG, message);
+        }
     }
 
     @Override
     public void debug(String message, Throwable thrown) {
-        log(LogLevel.DEBUG, message, thrown);
+        if (LevelSwitch.isDebugEnabled()) {
+            log(LogLevel.DEBUG, message, thrown);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        if (LevelSwitch.isDebugEnabled() && LogLevel.DEBUG.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.DEBUG, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isDebugEnabled() && LogLevel.DEBUG.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.DEBUG, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isDebugEnabled() && LogLevel.DEBUG.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.DEBUG, format, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object... args) {
+        if (LevelSwitch.isDebugEnabled() && LogLevel.DEBUG.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.DEBUG, format, args);
+        }
+    }
+
+    @Override
+    public void debug(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isDebugEnabled() && LogLevel.DEBUG.isEnabled(effectiveLevel) && permitted(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, messageSupplier.get(), null);
+        }
+    }
+
+    @Override
+    public void debug(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isDebugEnabled() && LogLevel.DEBUG.isEnabled(effectiveLevel) && permitted(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, messageSupplier.get(), thrown);
+        }
     }
 
     @Override
     public void info(String message) {
-        log(LogLevel.INFO, message);
+        if (LevelSwitch.isInfoEnabled()) {
+            log(LogLevel.INFO, message);
+        }
     }
 
     @Override
     public void info(String message, Throwable thrown) {
-        log(LogLevel.INFO, message, thrown);
+        if (LevelSwitch.isInfoEnabled()) {
+            log(LogLevel.INFO, message, thrown);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        if (LevelSwitch.isInfoEnabled() && LogLevel.INFO.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.INFO, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isInfoEnabled() && LogLevel.INFO.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.INFO, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isInfoEnabled() && LogLevel.INFO.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.INFO, format, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public void info(String format, Object... args) {
+        if (LevelSwitch.isInfoEnabled() && LogLevel.INFO.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.INFO, format, args);
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isInfoEnabled() && LogLevel.INFO.isEnabled(effectiveLevel) && permitted(LogLevel.INFO)) {
+            write(LogLevel.INFO, messageSupplier.get(), null);
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isInfoEnabled() && LogLevel.INFO.isEnabled(effectiveLevel) && permitted(LogLevel.INFO)) {
+            write(LogLevel.INFO, messageSupplier.get(), thrown);
+        }
     }
 
     @Override
     public void warn(String message) {
-        log(LogLevel.WARN, message);
+        if (LevelSwitch.isWarnEnabled()) {
+            log(LogLevel.WARN, message);
+        }
     }
 
     @Override
     public void warn(String message, Throwable thrown) {
-        log(LogLevel.WARN, message, thrown);
+        if (LevelSwitch.isWarnEnabled()) {
+            log(LogLevel.WARN, message, thrown);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        if (LevelSwitch.isWarnEnabled() && LogLevel.WARN.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.WARN, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isWarnEnabled() && LogLevel.WARN.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.WARN, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isWarnEnabled() && LogLevel.WARN.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.WARN, format, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object... args) {
+        if (LevelSwitch.isWarnEnabled() && LogLevel.WARN.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.WARN, format, args);
+        }
+    }
+
+    @Override
+    public void warn(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isWarnEnabled() && LogLevel.WARN.isEnabled(effectiveLevel) && permitted(LogLevel.WARN)) {
+            write(LogLevel.WARN, messageSupplier.get(), null);
+        }
+    }
+
+    @Override
+    public void warn(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isWarnEnabled() && LogLevel.WARN.isEnabled(effectiveLevel) && permitted(LogLevel.WARN)) {
+            write(LogLevel.WARN, messageSupplier.get(), thrown);
+        }
     }
 
     @Override
     public void error(String message) {
-        log(LogLevel.ERROR, message);
+        if (LevelSwitch.isErrorEnabled()) {
+            log(LogLevel.ERROR, message);
+        }
     }
 
     @Override
     public void error(String message, Throwable thrown) {
-        log(LogLevel.ERROR, message, thrown);
+        if (LevelSwitch.isErrorEnabled()) {
+            log(LogLevel.ERROR, message, thrown);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg) {
+        if (LevelSwitch.isErrorEnabled() && LogLevel.ERROR.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.ERROR, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isErrorEnabled() && LogLevel.ERROR.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.ERROR, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isErrorEnabled() && LogLevel.ERROR.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.ERROR, format, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public void error(String format, Object... args) {
+        if (LevelSwitch.isErrorEnabled() && LogLevel.ERROR.isEnabled(effectiveLevel)) {
+            logFormatted(LogLevel.ERROR, format, args);
+        }
+    }
+
+    @Override
+    public void error(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isErrorEnabled() && LogLevel.ERROR.isEnabled(effectiveLevel) && permitted(LogLevel.ERROR)) {
+            write(LogLevel.ERROR, messageSupplier.get(), null);
+        }
+    }
+
+    @Override
+    public void error(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isErrorEnabled() && LogLevel.ERROR.isEnabled(effectiveLevel) && permitted(LogLevel.ERROR)) {
+            write(LogLevel.ERROR, messageSupplier.get(), thrown);
+        }
     }
 
     @Override
     public boolean isTraceEnabled() {
-        return LogLevel.TRACE.isEnabled(currentLevel);
+        return LevelSwitch.isTraceEnabled() && LogLevel.TRACE.isEnabled(effectiveLevel);
     }
 
     @Override
     public boolean isDebugEnabled() {
-        return LogLevel.DEBUG.isEnabled(currentLevel);
+        return LevelSwitch.isDebugEnabled() && LogLevel.DEBUG.isEnabled(effectiveLevel);
     }
 
     @Override
     public boolean isInfoEnabled() {
-        return LogLevel.INFO.isEnabled(currentLevel);
+        return LevelSwitch.isInfoEnabled() && LogLevel.INFO.isEnabled(effectiveLevel);
     }
 
     @Override
     public boolean isWarnEnabled() {
-        return LogLevel.WARN.isEnabled(currentLevel);
+        return LevelSwitch.isWarnEnabled() && LogLevel.WARN.isEnabled(effectiveLevel);
     }
 
     @Override
     public boolean isErrorEnabled() {
-        return LogLevel.ERROR.isEnabled(currentLevel);
+        return LevelSwitch.isErrorEnabled() && LogLevel.ERROR.isEnabled(effectiveLevel);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,193 @@
+package io.csh.utils.logging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 로거 이름 접두사와 레벨 조합에 값을 연결하는 규칙 목록
+ *
+ * <p>{@link RateLimits}와 {@link Sampling}이 사용합니다. 로거마다 레벨별로 가장 구체적인 규칙
+ * (가장 긴 접두사, 같으면 레벨이 지정된 규칙)을 골라 배열로 만들어 두면,
+ * 로그 호출 시에는 배열 조회 한 번으로 적용할 값을 찾을 수 있습니다.</p>
+ *
+ * @param <T> 규칙에 연결되는 값의 타입
+ */
+final class LoggerRules<T> {
+    private static final String ALL = "*";
+
+    private final List<Rule<T>> rules = new CopyOnWriteArrayList<>();
+    private final IntFunction<T[]> arrayFactory;
+
+    /**
+     * @param arrayFactory 레벨 수 크기의 배열을 만드는 함수
+     */
+    LoggerRules(IntFunction<T[]> arrayFactory) {
+        this.arrayFactory = arrayFactory;
+    }
+
+    /**
+     * 규칙을 추가합니다. 같은 접두사와 레벨의 기존 규칙은 교체됩니다.
+     *
+     * @param prefix 정규화된 접두사
+     * @param level 레벨 (null이면 모든 레벨)
+     * @param value 연결할 값
+     */
+    synchronized void put(String prefix, LogLevel level, T value) {
+        rules.removeIf(rule -> rule.prefix.equals(prefix) && rule.level == level);
+        rules.add(new Rule<>(prefix, level, value));
+    }
+
+    /**
+     * 규칙을 제거합니다.
+     *
+     * @param prefix 정규화된 접두사
+     * @param level 레벨 (null이면 레벨을 지정하지 않은 규칙)
+     */
+    synchronized void remove(String prefix, LogLevel level) {
+        rules.removeIf(rule -> rule.prefix.equals(prefix) && rule.level == level);
+    }
+
+    /**
+     * 모든 규칙을 제거합니다.
+     */
+    void clear() {
+        rules.clear();
+    }
+
+    boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * 모든 규칙을 순회합니다.
+     *
+     * @param action (규칙 이름, 값)을 받는 함수. 이름은 {@code 접두사:레벨} 형식입니다.
+     */
+    void forEach(BiConsumer<String, T> action) {
+        for (Rule<T> rule : rules) {
+            action.accept((rule.prefix.isEmpty() ? ALL : rule.prefix) + ':'
+                + (rule.level == null ? ALL : rule.level.name()), rule.value);
+        }
+    }
+
+    /**
+     * 로거에 적용할 레벨별 값을 찾습니다.
+     *
+     * @param loggerName 로거 이름
+     * @return {@link LogLevel#ordinal()}로 색인하는 배열, 해당 규칙이 없으면 null
+     */
+    T[] resolve(String loggerName) {
+        if (rules.isEmpty()) {
+            return null;
+        }
+        LogLevel[] levels = LogLevel.values();
+        T[] values = null;
+        for (LogLevel level : levels) {
+            Rule<T> best = null;
+            for (Rule<T> rule : rules) {
+                if ((rule.level == null || rule.level == level) && matches(rule.prefix, loggerName)
+                    && (best == null || rule.isMoreSpecificThan(best))) {
+                    best = rule;
+                }
+            }
+            if (best != null) {
+                if (values == null) {
+                    values = arrayFactory.apply(levels.length);
+                }
+                values[level.ordinal()] = best.value;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 로거 이름이 접두사(패키지 또는 클래스) 아래에 있는지 확인합니다.
+     *
+     * @param prefix 정규화된 접두사 (빈 문자열이면 모든 로거)
+     * @param loggerName 로거 이름
+     * @return 포함되면 true
+     */
+    static boolean matches(String prefix, String loggerName) {
+        if (prefix.isEmpty()) {
+            return true;
+        }
+        return loggerName.startsWith(prefix)
+            && (loggerName.length() == prefix.length() || loggerName.charAt(prefix.length()) == '.'
+                || loggerName.charAt(prefix.length()) == '$');
+    }
+
+    /**
+     * 접두사를 정규화합니다. null, 빈 문자열, {@code *}는 모든 로거를 뜻하는 빈 문자열이 됩니다.
+     *
+     * @param prefix 접두사
+     * @return 정규화된 접두사
+     */
+    static String normalize(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        String trimmed = prefix.trim();
+        return ALL.equals(trimmed) ? "" : trimmed;
+    }
+
+    /**
+     * {@code 접두사[:레벨]=값} 형식의 규칙 목록(세미콜론 구분)을 읽습니다.
+     * 잘못된 항목은 건너뛰고 오류를 출력합니다.
+     *
+     * @param spec 규칙 문자열
+     * @param kind 오류 메시지에 쓸 규칙 종류
+     * @param parser 값 문자열을 해석하는 함수
+     */
+    void parse(String spec, String kind, Function<String, T> parser) {
+        if (spec == null || spec.trim().isEmpty()) {
+            return;
+        }
+        for (String entry : spec.split(";")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                int eq = trimmed.lastIndexOf('=');
+                if (eq <= 0) {
+                    throw new IllegalArgumentException("missing '='");
+                }
+                String target = trimmed.substring(0, eq).trim();
+                LogLevel level = null;
+                int colon = target.lastIndexOf(':');
+                if (colon >= 0) {
+                    level = LogLevel.fromString(target.substring(colon + 1).trim());
+                    target = target.substring(0, colon);
+                }
+                put(normalize(target), level, parser.apply(trimmed.substring(eq + 1).trim()));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid " + kind + " rule: " + trimmed + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+
+    /**
+     * 접두사와 레벨에 값을 연결한 규칙
+     */
+    private static final class Rule<T> {
+        final String prefix;
+        final LogLevel level;
+        final T value;
+
+        Rule(String prefix, LogLevel level, T value) {
+            this.prefix = prefix;
+            this.level = level;
+            this.value = value;
+        }
+
+        boolean isMoreSpecificThan(Rule<T> other) {
+            if (prefix.length() != other.prefix.length()) {
+                return prefix.length() > other.prefix.length();
+            }
+            return level != null && other.level == null;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.csh.utils.logging;
 
+import java.util.function.Supplier;
+
 /**
  * 간편한 로깅을 위한 정적 유틸리티 클래스
  * 
@@ -14,6 +16,23 @@ package io.csh.utils.logging;
  * </pre>
  */
 public final class Logging {
+    /**
+     * 호출 클래스 감지용 StackWalker.
+     * 각 로깅 메서드에서 {@code getCallerClass()}를 직접 호출하므로 스택 전체를 만들지 않고
+     * 바로 위 프레임의 Class 객체만 얻습니다 ({@code Class.forName} 불필요).
+     */
+    private static final StackWalker WALKER =
+        StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /**
+     * 호출 클래스별 로거 캐시
+     */
+    private static final ClassValue<Logger> CALLER_LOGGERS = new ClassValue<Logger>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
     
     private Logging() {
         throw new AssertionError("Utility class");
@@ -25,7 +44,9 @@ public final class Logging {
      * @param message 로그 메시지
      */
     public static void trace(String message) {
-        getLogger().trace(message);
+        if (LevelSwitch.isTraceEnabled()) {
+            loggerFor(WALKER.getCallerClass()).trace(message);
+        }
     }
 
     /**
@@ -35,7 +56,84 @@ public final class Logging {
      * @param thrown 예외 정보
      */
     public static void trace(String message, Throwable thrown) {
-        getLogger().trace(message, thrown);
+        if (LevelSwitch.isTraceEnabled()) {
+            loggerFor(WALKER.getCallerClass()).trace(message, thrown);
+        }
+    }
+
+    /**
+     * TRACE 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    public static void trace(String format, Object arg) {
+        if (LevelSwitch.isTraceEnabled()) {
+            loggerFor(WALKER.getCallerClass()).trace(format, arg);
+        }
+    }
+
+    /**
+     * TRACE 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    public static void trace(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isTraceEnabled()) {
+            loggerFor(WALKER.getCallerClass()).trace(format, arg1, arg2);
+        }
+    }
+
+    /**
+     * TRACE 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    public static void trace(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isTraceEnabled()) {
+            loggerFor(WALKER.getCallerClass()).trace(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * TRACE 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    public static void trace(String format, Object... args) {
+        if (LevelSwitch.isTraceEnabled()) {
+            loggerFor(WALKER.getCallerClass()).trace(format, args);
+        }
+    }
+
+    /**
+     * TRACE 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    public static void trace(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isTraceEnabled()) {
+            loggerFor(WALKER.getCallerClass()).trace(messageSupplier);
+        }
+    }
+
+    /**
+     * TRACE 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    public static void trace(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isTraceEnabled()) {
+            loggerFor(WALKER.getCallerClass()).trace(messageSupplier, thrown);
+        }
     }
 
     /**
@@ -44,7 +142,9 @@ public final class Logging {
      * @param message 로그 메시지
      */
     public static void debug(String message) {
-        getLogger().debug(message);
+        if (LevelSwitch.isDebugEnabled()) {
+            loggerFor(WALKER.getCallerClass()).debug(message);
+        }
     }
 
     /**
@@ -54,7 +154,84 @@ public final class Logging {
      * @param thrown 예외 정보
      */
     public static void debug(String message, Throwable thrown) {
-        getLogger().debug(message, thrown);
+        if (LevelSwitch.isDebugEnabled()) {
+            loggerFor(WALKER.getCallerClass()).debug(message, thrown);
+        }
+    }
+
+    /**
+     * DEBUG 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    public static void debug(String format, Object arg) {
+        if (LevelSwitch.isDebugEnabled()) {
+            loggerFor(WALKER.getCallerClass()).debug(format, arg);
+        }
+    }
+
+    /**
+     * DEBUG 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    public static void debug(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isDebugEnabled()) {
+            loggerFor(WALKER.getCallerClass()).debug(format, arg1, arg2);
+        }
+    }
+
+    /**
+     * DEBUG 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    public static void debug(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isDebugEnabled()) {
+            loggerFor(WALKER.getCallerClass()).debug(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * DEBUG 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    public static void debug(String format, Object... args) {
+        if (LevelSwitch.isDebugEnabled()) {
+            loggerFor(WALKER.getCallerClass()).debug(format, args);
+        }
+    }
+
+    /**
+     * DEBUG 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    public static void debug(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isDebugEnabled()) {
+            loggerFor(WALKER.getCallerClass()).debug(messageSupplier);
+        }
+    }
+
+    /**
+     * DEBUG 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    public static void debug(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isDebugEnabled()) {
+            loggerFor(WALKER.getCallerClass()).debug(messageSupplier, thrown);
+        }
     }
 
     /**
@@ -63,7 +240,9 @@ public final class Logging {
      * @param message 로그 메시지
      */
     public static void info(String message) {
-        getLogger().info(message);
+        if (LevelSwitch.isInfoEnabled()) {
+            loggerFor(WALKER.getCallerClass()).info(message);
+        }
     }
 
     /**
@@ -73,7 +252,84 @@ public final class Logging {
      * @param thrown 예외 정보
      */
     public static void info(String message, Throwable thrown) {
-        getLogger().info(message, thrown);
+        if (LevelSwitch.isInfoEnabled()) {
+            loggerFor(WALKER.getCallerClass()).info(message, thrown);
+        }
+    }
+
+    /**
+     * INFO 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    public static void info(String format, Object arg) {
+        if (LevelSwitch.isInfoEnabled()) {
+            loggerFor(WALKER.getCallerClass()).info(format, arg);
+        }
+    }
+
+    /**
+     * INFO 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    public static void info(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isInfoEnabled()) {
+            loggerFor(WALKER.getCallerClass()).info(format, arg1, arg2);
+        }
+    }
+
+    /**
+     * INFO 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    public static void info(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isInfoEnabled()) {
+            loggerFor(WALKER.getCallerClass()).info(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * INFO 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    public static void info(String format, Object... args) {
+        if (LevelSwitch.isInfoEnabled()) {
+            loggerFor(WALKER.getCallerClass()).info(format, args);
+        }
+    }
+
+    /**
+     * INFO 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    public static void info(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isInfoEnabled()) {
+            loggerFor(WALKER.getCallerClass()).info(messageSupplier);
+        }
+    }
+
+    /**
+     * INFO 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    public static void info(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isInfoEnabled()) {
+            loggerFor(WALKER.getCallerClass()).info(messageSupplier, thrown);
+        }
     }
 
     /**
@@ -82,7 +338,9 @@ public final class Logging {
      * @param message 로그 메시지
      */
     public static void warn(String message) {
-        getLogger().warn(message);
+        if (LevelSwitch.isWarnEnabled()) {
+            loggerFor(WALKER.getCallerClass()).warn(message);
+        }
     }
 
     /**
@@ -92,7 +350,84 @@ public final class Logging {
      * @param thrown 예외 정보
      */
     public static void warn(String message, Throwable thrown) {
-        getLogger().warn(message, thrown);
+        if (LevelSwitch.isWarnEnabled()) {
+            loggerFor(WALKER.getCallerClass()).warn(message, thrown);
+        }
+    }
+
+    /**
+     * WARN 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    public static void warn(String format, Object arg) {
+        if (LevelSwitch.isWarnEnabled()) {
+            loggerFor(WALKER.getCallerClass()).warn(format, arg);
+        }
+    }
+
+    /**
+     * WARN 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    public static void warn(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isWarnEnabled()) {
+            loggerFor(WALKER.getCallerClass()).warn(format, arg1, arg2);
+        }
+    }
+
+    /**
+     * WARN 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    public static void warn(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isWarnEnabled()) {
+            loggerFor(WALKER.getCallerClass()).warn(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * WARN 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    public static void warn(String format, Object... args) {
+        if (LevelSwitch.isWarnEnabled()) {
+            loggerFor(WALKER.getCallerClass()).warn(format, args);
+        }
+    }
+
+    /**
+     * WARN 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    public static void warn(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isWarnEnabled()) {
+            loggerFor(WALKER.getCallerClass()).warn(messageSupplier);
+        }
+    }
+
+    /**
+     * WARN 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    public static void warn(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isWarnEnabled()) {
+            loggerFor(WALKER.getCallerClass()).warn(messageSupplier, thrown);
+        }
     }
 
     /**
@@ -101,7 +436,9 @@ public final class Logging {
      * @param message 로그 메시지
      */
     public static void error(String message) {
-        getLogger().error(message);
+        if (LevelSwitch.isErrorEnabled()) {
+            loggerFor(WALKER.getCallerClass()).error(message);
+        }
     }
 
     /**
@@ -111,7 +448,84 @@ public final class Logging {
      * @param thrown 예외 정보
      */
     public static void error(String message, Throwable thrown) {
-        getLogger().error(message, thrown);
+        if (LevelSwitch.isErrorEnabled()) {
+            loggerFor(WALKER.getCallerClass()).error(message, thrown);
+        }
+    }
+
+    /**
+     * ERROR 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg 인자
+     */
+    public static void error(String format, Object arg) {
+        if (LevelSwitch.isErrorEnabled()) {
+            loggerFor(WALKER.getCallerClass()).error(format, arg);
+        }
+    }
+
+    /**
+     * ERROR 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     */
+    public static void error(String format, Object arg1, Object arg2) {
+        if (LevelSwitch.isErrorEnabled()) {
+            loggerFor(WALKER.getCallerClass()).error(format, arg1, arg2);
+        }
+    }
+
+    /**
+     * ERROR 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     *
+     * @param format 메시지 패턴
+     * @param arg1 첫 번째 인자
+     * @param arg2 두 번째 인자
+     * @param arg3 세 번째 인자
+     */
+    public static void error(String format, Object arg1, Object arg2, Object arg3) {
+        if (LevelSwitch.isErrorEnabled()) {
+            loggerFor(WALKER.getCallerClass()).error(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * ERROR 레벨 로그를 {@code {}} 플레이스홀더 형식으로 기록합니다.
+     * 마지막 인자가 예외이면 예외 정보로 기록됩니다.
+     *
+     * @param format 메시지 패턴
+     * @param args 인자 목록
+     */
+    public static void error(String format, Object... args) {
+        if (LevelSwitch.isErrorEnabled()) {
+            loggerFor(WALKER.getCallerClass()).error(format, args);
+        }
+    }
+
+    /**
+     * ERROR 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     */
+    public static void error(Supplier<String> messageSupplier) {
+        if (LevelSwitch.isErrorEnabled()) {
+            loggerFor(WALKER.getCallerClass()).error(messageSupplier);
+        }
+    }
+
+    /**
+     * ERROR 레벨 로그를 기록합니다. 메시지는 레벨이 활성화된 경우에만 생성됩니다.
+     *
+     * @param messageSupplier 로그 메시지 공급자
+     * @param thrown 예외 정보
+     */
+    public static void error(Supplier<String> messageSupplier, Throwable thrown) {
+        if (LevelSwitch.isErrorEnabled()) {
+            loggerFor(WALKER.getCallerClass()).error(messageSupplier, thrown);
+        }
     }
 
     /**
@@ -120,7 +534,7 @@ public final class Logging {
      * @return 활성화 여부
      */
     public static boolean isTraceEnabled() {
-        return getLogger().isTraceEnabled();
+        return LevelSwitch.isTraceEnabled() && loggerFor(WALKER.getCallerClass()).isTraceEnabled();
     }
 
     /**
@@ -129,7 +543,7 @@ public final class Logging {
      * @return 활성화 여부
      */
     public static boolean isDebugEnabled() {
-        return getLogger().isDebugEnabled();
+        return LevelSwitch.isDebugEnabled() && loggerFor(WALKER.getCallerClass()).isDebugEnabled();
     }
 
     /**
@@ -138,7 +552,7 @@ public final class Logging {
      * @return 활성화 여부
      */
     public static boolean isInfoEnabled() {
-        return getLogger().isInfoEnabled();
+        return LevelSwitch.isInfoEnabled() && loggerFor(WALKER.getCallerClass()).isInfoEnabled();
     }
 
     /**
@@ -147,7 +561,7 @@ public final class Logging {
      * @return 활성화 여부
      */
     public static boolean isWarnEnabled() {
-        return getLogger().isWarnEnabled();
+        return LevelSwitch.isWarnEnabled() && loggerFor(WALKER.getCallerClass()).isWarnEnabled();
     }
 
     /**
@@ -156,7 +570,7 @@ public final class Logging {
      * @return 활성화 여부
      */
     public static boolean isErrorEnabled() {
-        return getLogger().isErrorEnabled();
+        return LevelSwitch.isErrorEnabled() && loggerFor(WALKER.getCallerClass()).isErrorEnabled();
     }
 
     /**
@@ -171,13 +585,34 @@ public final class Logging {
         LogFileManager fileManager = LogFileManager.getInstance();
         fileManager.initialize();
         
-        // 파일에 직접 출력
-        fileManager.writeRaw(message);
+        // 파일에 출력 (비동기 모드에서는 일반 로그와 순서를 맞추기 위해 같은 큐 사용)
+        LogConfig config = LogConfig.getInstance();
+        if (config.isAsyncEnabled()) {
+            LogBuffer buffer = LogBuffer.acquire();
+            try {
+                if (fileManager.getFormat() == LogFormat.BINARY) {
+                    BinaryLogEncoder.beginRaw(buffer);
+                    buffer.putUtf8(message);
+                } else {
+                    buffer.putUtf8(message).putLineSeparator();
+                }
+                AsyncLogWriter.getInstance().publish(buffer, null);
+            } finally {
+                buffer.release();
+            }
+        } else {
+            fileManager.writeRaw(message);
+        }
         
         // 콘솔 출력 설정이 활성화된 경우 콘솔에도 출력
-        LogConfig config = LogConfig.getInstance();
         if (config.isConsoleOutput()) {
-            System.out.println(message);
+            LogBuffer buffer = LogBuffer.acquire();
+            try {
+                buffer.putUtf8(message).putLineSeparator();
+                ConsoleLogWriter.write(buffer, null);
+            } finally {
+                buffer.release();
+            }
         }
     }
 
@@ -229,25 +664,12 @@ public final class Logging {
 
     /**
      * 호출한 클래스의 로거를 반환합니다.
-     * 스택 트레이스를 통해 호출한 클래스를 자동으로 감지합니다.
+     * 클래스별로 한 번만 생성되고 이후에는 {@link ClassValue}에 캐시된 로거를 사용합니다.
      *
+     * @param caller {@link StackWalker#getCallerClass()}로 얻은 호출 클래스
      * @return Logger 인스턴스
      */
-    private static Logger getLogger() {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        // getLogger() -> trace/debug/info/warn/error() -> Logging.trace/debug/info/warn/error() -> 호출한 메서드
-        // 따라서 인덱스 3이 실제 호출한 클래스
-        if (stackTrace.length > 3) {
-            String className = stackTrace[3].getClassName();
-            try {
-                Class<?> clazz = Class.forName(className);
-                return LoggerFactory.getLogger(clazz);
-            } catch (ClassNotFoundException e) {
-                // 클래스를 찾을 수 없는 경우 기본 로거 사용
-                return LoggerFactory.getLogger(Logging.class);
-            }
-        }
-        // 스택 트레이스가 부족한 경우 기본 로거 사용
-        return LoggerFactory.getLogger(Logging.class);
+    private static Logger loggerFor(Class<?> caller) {
+        return CALLER_LOGGERS.get(caller);
     }
-} 
\ No newline at end of file
+}
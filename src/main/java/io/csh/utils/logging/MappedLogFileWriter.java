@@ -0,0 +1,168 @@
+package io.csh.utils.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑({@link MappedByteBuffer}) 기반 로그 파일 기록기
+ *
+ * <p>파일 끝에서부터 일정 크기의 영역을 미리 매핑해 두고 로그를 메모리 복사로 기록합니다.
+ * 디스크 반영은 운영체제가 처리하므로 로그마다 시스템 콜이 없습니다.
+ * 영역이 가득 차면 바로 다음 위치에 새 영역을 매핑하고, 파일을 닫을 때
+ * 사용하지 않은 뒷부분을 잘라냅니다.</p>
+ *
+ * <p>{@link Durability#FLUSH}에서는 flush마다 현재 영역을 디스크에 동기화하고, 가득 차서 넘어가는 영역은
+ * 새 영역을 매핑하기 전에 동기화합니다. 영역보다 커서 채널로 직접 기록한 로그는 다음 flush에서
+ * {@link FileChannel#force(boolean)}로 동기화합니다.</p>
+ *
+ * <p>비정상 종료로 뒷부분이 잘리지 않은 파일을 다시 열면, 끝에서부터 0으로 채워진
+ * 부분을 건너뛰고 실제 데이터 끝에서 이어서 기록합니다.</p>
+ */
+final class MappedLogFileWriter implements LogFileWriter {
+    private static final int SCAN_CHUNK = 8192;
+
+    private final FileChannel channel;
+    private final long regionSize;
+    private final Durability durability;
+    private final long initialSize;
+    private MappedByteBuffer region;
+    private long regionStart;
+    /** 마지막 flush 이후 채널로 직접 기록한 로그가 있는지 여부 */
+    private boolean channelWritten;
+
+    /**
+     * 파일을 열고 데이터 끝에서부터 첫 영역을 매핑합니다.
+     *
+     * @param path 로그 파일 경로
+     * @param regionSize 한 번에 매핑할 크기 (바이트)
+     * @param durability 디스크 동기화 수준
+     * @throws IOException 파일을 열거나 매핑할 수 없는 경우
+     */
+    MappedLogFileWriter(Path path, long regionSize, Durability durability) throws IOException {
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.regionSize = Math.max(64 * 1024, regionSize);
+        this.durability = durability;
+        try {
+            this.initialSize = findEndOfData();
+            map(initialSize);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(LogBuffer record) throws IOException {
+        int length = record.length();
+        if (length > region.remaining()) {
+            retireRegion();
+            map(position());
+            if (length > region.remaining()) {
+                // 영역보다 큰 로그는 채널로 직접 기록
+                ByteBuffer source = record.byteBuffer();
+                long target = regionStart;
+                while (source.hasRemaining()) {
+                    target += channel.write(source, target);
+                }
+                channelWritten = true;
+                map(target);
+                return;
+            }
+        }
+        region.put(record.array(), 0, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (durability == Durability.FLUSH) {
+            region.force();
+            if (channelWritten) {
+                channel.force(false);
+                channelWritten = false;
+            }
+        }
+    }
+
+    @Override
+    public long initialSize() {
+        return initialSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            long end = position();
+            if (durability != Durability.NONE) {
+                region.force();
+            }
+            region = null;
+            channel.truncate(end);
+            if (durability != Durability.NONE) {
+                channel.force(true);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * 현재까지 기록된 파일 크기를 반환합니다.
+     */
+    private long position() {
+        return regionStart + region.position();
+    }
+
+    /**
+     * 더 이상 기록하지 않을 현재 영역을 {@link Durability#FLUSH}이면 디스크에 동기화합니다.
+     * 매핑을 버린 뒤에는 동기화할 방법이 없으므로 새 영역을 매핑하기 전에 호출합니다.
+     */
+    private void retireRegion() {
+        if (durability == Durability.FLUSH) {
+            region.force();
+        }
+    }
+
+    private void map(long start) throws IOException {
+        boolean interrupted = Thread.interrupted();
+        try {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, start, regionSize);
+            regionStart = start;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 파일 끝의 0으로 채워진(미리 할당만 된) 부분을 제외한 실제 데이터 끝을 찾습니다.
+     */
+    private long findEndOfData() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return 0;
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(SCAN_CHUNK);
+        long end = size;
+        long limit = Math.max(0, size - regionSize);
+        while (end > limit) {
+            long start = Math.max(limit, end - SCAN_CHUNK);
+            chunk.clear().limit((int) (end - start));
+            while (chunk.hasRemaining() && channel.read(chunk, start + chunk.position()) > 0) {
+                // 읽기 반복
+            }
+            for (int i = chunk.position() - 1; i >= 0; i--) {
+                if (chunk.get(i) != 0) {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return end;
+    }
+}
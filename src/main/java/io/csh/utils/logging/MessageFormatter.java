@@ -0,0 +1,137 @@
+package io.csh.utils.logging;
+
+import java.util.Arrays;
+
+/**
+ * {@code {}} 플레이스홀더 메시지 포맷팅을 담당하는 클래스
+ *
+ * <p>플레이스홀더는 인자 순서대로 치환되며, 인자보다 플레이스홀더가 많으면 남은
+ * {@code {}}는 그대로 출력됩니다. 마지막 인자가 {@link Throwable}이면 치환에 사용하지 않고
+ * 예외 정보로 취급합니다 (SLF4J와 동일한 규칙).</p>
+ *
+ * <p>로거는 레벨 확인을 통과한 뒤에만 이 클래스를 호출합니다.</p>
+ */
+final class MessageFormatter {
+    private static final String PLACEHOLDER = "{}";
+
+    private MessageFormatter() {}
+
+    /**
+     * 인자 배열에서 예외 정보로 사용할 마지막 {@link Throwable}을 찾습니다.
+     *
+     * @param args 인자 배열
+     * @return 마지막 인자가 Throwable이면 해당 예외, 아니면 null
+     */
+    static Throwable getThrowableCandidate(Object[] args) {
+        if (args == null || args.length == 0) {
+            return null;
+        }
+        Object last = args[args.length - 1];
+        return last instanceof Throwable ? (Throwable) last : null;
+    }
+
+    /**
+     * 치환에 사용할 인자 수를 반환합니다 (마지막 예외 인자 제외).
+     *
+     * @param args 인자 배열
+     * @return 치환 인자 수
+     */
+    static int argumentCount(Object[] args) {
+        if (args == null) {
+            return 0;
+        }
+        return getThrowableCandidate(args) != null ? args.length - 1 : args.length;
+    }
+
+    /**
+     * 플레이스홀더를 인자로 치환한 메시지를 반환합니다.
+     *
+     * @param pattern 메시지 패턴
+     * @param args 인자 배열
+     * @return 치환된 메시지
+     */
+    static String format(String pattern, Object[] args) {
+        if (pattern == null) {
+            return null;
+        }
+        int argCount = argumentCount(args);
+        if (argCount == 0) {
+            return pattern;
+        }
+
+        StringBuilder sb = new StringBuilder(pattern.length() + 16 * argCount);
+        formatTo(sb, pattern, args, argCount);
+        return sb.toString();
+    }
+
+    /**
+     * 플레이스홀더를 인자로 치환하여 {@code sb}에 추가합니다.
+     *
+     * @param sb 출력 버퍼
+     * @param pattern 메시지 패턴
+     * @param args 인자 배열
+     * @param argCount 치환에 사용할 인자 수
+     */
+    static void formatTo(StringBuilder sb, String pattern, Object[] args, int argCount) {
+        if (pattern == null) {
+            sb.append("null");
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i < argCount; i++) {
+            int index = pattern.indexOf(PLACEHOLDER, start);
+            if (index < 0) {
+                break;
+            }
+            sb.append(pattern, start, index);
+            appendArg(sb, args[i]);
+            start = index + PLACEHOLDER.length();
+        }
+        sb.append(pattern, start, pattern.length());
+    }
+
+    /**
+     * 인자 하나를 문자열로 추가합니다. 배열은 내용을, {@code toString()} 실패는 실패 표시를 기록합니다.
+     *
+     * @param sb 출력 버퍼
+     * @param arg 인자
+     */
+    static void appendArg(StringBuilder sb, Object arg) {
+        if (arg == null) {
+            sb.append("null");
+            return;
+        }
+        try {
+            if (arg.getClass().isArray()) {
+                appendArray(sb, arg);
+            } else {
+                sb.append(arg);
+            }
+        } catch (RuntimeException e) {
+            // toString() 실패가 로깅 호출자에게 전파되지 않도록 함
+            sb.append("[FAILED toString(): ").append(e.getClass().getName()).append(']');
+        }
+    }
+
+    private static void appendArray(StringBuilder sb, Object array) {
+        if (array instanceof Object[]) {
+            sb.append(Arrays.deepToString((Object[]) array));
+        } else if (array instanceof int[]) {
+            sb.append(Arrays.toString((int[]) array));
+        } else if (array instanceof long[]) {
+            sb.append(Arrays.toString((long[]) array));
+        } else if (array instanceof double[]) {
+            sb.append(Arrays.toString((double[]) array));
+        } else if (array instanceof float[]) {
+            sb.append(Arrays.toString((float[]) array));
+        } else if (array instanceof boolean[]) {
+            sb.append(Arrays.toString((boolean[]) array));
+        } else if (array instanceof byte[]) {
+            sb.append(Arrays.toString((byte[]) array));
+        } else if (array instanceof short[]) {
+            sb.append(Arrays.toString((short[]) array));
+        } else {
+            sb.append(Arrays.toString((char[]) array));
+        }
+    }
+}
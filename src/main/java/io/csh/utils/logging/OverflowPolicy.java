@@ -0,0 +1,41 @@
+package io.csh.utils.logging;
+
+/**
+ * 비동기 로깅 큐가 가득 찼을 때의 처리 정책
+ */
+public enum OverflowPolicy {
+    /**
+     * 큐에 빈 자리가 생길 때까지 호출 스레드를 대기시킵니다 (기본값).
+     * 로그 유실이 없지만 디스크가 느리면 애플리케이션도 느려집니다.
+     */
+    BLOCK,
+
+    /**
+     * 새 로그를 버리고 즉시 반환합니다. 버려진 개수는 집계되어 로그 파일에 기록됩니다.
+     */
+    DROP,
+
+    /**
+     * 설정된 기준 레벨({@code csh.logging.async.drop-threshold}) 미만의 로그는 버리고,
+     * 그 이상의 로그는 {@link #BLOCK}과 같이 대기합니다.
+     */
+    DROP_BELOW_LEVEL;
+
+    /**
+     * 문자열에서 OverflowPolicy를 찾습니다.
+     *
+     * @param value 정책 문자열
+     * @return OverflowPolicy 인스턴스
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static OverflowPolicy fromString(String value) {
+        if (value == null) {
+            return BLOCK;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported overflow policy: " + value);
+        }
+    }
+}
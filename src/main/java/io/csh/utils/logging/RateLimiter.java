@@ -0,0 +1,97 @@
+package io.csh.utils.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 방식의 로그 출력 제한기
+ *
+ * <p>토큰 버킷과 동일하게 동작하는 GCRA(Generic Cell Rate Algorithm)로 구현되어,
+ * 상태는 "다음 토큰이 생기는 이론상 시각" 하나뿐입니다. 허용 여부는
+ * {@link System#nanoTime()} 한 번과 compare-and-set 한 번으로 결정되며 객체를 만들지 않습니다.</p>
+ *
+ * <p>{@link RateLimits}에 등록하면 로거 이름 접두사와 레벨에 맞는 로거에 연결됩니다.</p>
+ */
+public final class RateLimiter {
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long reportedDropCount;
+
+    /**
+     * @param permitsPerSecond 초당 허용 로그 수 (0보다 커야 함)
+     * @param burst 한 번에 몰아서 허용할 수 있는 최대 로그 수 (1 이상)
+     * @throws IllegalArgumentException 값이 올바르지 않은 경우
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (this.burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - toleranceNanos);
+    }
+
+    /**
+     * 로그 한 줄을 출력해도 되는지 확인하고, 허용되면 토큰 하나를 사용합니다.
+     * 허용되지 않으면 버려진 로그 수를 하나 늘립니다.
+     *
+     * @return 출력해도 되면 true
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = arrival - now > 0 ? arrival : now;
+            if (start - now > toleranceNanos) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 초당 허용 로그 수를 반환합니다.
+     *
+     * @return 초당 허용 로그 수
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * 한 번에 허용할 수 있는 최대 로그 수를 반환합니다.
+     *
+     * @return 최대 연속 허용 수
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * 지금까지 버려진 로그 수를 반환합니다.
+     *
+     * @return 버려진 로그 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 마지막 호출 이후 새로 버려진 로그 수를 반환합니다. 요약 보고 스레드만 호출합니다.
+     */
+    long takeNewDrops() {
+        long dropped = droppedCount.get();
+        long delta = dropped - reportedDropCount;
+        reportedDropCount = dropped;
+        return delta;
+    }
+}
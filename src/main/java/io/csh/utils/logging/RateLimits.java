@@ -0,0 +1,197 @@
+package io.csh.utils.logging;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로거별 출력 제한({@link RateLimiter}) 규칙을 관리하는 클래스
+ *
+ * <p>규칙은 로거 이름 접두사와 레벨의 조합에 제한기를 연결합니다. 로거마다 레벨별로
+ * 가장 구체적인 규칙(가장 긴 접두사, 같으면 레벨이 지정된 규칙)을 골라 미리 연결해 두므로,
+ * 로그 호출 시에는 배열 조회 한 번과 {@link RateLimiter#tryAcquire()}만 수행합니다.
+ * 같은 규칙에 연결된 로거들은 제한기를 공유하므로 접두사 단위의 전체 상한이 됩니다.</p>
+ *
+ * <pre>
+ * // com.acme.payments 아래 로거의 WARN 로그를 초당 50줄로 제한
+ * RateLimits.limit("com.acme.payments", LogLevel.WARN, 50, 50);
+ * </pre>
+ *
+ * <p>시스템 프로퍼티 또는 application.properties로도 설정할 수 있습니다.
+ * 형식은 {@code 접두사[:레벨]=초당수[/버스트]}이며 세미콜론으로 구분합니다. 접두사 {@code *}는 모든 로거입니다.</p>
+ * <pre>
+ * -Dcsh.logging.ratelimit.rules=com.acme.payments:WARN=50;*:DEBUG=1000/2000
+ * </pre>
+ *
+ * <p>버려진 로그 수는 {@code csh.logging.ratelimit.report-interval-ms}마다 요약 한 줄로 기록됩니다.</p>
+ */
+public final class RateLimits {
+    private static final LoggerRules<RateLimiter> rules = new LoggerRules<>(RateLimiter[]::new);
+    private static final String NAME = RateLimits.class.getName();
+    private static final byte[] ENCODED_NAME = LogFormatter.encodeName(NAME);
+    private static volatile ScheduledExecutorService reporter;
+
+    static {
+        rules.parse(LogConfig.getInstance().getRateLimitRules(), "rate limit", RateLimits::parseLimiter);
+        if (!rules.isEmpty()) {
+            startReporter();
+        }
+    }
+
+    private RateLimits() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 로거 이름 접두사와 레벨에 출력 제한을 설정합니다. 같은 접두사와 레벨의 기존 규칙은 교체됩니다.
+     *
+     * @param loggerPrefix 로거 이름 접두사 (패키지 또는 클래스 이름, {@code *}나 빈 문자열이면 모든 로거)
+     * @param level 제한할 레벨 (null이면 모든 레벨이 제한기 하나를 공유)
+     * @param permitsPerSecond 초당 허용 로그 수
+     * @param burst 한 번에 몰아서 허용할 수 있는 최대 로그 수
+     * @return 연결된 제한기
+     */
+    public static RateLimiter limit(String loggerPrefix, LogLevel level, double permitsPerSecond, int burst) {
+        String prefix = LoggerRules.normalize(loggerPrefix);
+        RateLimiter limiter = new RateLimiter(permitsPerSecond, burst);
+        rules.put(prefix, level, limiter);
+        startReporter();
+        LoggerImpl.refreshRules(prefix);
+        return limiter;
+    }
+
+    /**
+     * 특정 클래스의 로거에 출력 제한을 설정합니다.
+     *
+     * @param clazz 로거 클래스
+     * @param level 제한할 레벨 (null이면 모든 레벨)
+     * @param permitsPerSecond 초당 허용 로그 수
+     * @param burst 한 번에 몰아서 허용할 수 있는 최대 로그 수
+     * @return 연결된 제한기
+     */
+    public static RateLimiter limit(Class<?> clazz, LogLevel level, double permitsPerSecond, int burst) {
+        return limit(clazz.getName(), level, permitsPerSecond, burst);
+    }
+
+    /**
+     * 출력 제한 규칙을 제거합니다.
+     *
+     * @param loggerPrefix 로거 이름 접두사
+     * @param level 레벨 (null이면 레벨을 지정하지 않은 규칙)
+     */
+    public static void remove(String loggerPrefix, LogLevel level) {
+        String prefix = LoggerRules.normalize(loggerPrefix);
+        rules.remove(prefix, level);
+        LoggerImpl.refreshRules(prefix);
+    }
+
+    /**
+     * 모든 출력 제한 규칙을 제거합니다.
+     */
+    public static void clear() {
+        rules.clear();
+        LoggerImpl.refreshRules("");
+    }
+
+    /**
+     * 로거에 연결할 레벨별 제한기를 찾습니다.
+     *
+     * @param loggerName 로거 이름
+     * @return {@link LogLevel#ordinal()}로 색인하는 제한기 배열, 해당 규칙이 없으면 null
+     */
+    static RateLimiter[] resolve(String loggerName) {
+        return rules.resolve(loggerName);
+    }
+
+    /**
+     * {@code 초당수[/버스트]} 형식의 제한을 읽습니다.
+     */
+    private static RateLimiter parseLimiter(String rate) {
+        int slash = rate.indexOf('/');
+        if (slash >= 0) {
+            return new RateLimiter(Double.parseDouble(rate.substring(0, slash).trim()),
+                Integer.parseInt(rate.substring(slash + 1).trim()));
+        }
+        double permitsPerSecond = Double.parseDouble(rate);
+        return new RateLimiter(permitsPerSecond, (int) Math.max(1, Math.ceil(permitsPerSecond)));
+    }
+
+    private static synchronized void startReporter() {
+        if (reporter != null) {
+            return;
+        }
+        long interval = Math.max(100, LogConfig.getInstance().getRateLimitReportIntervalMillis());
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "RateLimits-Reporter");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(RateLimits::reportDrops, interval, interval, TimeUnit.MILLISECONDS);
+        reporter = executor;
+    }
+
+    /**
+     * 직전 보고 이후 버려진 로그가 있으면 규칙별 개수를 요약 한 줄로 기록합니다.
+     * 일반 로그와 같은 경로를 타므로 콘솔은 콘솔 형식으로 콘솔 기록 스레드에, 파일은 비동기 모드이면
+     * 비동기 큐에 넣고, 보고 스레드가 표준 에러나 파일 락을 직접 기다리지 않습니다.
+     */
+    private static void reportDrops() {
+        long[] total = new long[1];
+        StringBuilder detail = new StringBuilder();
+        rules.forEach((rule, limiter) -> {
+            long dropped = limiter.takeNewDrops();
+            if (dropped <= 0) {
+                return;
+            }
+            total[0] += dropped;
+            if (detail.length() > 0) {
+                detail.append(", ");
+            }
+            detail.append(rule).append('=').append(dropped);
+        });
+        if (total[0] == 0) {
+            return;
+        }
+        String message = "Rate limit dropped " + total[0] + " log lines (" + detail + ")";
+        LogConfig config = LogConfig.getInstance();
+        LogFileManager fileManager = LogFileManager.getInstance();
+        LogFormat fileFormat = fileManager.getFormat();
+        long millis = LogClock.currentTimeMillis();
+        LogBuffer buffer = LogBuffer.acquire();
+        try {
+            if (config.isConsoleOutput()) {
+                LogFormat consoleFormat = config.getConsoleFormat();
+                encode(buffer, consoleFormat, millis, message);
+                ConsoleLogWriter.write(buffer, LogLevel.WARN);
+                if (consoleFormat == fileFormat) {
+                    writeFile(config, fileManager, buffer);
+                    return;
+                }
+                buffer.reset();
+            }
+            encode(buffer, fileFormat, millis, message);
+            writeFile(config, fileManager, buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 요약 한 줄(바이너리 형식이 아니면 줄 구분자 포함)을 인코딩합니다.
+     */
+    private static void encode(LogBuffer buffer, LogFormat format, long millis, String message) {
+        LogFormatter.encodeTo(buffer, format, millis, LogLevel.WARN, null, NAME, ENCODED_NAME, message,
+            null, null, null, null, false);
+        if (format != LogFormat.BINARY) {
+            buffer.putLineSeparator();
+        }
+    }
+
+    private static void writeFile(LogConfig config, LogFileManager fileManager, LogBuffer buffer) {
+        if (config.isAsyncEnabled()) {
+            AsyncLogWriter.getInstance().publish(buffer, LogLevel.WARN);
+        } else {
+            fileManager.write(buffer, LogLevel.WARN);
+        }
+    }
+}
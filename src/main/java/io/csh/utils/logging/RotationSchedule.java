@@ -0,0 +1,115 @@
+package io.csh.utils.logging;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 시간 기준 회전 경계를 계산하는 클래스
+ *
+ * <p>현재 구간의 시작 시각과 다음 경계 시각(epoch 밀리초)을 미리 계산해 두므로,
+ * 로그를 기록할 때는 현재 시각과 다음 경계를 한 번 비교하기만 하면 됩니다.
+ * 구간은 지정한 시간대의 자정을 기준으로 나누며, 일광 절약 시간 전환도 반영합니다.</p>
+ */
+final class RotationSchedule {
+    private static final DateTimeFormatter DAY_LABEL = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter HOUR_LABEL = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH");
+    private static final DateTimeFormatter MINUTE_LABEL = DateTimeFormatter.ofPattern("yyyy-MM-dd-HHmm");
+
+    private final RotationUnit unit;
+    private final int value;
+    private final ZoneId zone;
+
+    /**
+     * @param unit 회전 단위
+     * @param value 단위 개수 (1 이상). 시간/분 단위에서는 하루를 넘지 않도록 자정에서 다시 시작합니다.
+     * @param zone 구간을 나눌 시간대
+     */
+    RotationSchedule(RotationUnit unit, int value, ZoneId zone) {
+        this.unit = unit;
+        this.value = Math.max(1, value);
+        this.zone = zone;
+    }
+
+    /**
+     * 설정에서 회전 일정을 만듭니다.
+     *
+     * @param config 로그 설정
+     * @return 회전 일정
+     */
+    static RotationSchedule from(LogConfig config) {
+        return new RotationSchedule(config.getRotationUnit(), config.getRotationValue(), config.getRotationZone());
+    }
+
+    /**
+     * 주어진 시각이 속한 구간의 시작 시각(현지 시각)을 반환합니다.
+     */
+    private LocalDateTime periodStart(long epochMillis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+        LocalDateTime midnight = time.toLocalDate().atStartOfDay();
+        switch (unit) {
+            case HOUR:
+                return midnight.plusHours(time.getHour() - time.getHour() % value);
+            case MINUTE: {
+                int minuteOfDay = time.getHour() * 60 + time.getMinute();
+                return midnight.plusMinutes(minuteOfDay - minuteOfDay % value);
+            }
+            default:
+                return midnight;
+        }
+    }
+
+    /**
+     * 주어진 시각 이후 처음 오는 회전 경계(epoch 밀리초)를 반환합니다.
+     * 경계는 현지 시각 기준으로 정하며, 일광 절약 시간 해제로 같은 현지 시각이
+     * 반복되더라도 항상 주어진 시각보다 뒤의 값을 반환합니다.
+     *
+     * @param epochMillis 기준 시각
+     * @return 다음 경계 시각
+     */
+    long nextBoundary(long epochMillis) {
+        LocalDateTime start = periodStart(epochMillis);
+        LocalDateTime next;
+        switch (unit) {
+            case HOUR:
+                next = start.plusHours(value);
+                break;
+            case MINUTE:
+                next = start.plusMinutes(value);
+                break;
+            default:
+                next = start.plusDays(value);
+                break;
+        }
+        LocalDateTime nextMidnight = start.toLocalDate().plusDays(1).atStartOfDay();
+        if (unit != RotationUnit.DAY && next.isAfter(nextMidnight)) {
+            next = nextMidnight;
+        }
+        ZonedDateTime boundary = next.atZone(zone);
+        while (boundary.toInstant().toEpochMilli() <= epochMillis) {
+            boundary = boundary.plus(value, unit == RotationUnit.MINUTE ? ChronoUnit.MINUTES : ChronoUnit.HOURS);
+        }
+        return boundary.toInstant().toEpochMilli();
+    }
+
+    /**
+     * 주어진 시각이 속한 구간의 파일명 표기를 반환합니다.
+     *
+     * @param epochMillis 기준 시각
+     * @return {@code yyyy-MM-dd}, {@code yyyy-MM-dd-HH} 또는 {@code yyyy-MM-dd-HHmm}
+     */
+    String label(long epochMillis) {
+        LocalDateTime start = periodStart(epochMillis);
+        switch (unit) {
+            case HOUR:
+                return HOUR_LABEL.format(start);
+            case MINUTE:
+                return MINUTE_LABEL.format(start);
+            default:
+                return DAY_LABEL.format(start);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.csh.utils.logging;
+
+/**
+ * 시간 기준 로그 파일 회전 단위
+ *
+ * <p>{@code csh.logging.rotation.value}와 함께 사용합니다.
+ * 예를 들어 {@code MINUTE}과 {@code 15}이면 매시 0, 15, 30, 45분에 새 파일을 엽니다.</p>
+ */
+public enum RotationUnit {
+    /**
+     * 하루 단위 (기본값, 기존 동작). 파일명: {@code prefix_yyyy-MM-dd_N.log}
+     */
+    DAY,
+
+    /**
+     * 시간 단위. 파일명: {@code prefix_yyyy-MM-dd-HH_N.log}
+     */
+    HOUR,
+
+    /**
+     * 분 단위. 파일명: {@code prefix_yyyy-MM-dd-HHmm_N.log}
+     */
+    MINUTE;
+
+    /**
+     * 문자열에서 RotationUnit을 찾습니다. {@code DAILY}, {@code HOURLY}도 허용합니다.
+     *
+     * @param value 단위 문자열
+     * @return RotationUnit 인스턴스
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static RotationUnit fromString(String value) {
+        if (value == null) {
+            return DAY;
+        }
+        String normalized = value.trim().toUpperCase();
+        switch (normalized) {
+            case "DAILY":
+                return DAY;
+            case "HOURLY":
+                return HOUR;
+            default:
+                break;
+        }
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported rotation unit: " + value);
+        }
+    }
+}
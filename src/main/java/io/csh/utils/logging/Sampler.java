@@ -0,0 +1,142 @@
+package io.csh.utils.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로그 샘플러
+ *
+ * <p>로그를 모두 출력하거나 모두 버리는 대신 일부만 출력합니다. "N개 중 1개"
+ * ({@link #oneIn(int)}) 또는 "확률 p"({@link #probability(double)})로 만들 수 있으며,
+ * 판정은 {@link ThreadLocalRandom}을 사용하므로 스레드 간 경합과 객체 할당이 없습니다.</p>
+ *
+ * <p>샘플링되어 출력된 로그 줄에는 메시지 뒤에 {@code [sampled 1/1000]} 또는
+ * {@code [sampled p=0.01]}처럼 샘플링 비율이 붙으므로, 집계할 때 비율을 곱해 원래 건수를 추정할 수 있습니다.</p>
+ *
+ * <p>샘플러는 상태가 없으므로 비율이 같으면 같은 샘플러로 취급합니다({@link #equals}).</p>
+ *
+ * <pre>
+ * // 호출 위치별 샘플링: 샘플링 로거는 필드에 한 번만 만들어 둠
+ * private static final Logger CACHE_LOG = logger.sampled(Sampler.oneIn(1000));
+ *
+ * CACHE_LOG.debug("cache hit: {}", key);
+ * </pre>
+ */
+public final class Sampler {
+    private final int every;
+    private final double probability;
+    private final byte[] tag;
+    private final String tagText;
+
+    private Sampler(int every, double probability, String tag) {
+        this.every = every;
+        this.probability = probability;
+        this.tag = tag.getBytes(StandardCharsets.US_ASCII);
+        this.tagText = tag;
+    }
+
+    /**
+     * N개 중 평균 1개를 출력하는 샘플러를 만듭니다.
+     *
+     * @param n 샘플링 간격 (1이면 모두 출력)
+     * @return 샘플러
+     */
+    public static Sampler oneIn(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Sampling interval must be at least 1: " + n);
+        }
+        return new Sampler(n, 1.0 / n, " [sampled 1/" + n + "]");
+    }
+
+    /**
+     * 확률 p로 출력하는 샘플러를 만듭니다.
+     *
+     * @param p 출력 확률 (0 초과 1 이하)
+     * @return 샘플러
+     */
+    public static Sampler probability(double p) {
+        if (!(p > 0 && p <= 1)) {
+            throw new IllegalArgumentException("Sampling probability must be in (0, 1]: " + p);
+        }
+        return new Sampler(0, p, " [sampled p=" + p + "]");
+    }
+
+    /**
+     * {@code 1/N}, {@code k/N} 또는 확률({@code 0.01}) 형식의 문자열로 샘플러를 만듭니다.
+     *
+     * @param spec 샘플링 비율 문자열
+     * @return 샘플러
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static Sampler parse(String spec) {
+        String trimmed = spec.trim();
+        int slash = trimmed.indexOf('/');
+        if (slash < 0) {
+            return probability(Double.parseDouble(trimmed));
+        }
+        int numerator = Integer.parseInt(trimmed.substring(0, slash).trim());
+        int denominator = Integer.parseInt(trimmed.substring(slash + 1).trim());
+        if (numerator == 1) {
+            return oneIn(denominator);
+        }
+        return probability((double) numerator / denominator);
+    }
+
+    /**
+     * 이번 로그를 출력할지 결정합니다.
+     *
+     * @return 출력하면 true
+     */
+    public boolean sample() {
+        if (every > 0) {
+            return every == 1 || ThreadLocalRandom.current().nextInt(every) == 0;
+        }
+        return ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    /**
+     * 출력 확률을 반환합니다.
+     *
+     * @return 출력 확률
+     */
+    public double getRate() {
+        return probability;
+    }
+
+    /**
+     * 로그 줄에 붙일 샘플링 표시를 반환합니다.
+     */
+    byte[] tag() {
+        return tag;
+    }
+
+    /**
+     * 샘플링 표시를 문자열로 반환합니다 (바이너리 형식의 사전 등록용).
+     */
+    String tagText() {
+        return tagText;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Sampler)) {
+            return false;
+        }
+        Sampler other = (Sampler) o;
+        return every == other.every && Double.compare(probability, other.probability) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(every, probability);
+    }
+
+    @Override
+    public String toString() {
+        return every > 0 ? "1/" + every : "p=" + probability;
+    }
+}
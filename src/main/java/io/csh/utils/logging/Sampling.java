@@ -0,0 +1,88 @@
+package io.csh.utils.logging;
+
+/**
+ * 로거별 샘플링({@link Sampler}) 규칙을 관리하는 클래스
+ *
+ * <p>규칙은 로거 이름 접두사와 레벨의 조합에 샘플러를 연결합니다. {@link RateLimits}와 같이
+ * 로거마다 레벨별로 가장 구체적인 규칙을 미리 연결해 두므로, 로그 호출 시에는
+ * 배열 조회 한 번과 {@link Sampler#sample()}만 수행합니다. 샘플링은 레벨 확인 직후,
+ * 출력 제한과 메시지 포맷팅보다 먼저 적용됩니다.</p>
+ *
+ * <pre>
+ * // com.acme.cache 아래 로거의 DEBUG 로그를 1000개 중 1개만 출력
+ * Sampling.sample("com.acme.cache", LogLevel.DEBUG, Sampler.oneIn(1000));
+ * </pre>
+ *
+ * <p>시스템 프로퍼티 또는 application.properties로도 설정할 수 있습니다.
+ * 형식은 {@code 접두사[:레벨]=비율}이며 세미콜론으로 구분합니다. 비율은 {@code 1/N} 또는 확률입니다.</p>
+ * <pre>
+ * -Dcsh.logging.sampling.rules=com.acme.cache:DEBUG=1/1000;com.acme.http:INFO=0.05
+ * </pre>
+ *
+ * <p>호출 위치별로 샘플링하려면 {@link Logger#sampled(Sampler)}를 사용합니다.</p>
+ */
+public final class Sampling {
+    private static final LoggerRules<Sampler> rules = new LoggerRules<>(Sampler[]::new);
+
+    static {
+        rules.parse(LogConfig.getInstance().getSamplingRules(), "sampling", Sampler::parse);
+    }
+
+    private Sampling() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 로거 이름 접두사와 레벨에 샘플러를 설정합니다. 같은 접두사와 레벨의 기존 규칙은 교체됩니다.
+     *
+     * @param loggerPrefix 로거 이름 접두사 (패키지 또는 클래스 이름, {@code *}나 빈 문자열이면 모든 로거)
+     * @param level 샘플링할 레벨 (null이면 모든 레벨)
+     * @param sampler 샘플러
+     */
+    public static void sample(String loggerPrefix, LogLevel level, Sampler sampler) {
+        String prefix = LoggerRules.normalize(loggerPrefix);
+        rules.put(prefix, level, sampler);
+        LoggerImpl.refreshRules(prefix);
+    }
+
+    /**
+     * 특정 클래스의 로거에 샘플러를 설정합니다.
+     *
+     * @param clazz 로거 클래스
+     * @param level 샘플링할 레벨 (null이면 모든 레벨)
+     * @param sampler 샘플러
+     */
+    public static void sample(Class<?> clazz, LogLevel level, Sampler sampler) {
+        sample(clazz.getName(), level, sampler);
+    }
+
+    /**
+     * 샘플링 규칙을 제거합니다.
+     *
+     * @param loggerPrefix 로거 이름 접두사
+     * @param level 레벨 (null이면 레벨을 지정하지 않은 규칙)
+     */
+    public static void remove(String loggerPrefix, LogLevel level) {
+        String prefix = LoggerRules.normalize(loggerPrefix);
+        rules.remove(prefix, level);
+        LoggerImpl.refreshRules(prefix);
+    }
+
+    /**
+     * 모든 샘플링 규칙을 제거합니다.
+     */
+    public static void clear() {
+        rules.clear();
+        LoggerImpl.refreshRules("");
+    }
+
+    /**
+     * 로거에 연결할 레벨별 샘플러를 찾습니다.
+     *
+     * @param loggerName 로거 이름
+     * @return {@link LogLevel#ordinal()}로 색인하는 샘플러 배열, 해당 규칙이 없으면 null
+     */
+    static Sampler[] resolve(String loggerName) {
+        return rules.resolve(loggerName);
+    }
+}
@@ -0,0 +1,332 @@
+package io.csh.utils.logging;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그 디렉토리의 세그먼트(로그 파일) 목록을 디스크에 보관하는 매니페스트
+ *
+ * <p>{@code <logDir>/<prefix>.segments} 파일에 한 줄에 한 세그먼트씩
+ * 이름, 크기, 처음/마지막 기록 시각을 탭으로 구분해 저장합니다. 줄 순서는 생성 순서이며
+ * 보관 정리는 앞에서부터(가장 오래된 것부터) 지웁니다.</p>
+ *
+ * <p>파일 열기, 회전, 압축 완료 시점에만 갱신되고, 보관 정리는 메모리에 있는 목록만 사용하므로
+ * 디렉토리를 읽지 않습니다. 매니페스트가 없을 때(처음 실행하거나 이전 버전에서 올라온 경우)에만
+ * 한 번 디렉토리를 읽어 목록을 만듭니다. 읽기와 다시 만들기는 시작 경로를 막지 않도록
+ * 백그라운드 스레드에서 수행됩니다.</p>
+ *
+ * <p>기록 스레드, 파일 닫기/압축 스레드, 정리 스레드가 함께 사용하므로 목록을 바꾸는 메서드는 동기화되어 있습니다.
+ * 이 메서드들은 메모리만 갱신하고 변경 표시만 남기므로, 기록 스레드가 락을 잡은 채 호출해도 디스크를 기다리지 않습니다.
+ * 디스크 반영({@link #save})은 백그라운드 스레드에서 하며, 모니터 안에서는 목록을 복사만 하고 파일은 모니터 밖에서 씁니다.</p>
+ */
+final class SegmentManifest {
+    private static final String HEADER = "# csh-logging segments v1: name, size, first-millis, last-millis";
+    private static final String SUFFIX = ".segments";
+
+    private final File dir;
+    private final Path path;
+    private final Map<String, Segment> segments = new LinkedHashMap<>();
+    /** 파일 쓰기를 한 번에 하나로 제한합니다. 목록 모니터와는 별개라 쓰는 동안에도 목록은 갱신됩니다. */
+    private final Object saveLock = new Object();
+    private long totalSize;
+    /** 마지막 저장 이후 목록이 바뀌었는지 여부 */
+    private boolean dirty;
+
+    private SegmentManifest(File dir, String prefix) {
+        this.dir = dir;
+        this.path = new File(dir, prefix + SUFFIX).toPath();
+    }
+
+    /**
+     * 로그 디렉토리의 매니페스트를 읽습니다. 없으면 디렉토리를 한 번 읽어 새로 만듭니다.
+     *
+     * @param dir 로그 디렉토리
+     * @param prefix 로그 파일 접두사
+     * @return 매니페스트
+     */
+    static SegmentManifest load(File dir, String prefix) {
+        SegmentManifest manifest = new SegmentManifest(dir, prefix);
+        if (Files.isRegularFile(manifest.path)) {
+            try {
+                manifest.read();
+                return manifest;
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Failed to read log segment manifest, rebuilding: " + e.getMessage());
+                manifest.segments.clear();
+                manifest.totalSize = 0;
+            }
+        }
+        manifest.rebuild(prefix);
+        manifest.dirty = true;
+        manifest.save();
+        return manifest;
+    }
+
+    /**
+     * 로그 파일(압축된 파일 포함)의 이름인지 확인합니다.
+     *
+     * @param name 파일명
+     * @return 로그 파일 여부
+     */
+    static boolean isLogFileName(String name) {
+        if (name.endsWith(".log")) {
+            return true;
+        }
+        for (CompressionFormat format : CompressionFormat.values()) {
+            if (format != CompressionFormat.NONE && name.endsWith(".log" + format.extension())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 새로 연 세그먼트를 기록합니다. 디스크에는 다음 {@link #save} 때 반영됩니다.
+     *
+     * @param name 파일명
+     * @param size 열 때의 크기
+     * @param millis 연 시각
+     */
+    synchronized void opened(String name, long size, long millis) {
+        Segment segment = segments.get(name);
+        if (segment == null) {
+            segments.put(name, new Segment(name, size, millis, millis));
+            totalSize += size;
+        } else {
+            totalSize += size - segment.size;
+            segment.size = size;
+            segment.lastMillis = millis;
+        }
+        dirty = true;
+    }
+
+    /**
+     * 닫힌 세그먼트의 최종 크기와 마지막 기록 시각을 기록합니다. 디스크에는 다음 {@link #save} 때 반영됩니다.
+     *
+     * @param name 파일명
+     * @param size 최종 크기
+     * @param millis 닫은 시각
+     */
+    synchronized void closed(String name, long size, long millis) {
+        Segment segment = segments.get(name);
+        if (segment == null) {
+            return;
+        }
+        totalSize += size - segment.size;
+        segment.size = size;
+        segment.lastMillis = millis;
+        dirty = true;
+    }
+
+    /**
+     * 압축 등으로 세그먼트 파일이 바뀐 것을 기록합니다. 이미 정리된 세그먼트라면 새 파일을 지웁니다.
+     * 디스크에는 다음 {@link #save} 때 반영됩니다.
+     *
+     * @param source 원래 파일
+     * @param target 새 파일
+     */
+    synchronized void replaced(File source, File target) {
+        Segment segment = segments.get(source.getName());
+        if (segment == null) {
+            if (!target.delete()) {
+                System.err.println("Failed to delete expired log file: " + target.getName());
+            }
+            return;
+        }
+        long size = target.length();
+        totalSize += size - segment.size;
+        Segment replacement = new Segment(target.getName(), size, segment.firstMillis, segment.lastMillis);
+        // 생성 순서를 유지하면서 항목만 교체
+        Map<String, Segment> reordered = new LinkedHashMap<>();
+        for (Segment existing : segments.values()) {
+            Segment kept = existing == segment ? replacement : existing;
+            reordered.put(kept.name, kept);
+        }
+        segments.clear();
+        segments.putAll(reordered);
+        dirty = true;
+    }
+
+    /**
+     * 압축되지 않은({@code .log}로 끝나는) 닫힌 세그먼트를 생성 순서대로 반환합니다.
+     *
+     * @param activeName 현재 기록 중인 파일명 (없으면 null)
+     * @return 세그먼트 파일과 마지막 기록 시각
+     */
+    synchronized Map<File, Long> uncompressed(String activeName) {
+        Map<File, Long> pending = new LinkedHashMap<>();
+        for (Segment segment : segments.values()) {
+            if (segment.name.endsWith(".log") && !segment.name.equals(activeName)) {
+                pending.put(new File(dir, segment.name), segment.lastMillis);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 보관 기준을 넘은 세그먼트를 오래된 것부터 목록에서 빼고 해당 파일을 반환합니다.
+     * 현재 기록 중인 세그먼트는 빼지 않습니다. 파일 삭제와 {@link #save}는 호출자가 합니다.
+     *
+     * @param activeName 현재 기록 중인 파일명 (없으면 null)
+     * @param activeSize 현재 기록 중인 파일의 크기
+     * @param maxTotalSize 전체 크기 상한 (0 이하이면 크기 기준 정리 안 함)
+     * @param cutoffMillis 이 시각 이전에 마지막으로 기록된 세그먼트를 정리 (0 이하이면 기간 기준 정리 안 함)
+     * @return 삭제할 파일 목록
+     */
+    synchronized List<File> expire(String activeName, long activeSize, long maxTotalSize, long cutoffMillis) {
+        Segment active = activeName == null ? null : segments.get(activeName);
+        long total = totalSize;
+        if (active != null) {
+            total += activeSize - active.size;
+        }
+        List<File> expired = new ArrayList<>();
+        Iterator<Segment> it = segments.values().iterator();
+        while (it.hasNext()) {
+            Segment segment = it.next();
+            if (segment == active) {
+                continue;
+            }
+            boolean tooOld = cutoffMillis > 0 && segment.lastMillis < cutoffMillis;
+            boolean overBudget = maxTotalSize > 0 && total > maxTotalSize;
+            if (!tooOld && !overBudget) {
+                // 기간 기준은 오래된 순서이므로, 둘 다 해당하지 않으면 이후도 해당하지 않음
+                break;
+            }
+            it.remove();
+            total -= segment.size;
+            totalSize -= segment.size;
+            expired.add(new File(dir, segment.name));
+        }
+        if (!expired.isEmpty()) {
+            dirty = true;
+        }
+        return expired;
+    }
+
+    private void read() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t");
+                if (fields.length != 4) {
+                    throw new IOException("Malformed manifest line: " + line);
+                }
+                Segment segment = new Segment(fields[0], Long.parseLong(fields[1]),
+                    Long.parseLong(fields[2]), Long.parseLong(fields[3]));
+                segments.put(segment.name, segment);
+                totalSize += segment.size;
+            }
+        }
+    }
+
+    /**
+     * 디렉토리를 읽어 목록을 만듭니다. 매니페스트가 없을 때 한 번만 사용합니다.
+     */
+    private void rebuild(String prefix) {
+        String head = prefix + "_";
+        File[] files = dir.listFiles((d, name) -> name.startsWith(head) && isLogFileName(name));
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified).thenComparing(File::getName));
+        for (File file : files) {
+            long modified = file.lastModified();
+            Segment segment = new Segment(file.getName(), file.length(), modified, modified);
+            segments.put(segment.name, segment);
+            totalSize += segment.size;
+        }
+    }
+
+    /**
+     * 바뀐 목록을 디스크에 씁니다. 바뀐 것이 없으면 아무것도 하지 않습니다.
+     *
+     * <p>모니터 안에서는 목록을 줄 단위로 복사만 하고, 파일 쓰기는 모니터 밖에서 합니다.
+     * 임시 파일에 쓴 뒤 이름을 바꿔, 중간에 종료되어도 매니페스트가 깨지지 않도록 합니다.
+     * 저장은 {@code saveLock}으로 한 번에 하나만 진행되므로 먼저 복사한 목록이 나중 목록을 덮어쓰지 않습니다.</p>
+     */
+    void save() {
+        synchronized (saveLock) {
+            List<String> lines = snapshot();
+            if (lines == null) {
+                return;
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try {
+                try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    writer.write(HEADER);
+                    writer.newLine();
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+                try {
+                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to write log segment manifest: " + e.getMessage());
+                markDirty();
+            }
+        }
+    }
+
+    /**
+     * 바뀐 목록을 매니페스트 줄로 복사하고 변경 표시를 지웁니다.
+     *
+     * @return 매니페스트 줄 목록 (바뀐 것이 없으면 null)
+     */
+    private synchronized List<String> snapshot() {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+        List<String> lines = new ArrayList<>(segments.size());
+        for (Segment segment : segments.values()) {
+            lines.add(segment.name + '\t' + segment.size + '\t' + segment.firstMillis + '\t' + segment.lastMillis);
+        }
+        return lines;
+    }
+
+    /**
+     * 저장에 실패했을 때 다음 {@link #save}에서 다시 쓰도록 표시합니다.
+     */
+    private synchronized void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * 세그먼트 한 개의 정보
+     */
+    private static final class Segment {
+        final String name;
+        long size;
+        final long firstMillis;
+        long lastMillis;
+
+        Segment(String name, long size, long firstMillis, long lastMillis) {
+            this.name = name;
+            this.size = size;
+            this.firstMillis = firstMillis;
+            this.lastMillis = lastMillis;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.csh.utils.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 마지막으로 연 로그 파일 이름을 기록해 두고, 다음 파일 번호를 빠르게 찾는 클래스
+ *
+ * <p>{@code <logDir>/<prefix>.last}에 현재 기록 중인 파일 이름을 저장합니다.
+ * 시작할 때 이 파일을 읽고, 실제 파일(또는 압축된 파일)이 있는지 확인한 뒤
+ * 그 다음 번호부터 빈 번호를 찾습니다. 디렉토리 크기와 관계없이 파일 존재 확인 몇 번으로 끝납니다.</p>
+ *
+ * <p>마커가 없거나 가리키는 파일이 없으면 해당 구간 파일만 고르는
+ * {@link DirectoryStream} glob으로 한 번 확인합니다.</p>
+ */
+final class SegmentMarker {
+    private static final String SUFFIX = ".last";
+
+    private final File dir;
+    private final Path path;
+
+    /**
+     * @param dir 로그 디렉토리
+     * @param prefix 로그 파일 접두사
+     */
+    SegmentMarker(File dir, String prefix) {
+        this.dir = dir;
+        this.path = new File(dir, prefix + SUFFIX).toPath();
+    }
+
+    /**
+     * 구간의 다음 파일 번호를 찾습니다.
+     *
+     * @param baseName 파일명 앞부분 ({@code prefix_구간})
+     * @return 아직 사용하지 않은 다음 파일 번호
+     */
+    int nextIndex(String baseName) {
+        String last = read();
+        if (last != null && (new File(dir, last).exists() || existsCompressed(last))) {
+            int lastIndex = indexOf(last, baseName);
+            // 마커가 이전 구간을 가리키면 현재 구간은 새로 시작한 것
+            return probe(baseName, lastIndex > 0 ? lastIndex + 1 : 1);
+        }
+        return probe(baseName, globMaxIndex(baseName) + 1);
+    }
+
+    /**
+     * 같은 구간에서 첫 번째 빈 번호를 찾습니다. 마커가 없는 새 구간에 사용합니다.
+     *
+     * @param baseName 파일명 앞부분 ({@code prefix_구간})
+     * @param start 확인을 시작할 번호
+     * @return 아직 사용하지 않은 번호
+     */
+    int probe(String baseName, int start) {
+        int index = Math.max(1, start);
+        while (exists(baseName, index)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 현재 기록 중인 파일 이름을 저장합니다.
+     *
+     * @param name 파일명
+     */
+    void write(String name) {
+        try {
+            Files.write(path, name.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Failed to write log segment marker: " + e.getMessage());
+        }
+    }
+
+    private String read() {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 파일(압축된 파일 포함)이 실제로 있는지 확인합니다.
+     */
+    private boolean exists(String baseName, int index) {
+        String name = baseName + "_" + index + ".log";
+        return new File(dir, name).exists() || existsCompressed(name);
+    }
+
+    private boolean existsCompressed(String name) {
+        for (CompressionFormat format : CompressionFormat.values()) {
+            if (format != CompressionFormat.NONE && new File(dir, name + format.extension()).exists()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 마커 없이 시작할 때 해당 구간 파일만 glob으로 골라 가장 큰 번호를 찾습니다.
+     */
+    private int globMaxIndex(String baseName) {
+        int max = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir.toPath(), baseName + "_*.log*")) {
+            for (Path file : stream) {
+                max = Math.max(max, indexOf(file.getFileName().toString(), baseName));
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to list log directory: " + e.getMessage());
+        }
+        return max;
+    }
+
+    /**
+     * {@code baseName_N.log(.gz)}에서 N을 추출합니다. 형식이 맞지 않으면 -1을 반환합니다.
+     */
+    static int indexOf(String name, String baseName) {
+        String head = baseName + "_";
+        if (!name.startsWith(head) || !SegmentManifest.isLogFileName(name)) {
+            return -1;
+        }
+        int dotIndex = name.indexOf('.', head.length());
+        if (dotIndex <= head.length()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(head.length(), dotIndex));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
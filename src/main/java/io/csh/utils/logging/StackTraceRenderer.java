@@ -0,0 +1,324 @@
+package io.csh.utils.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 로그에 기록할 예외 스택 트레이스를 만드는 클래스
+ *
+ * <p>출력은 {@link Throwable#printStackTrace()}와 같은 모양이며(원인 예외의 공통 프레임은 "... N more"로 접음),
+ * 설정에 따라 다음을 적용합니다.</p>
+ * <ul>
+ *   <li>{@code csh.logging.stacktrace.max-depth}: 예외 하나당 출력할 최대 프레임 수 (0이면 제한 없음)</li>
+ *   <li>{@code csh.logging.stacktrace.exclude}: 출력하지 않을 클래스 이름 접두사 목록
+ *       (예: {@code java.lang.reflect.,jdk.internal.}), 연속으로 걸러진 프레임은 "... N filtered" 한 줄로 표시</li>
+ * </ul>
+ *
+ * <p>장애 중에는 같은 예외가 초당 수천 번 기록되므로, 예외 종류와 프레임으로 만든 지문(fingerprint)별로
+ * 만든 텍스트를 고정 크기 캐시({@code csh.logging.stacktrace.cache-size})에 보관하고, 프레임과 메시지까지 같으면
+ * 다시 만들지 않습니다. {@code csh.logging.stacktrace.references=true}이면 현재 로그 파일(세그먼트)에 이미
+ * 전체가 기록된 트레이스는 첫 줄과 "... same as trace #지문" 한 줄로 줄여 기록합니다. 전체 트레이스의 첫 줄
+ * 끝에는 {@code [trace #지문]}이 붙으므로 참조에서 원본을 검색할 수 있습니다. 참조는 파일에 기록하는 트레이스에만
+ * 적용하며, 콘솔 등 다른 출력은 항상 전체를 받고 세그먼트 판단에도 영향을 주지 않습니다.</p>
+ *
+ * <p>세그먼트 판단은 로그를 인코딩하는 시점 기준이므로, 비동기 기록 중 파일이 회전되는 순간에는
+ * 참조가 직전 파일의 원본을 가리킬 수 있습니다.</p>
+ */
+final class StackTraceRenderer {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final int MIN_CACHE_SIZE = 16;
+
+    private static final int maxDepth;
+    private static final String[] excludes;
+    private static final boolean references;
+    private static final AtomicReferenceArray<Entry> cache;
+    private static final int mask;
+
+    /** 로그 파일이 바뀔 때마다 증가하는 세그먼트 번호 */
+    private static volatile int segment;
+
+    static {
+        LogConfig config = LogConfig.getInstance();
+        maxDepth = Math.max(0, config.getStackTraceMaxDepth());
+        excludes = parseExcludes(config.getStackTraceExclude());
+        int size = config.getStackTraceCacheSize();
+        if (size > 0) {
+            int capacity = Integer.highestOneBit(Math.max(MIN_CACHE_SIZE, size) - 1) << 1;
+            cache = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+            references = config.isStackTraceReferences();
+        } else {
+            cache = null;
+            mask = 0;
+            references = false;
+        }
+    }
+
+    private StackTraceRenderer() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 로그 파일에 기록할 스택 트레이스를 반환합니다. 캐시와 세그먼트 참조를 사용합니다.
+     *
+     * @param thrown 예외
+     * @return 스택 트레이스 (마지막 줄 구분자 포함)
+     */
+    static String render(Throwable thrown) {
+        return render(thrown, true);
+    }
+
+    /**
+     * 로그 레코드에 기록할 스택 트레이스를 반환합니다. 캐시를 사용합니다.
+     *
+     * @param thrown 예외
+     * @param toFile 로그 파일에 기록할 트레이스이면 true. false이면 참조로 줄이지 않고,
+     *               현재 세그먼트에 기록된 것으로 표시하지도 않음
+     * @return 스택 트레이스 (마지막 줄 구분자 포함)
+     */
+    static String render(Throwable thrown, boolean toFile) {
+        if (cache == null) {
+            return format(thrown);
+        }
+        Tree tree = new Tree(thrown);
+        long shape = tree.shape;
+        int slot = (int) (shape ^ (shape >>> 32)) & mask;
+        int current = segment;
+        Entry entry = cache.get(slot);
+        if (entry != null && entry.shape == shape && Arrays.deepEquals(entry.traces, tree.traces)) {
+            if (references && toFile && entry.segment == current) {
+                return thrown + LINE_SEPARATOR + "\t... same as trace #" + entry.id + LINE_SEPARATOR;
+            }
+            if (Arrays.equals(entry.heads, tree.heads)) {
+                if (toFile) {
+                    entry.segment = current;
+                }
+                return entry.text;
+            }
+        }
+        String id = fingerprintText(shape);
+        StringBuilder sb = new StringBuilder(1024);
+        appendTrace(sb, thrown, tree, references ? id : null);
+        // 파일에 기록하지 않는 트레이스는 직전 세그먼트 번호로 두어 다음 파일 기록이 전체를 받게 함
+        entry = new Entry(shape, tree.heads, tree.traces, id, sb.toString(), toFile ? current : current - 1);
+        cache.set(slot, entry);
+        return entry.text;
+    }
+
+    /**
+     * 캐시와 참조 없이 스택 트레이스 전체를 만듭니다. 프레임 필터는 적용됩니다.
+     *
+     * @param thrown 예외
+     * @return 스택 트레이스 (마지막 줄 구분자 포함)
+     */
+    static String format(Throwable thrown) {
+        StringBuilder sb = new StringBuilder(1024);
+        appendTrace(sb, thrown, new Tree(thrown), null);
+        return sb.toString();
+    }
+
+    /**
+     * 새 로그 파일이 열렸음을 알립니다. 이후 각 트레이스는 다시 한 번 전체가 기록됩니다.
+     */
+    static void newSegment() {
+        segment++;
+    }
+
+    /**
+     * 스택 트레이스 전체를 기록합니다. 프레임은 {@code tree}가 출력 순서대로 모아 둔 것을 차례로 사용합니다.
+     */
+    private static void appendTrace(StringBuilder sb, Throwable thrown, Tree tree, String id) {
+        int[] next = {1};
+        sb.append(thrown);
+        if (id != null) {
+            sb.append(" [trace #").append(id).append(']');
+        }
+        sb.append(LINE_SEPARATOR);
+        StackTraceElement[] trace = tree.traces[0];
+        appendFrames(sb, trace, trace.length, "");
+        for (Throwable suppressed : thrown.getSuppressed()) {
+            appendEnclosed(sb, suppressed, trace, "Suppressed: ", "\t", tree, next);
+        }
+        Throwable cause = thrown.getCause();
+        if (cause != null) {
+            appendEnclosed(sb, cause, trace, "Caused by: ", "", tree, next);
+        }
+    }
+
+    /**
+     * 원인 또는 억제된 예외를 기록합니다. 감싸는 예외와 끝부분이 같은 프레임은 "... N more"로 접습니다.
+     */
+    private static void appendEnclosed(StringBuilder sb, Throwable thrown, StackTraceElement[] enclosingTrace,
+                                       String caption, String prefix, Tree tree, int[] next) {
+        StackTraceElement[] trace = tree.traces[next[0]++];
+        if (trace == null) {
+            sb.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(thrown).append(']')
+              .append(LINE_SEPARATOR);
+            return;
+        }
+        int m = trace.length - 1;
+        int n = enclosingTrace.length - 1;
+        while (m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n])) {
+            m--;
+            n--;
+        }
+        int common = trace.length - 1 - m;
+
+        sb.append(prefix).append(caption).append(thrown).append(LINE_SEPARATOR);
+        appendFrames(sb, trace, m + 1, prefix);
+        if (common != 0) {
+            sb.append(prefix).append("\t... ").append(common).append(" more").append(LINE_SEPARATOR);
+        }
+        for (Throwable suppressed : thrown.getSuppressed()) {
+            appendEnclosed(sb, suppressed, trace, "Suppressed: ", prefix + "\t", tree, next);
+        }
+        Throwable cause = thrown.getCause();
+        if (cause != null) {
+            appendEnclosed(sb, cause, trace, "Caused by: ", prefix, tree, next);
+        }
+    }
+
+    /**
+     * 프레임을 {@code count}개까지 기록합니다. 제외 대상은 묶어서 한 줄로, 최대 깊이를 넘은 나머지도 한 줄로 표시합니다.
+     */
+    private static void appendFrames(StringBuilder sb, StackTraceElement[] trace, int count, String prefix) {
+        int printed = 0;
+        int filtered = 0;
+        for (int i = 0; i < count; i++) {
+            StackTraceElement frame = trace[i];
+            if (isExcluded(frame.getClassName())) {
+                filtered++;
+                continue;
+            }
+            if (maxDepth > 0 && printed == maxDepth) {
+                sb.append(prefix).append("\t... ").append(count - i + filtered).append(" frames omitted")
+                  .append(LINE_SEPARATOR);
+                return;
+            }
+            if (filtered > 0) {
+                appendFiltered(sb, filtered, prefix);
+                filtered = 0;
+            }
+            sb.append(prefix).append("\tat ").append(frame).append(LINE_SEPARATOR);
+            printed++;
+        }
+        if (filtered > 0) {
+            appendFiltered(sb, filtered, prefix);
+        }
+    }
+
+    private static void appendFiltered(StringBuilder sb, int filtered, String prefix) {
+        sb.append(prefix).append("\t... ").append(filtered).append(" filtered").append(LINE_SEPARATOR);
+    }
+
+    private static boolean isExcluded(String className) {
+        for (String exclude : excludes) {
+            if (className.startsWith(exclude)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long mix(long h, int value) {
+        return (h ^ value) * 0x100000001b3L;
+    }
+
+    private static long finish(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 지문을 8자리 16진수로 표시합니다.
+     */
+    private static String fingerprintText(long shape) {
+        return Long.toHexString((shape >>> 32) | (1L << 32)).substring(1);
+    }
+
+    private static String[] parseExcludes(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return new String[0];
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .toArray(String[]::new);
+    }
+
+    /**
+     * 예외와 그 원인, 억제된 예외를 출력 순서대로 한 번씩 방문하여 첫 줄(종류와 메시지)과 프레임을 모읍니다.
+     * {@link Throwable#getStackTrace()}는 호출마다 배열을 복사하므로 한 번만 호출하고, 출력에도 그대로 사용합니다.
+     * 순환 참조로 다시 만난 예외는 프레임 자리에 null을 둡니다.
+     */
+    private static final class Tree {
+        final String[] heads;
+        final StackTraceElement[][] traces;
+        /** 예외 종류와 프레임으로 계산한 지문. 메시지는 포함하지 않음 */
+        final long shape;
+
+        private final List<String> headList = new ArrayList<>(4);
+        private final List<StackTraceElement[]> traceList = new ArrayList<>(4);
+        private final Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        private long hash = 0xcbf29ce484222325L;
+
+        Tree(Throwable thrown) {
+            collect(thrown);
+            heads = headList.toArray(new String[0]);
+            traces = traceList.toArray(new StackTraceElement[0][]);
+            shape = finish(hash);
+        }
+
+        private void collect(Throwable thrown) {
+            headList.add(thrown.toString());
+            if (!seen.add(thrown)) {
+                traceList.add(null);
+                return;
+            }
+            StackTraceElement[] trace = thrown.getStackTrace();
+            traceList.add(trace);
+            hash = mix(hash, thrown.getClass().getName().hashCode());
+            for (StackTraceElement frame : trace) {
+                hash = mix(hash, frame.getClassName().hashCode());
+                hash = mix(hash, frame.getMethodName().hashCode());
+                hash = mix(hash, frame.getLineNumber());
+            }
+            for (Throwable suppressed : thrown.getSuppressed()) {
+                collect(suppressed);
+            }
+            Throwable cause = thrown.getCause();
+            if (cause != null) {
+                collect(cause);
+            }
+        }
+    }
+
+    /**
+     * 캐시 항목. 같은 지문의 마지막 텍스트와 그 예외 트리의 첫 줄들과 프레임, 전체가 마지막으로 기록된 세그먼트를
+     * 보관합니다. 지문이 같아도 첫 줄과 프레임이 모두 같을 때만 재사용합니다.
+     */
+    private static final class Entry {
+        final long shape;
+        final String[] heads;
+        final StackTraceElement[][] traces;
+        final String id;
+        final String text;
+        volatile int segment;
+
+        Entry(long shape, String[] heads, StackTraceElement[][] traces, String id, String text, int segment) {
+            this.shape = shape;
+            this.heads = heads;
+            this.traces = traces;
+            this.id = id;
+            this.text = text;
+            this.segment = segment;
+        }
+    }
+}
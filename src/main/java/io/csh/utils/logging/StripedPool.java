@@ -0,0 +1,75 @@
+package io.csh.utils.logging;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 가상 스레드용 재사용 객체 풀
+ *
+ * <p>플랫폼 스레드는 스레드별({@code ThreadLocal}) 객체를 재사용하지만, 가상 스레드는 수가 매우 많고
+ * 수명이 짧아 스레드별로 두면 객체가 스레드 수만큼 늘어납니다. 가상 스레드는 캐리어 스레드 수만큼만
+ * 동시에 실행되므로, 그 몇 배 크기의 슬롯 배열에서 꺼내 쓰고 돌려놓습니다.</p>
+ *
+ * <p>슬롯은 {@code getAndSet}/{@code compareAndSet}으로만 다루므로 락이 없어 캐리어를 고정(pinning)하지 않습니다.
+ * 가까운 슬롯이 모두 비어 있으면 새로 만들고, 돌려놓을 자리가 없으면 버립니다.</p>
+ *
+ * @param <T> 객체 타입
+ */
+final class StripedPool<T> {
+    private static final int PROBES = 4;
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final Supplier<T> factory;
+
+    /**
+     * 풀을 생성합니다. 크기는 프로세서 수의 4배를 2의 거듭제곱으로 올린 값입니다.
+     *
+     * @param factory 풀이 비었을 때 객체를 만드는 함수
+     */
+    StripedPool(Supplier<T> factory) {
+        int size = Integer.highestOneBit(Math.max(4, Runtime.getRuntime().availableProcessors() * 4) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.factory = factory;
+    }
+
+    /**
+     * 객체를 꺼냅니다. 풀이 비었으면 새로 만듭니다.
+     *
+     * @return 객체
+     */
+    T take() {
+        int start = probe();
+        for (int i = 0; i < PROBES; i++) {
+            T value = slots.getAndSet((start + i) & mask, null);
+            if (value != null) {
+                return value;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * 객체를 돌려놓습니다. 빈 슬롯이 없으면 버립니다.
+     *
+     * @param value 객체
+     */
+    void give(T value) {
+        int start = probe();
+        for (int i = 0; i < PROBES; i++) {
+            int index = (start + i) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, value)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 스레드마다 다른 슬롯에서 시작하도록 스레드 ID를 섞습니다.
+     */
+    private int probe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+}
@@ -0,0 +1,160 @@
+package io.csh.utils.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link LogEventBuilder} 구현체
+ *
+ * <p>스레드별로 하나씩 재사용하므로 정상 상태에서는 할당이 없습니다. 작성 중인 이벤트가 있는 상태에서
+ * 같은 스레드가 다시 구조화 로그를 시작하면(값 계산 중 로그를 남기는 경우 등) 임시 이벤트를 새로 만듭니다.
+ * 가상 스레드는 {@link LogBuffer}와 같이 공유 풀에서 꺼내 씁니다.</p>
+ */
+final class StructuredEvent implements LogEventBuilder {
+    /** 걸러진 로그에 반환하는, 아무 일도 하지 않는 작성기 */
+    static final LogEventBuilder DISABLED = new Disabled();
+
+    private static final ThreadLocal<StructuredEvent> THREAD_EVENTS = ThreadLocal.withInitial(StructuredEvent::new);
+    private static final StripedPool<StructuredEvent> SHARED_EVENTS = new StripedPool<>(StructuredEvent::new);
+
+    private final LogFields fields = new LogFields();
+    private LoggerImpl logger;
+    private LogLevel level;
+    private Throwable thrown;
+    private boolean pending;
+    private boolean pooled;
+
+    private StructuredEvent() {}
+
+    /**
+     * 현재 스레드의 작성기를 비운 상태로 반환합니다.
+     *
+     * @param logger 기록할 로거
+     * @param level 로그 레벨 (레벨, 샘플링, 출력 제한 확인이 끝난 상태)
+     * @return 작성기
+     */
+    static StructuredEvent acquire(LoggerImpl logger, LogLevel level) {
+        StructuredEvent event;
+        if (VirtualThreads.isCurrent()) {
+            event = SHARED_EVENTS.take();
+            event.pooled = true;
+        } else {
+            event = THREAD_EVENTS.get();
+            if (event.pending) {
+                event = new StructuredEvent();
+            }
+        }
+        event.pending = true;
+        event.logger = logger;
+        event.level = level;
+        return event;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, String value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, long value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, double value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, boolean value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder kv(String key, Object value) {
+        fields.add(key, value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder cause(Throwable thrown) {
+        this.thrown = thrown;
+        return this;
+    }
+
+    @Override
+    public void log(String message) {
+        try {
+            logger.writeEvent(level, message, fields, thrown);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public void log(Supplier<String> messageSupplier) {
+        try {
+            logger.writeEvent(level, messageSupplier.get(), fields, thrown);
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        fields.clear();
+        logger = null;
+        level = null;
+        thrown = null;
+        pending = false;
+        if (pooled) {
+            pooled = false;
+            SHARED_EVENTS.give(this);
+        }
+    }
+
+    /**
+     * 걸러진 로그용 작성기
+     */
+    private static final class Disabled implements LogEventBuilder {
+        @Override
+        public LogEventBuilder kv(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public LogEventBuilder kv(String key, long value) {
+            return this;
+        }
+
+        @Override
+        public LogEventBuilder kv(String key, double value) {
+            return this;
+        }
+
+        @Override
+        public LogEventBuilder kv(String key, boolean value) {
+            return this;
+        }
+
+        @Override
+        public LogEventBuilder kv(String key, Object value) {
+            return this;
+        }
+
+        @Override
+        public LogEventBuilder cause(Throwable thrown) {
+            return this;
+        }
+
+        @Override
+        public void log(String message) {
+        }
+
+        @Override
+        public void log(Supplier<String> messageSupplier) {
+        }
+    }
+}
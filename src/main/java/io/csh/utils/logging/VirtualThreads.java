@@ -0,0 +1,45 @@
+package io.csh.utils.logging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * 가상 스레드 판별
+ *
+ * <p>라이브러리는 Java 17로 빌드되므로 {@code Thread.isVirtual()}(JDK 21)을 직접 호출하지 않고,
+ * 실행 중인 JDK에 있으면 {@link MethodHandle}로 찾아 둡니다. 핸들은 상수이므로 JIT가 호출을 인라인하고,
+ * 가상 스레드가 없는 JDK에서는 항상 false를 반환하는 분기로 접힙니다.</p>
+ */
+final class VirtualThreads {
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    private VirtualThreads() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * 현재 스레드가 가상 스레드인지 확인합니다.
+     *
+     * @return 가상 스레드이면 true
+     */
+    static boolean isCurrent() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+                MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.csh.utils.logging;
+
+/**
+ * 비동기 로깅에서 기록 스레드가 큐가 비어 있을 때 대기하는 방식
+ *
+ * <p>지연 시간과 CPU 사용량 사이의 절충을 선택합니다.</p>
+ */
+public enum WaitStrategy {
+    /**
+     * 바쁜 대기 ({@link Thread#onSpinWait()}).
+     * 지연 시간이 가장 짧지만 코어 하나를 계속 점유합니다.
+     */
+    SPIN,
+
+    /**
+     * {@link Thread#yield()}로 다른 스레드에 CPU를 양보하며 대기합니다.
+     */
+    YIELD,
+
+    /**
+     * {@link java.util.concurrent.locks.LockSupport#parkNanos(long)}로 잠들었다가
+     * 생산자가 깨워주면 다시 동작합니다. CPU 사용량이 가장 적습니다 (기본값).
+     */
+    PARK;
+
+    /**
+     * 문자열에서 WaitStrategy를 찾습니다.
+     *
+     * @param value 대기 전략 문자열
+     * @return WaitStrategy 인스턴스
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static WaitStrategy fromString(String value) {
+        if (value == null) {
+            return PARK;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported wait strategy: " + value);
+        }
+    }
+}
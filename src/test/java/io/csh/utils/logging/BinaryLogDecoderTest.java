@@ -0,0 +1,76 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 바이너리 형식으로 기록한 로그를 {@link BinaryLogDecoder}로 되돌렸을 때 텍스트 형식과 같은 줄이 나오는지 확인하는 테스트
+ */
+class BinaryLogDecoderTest {
+    /** 텍스트 형식의 줄 머리: 타임스탬프, 스레드, 레벨, 로거 이름 */
+    private static final String HEAD = "\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3} \\[main\\] ";
+    private static final String NAME = BinaryLogDecoderTest.class.getName();
+
+    @TempDir
+    static Path logDir;
+
+    @BeforeAll
+    static void setUp() {
+        LogConfig config = LogConfig.getInstance();
+        config.setLogDir(logDir.toString());
+        config.setConsoleOutput(false);
+        config.setFileFormat(LogFormat.BINARY);
+    }
+
+    @Test
+    void testEncodedRecordsDecodeToTextLines() throws IOException {
+        Logger logger = LoggerFactory.getLogger(BinaryLogDecoderTest.class);
+        logger.info("order {} paid by {}", 1000L, "card");
+        Logging.raw("=== banner ===");
+        logger.warn("payment failed", new IllegalStateException("declined"));
+        logger.info("order {} paid by {}", 1001L, "cash");
+        LoggerFactory.shutdown();
+
+        try (BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(logFile()))) {
+            List<String> lines = readLines(decoder);
+            assertEquals(4, lines.size(), lines.toString());
+            assertTrue(lines.get(0).matches(HEAD + "INFO  " + NAME + " - order 1000 paid by card"), lines.get(0));
+            assertEquals("=== banner ===", lines.get(1));
+            String failure = lines.get(2);
+            assertTrue(failure.matches("(?s)" + HEAD + "WARN  " + NAME + " - payment failed\\R"
+                + "java\\.lang\\.IllegalStateException: declined\\R\\s+at .*"), failure);
+            assertTrue(lines.get(3).matches(HEAD + "INFO  " + NAME + " - order 1001 paid by cash"), lines.get(3));
+
+            assertEquals(4, decoder.getRecordCount());
+            assertEquals(0, decoder.getCorruptCount());
+            assertFalse(decoder.isTruncated());
+        }
+    }
+
+    private static File logFile() {
+        File[] files = logDir.toFile().listFiles((dir, name) -> name.endsWith(".log"));
+        assertEquals(1, files.length);
+        return files[0];
+    }
+
+    private static List<String> readLines(BinaryLogDecoder decoder) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = decoder.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,69 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DuplicateLogFilter}의 억제, 교체, 동시 등록 테스트
+ */
+class DuplicateLogFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        DuplicateLogFilter.clear();
+    }
+
+    @Test
+    void testDuplicateIsSuppressedAndCounted() {
+        assertEquals(0, DuplicateLogFilter.acquire("order-1", 60));
+        assertEquals(DuplicateLogFilter.SUPPRESSED, DuplicateLogFilter.acquire("order-1", 60));
+        assertEquals(DuplicateLogFilter.SUPPRESSED, DuplicateLogFilter.acquire("order-1", 60));
+        assertTrue(DuplicateLogFilter.shouldLog("order-2", 60));
+        assertEquals(2, DuplicateLogFilter.size());
+
+        DuplicateLogFilter.removeLogRecord("order-1");
+        assertEquals(0, DuplicateLogFilter.acquire("order-1", 60));
+        assertFalse(DuplicateLogFilter.shouldLog("order-2", 60));
+    }
+
+    @Test
+    void testConcurrentNewIdIsEmittedOnce() throws Exception {
+        int threads = 8;
+        int rounds = 500;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        AtomicInteger[] emitted = new AtomicInteger[rounds];
+        for (int round = 0; round < rounds; round++) {
+            emitted[round] = new AtomicInteger();
+        }
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    for (int round = 0; round < rounds; round++) {
+                        barrier.await();
+                        if (DuplicateLogFilter.acquire("request-" + round, 60) != DuplicateLogFilter.SUPPRESSED) {
+                            emitted[round].incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        for (int round = 0; round < rounds; round++) {
+            assertEquals(1, emitted[round].get(), "request-" + round);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link LogCompressor}가 재시작 후 압축되지 않은 세그먼트를 다시 예약하고 남은 임시 파일을 지우는지 확인하는 테스트
+ */
+class LogCompressorTest {
+    private static final long DELAY_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRecoverReschedulesByLastWriteTimeAndSweepsTemporaryFiles() throws Exception {
+        LogConfig config = LogConfig.getInstance();
+        config.setCompressionFormat(CompressionFormat.GZ);
+        config.setCompressionDelayMillis(DELAY_MILLIS);
+        CountDownLatch compressed = new CountDownLatch(1);
+        Map<File, File> results = new LinkedHashMap<>();
+        LogCompressor compressor = new LogCompressor(config, (source, target) -> {
+            results.put(source, target);
+            compressed.countDown();
+        });
+        try {
+            long now = LogClock.currentTimeMillis();
+            File due = segment("app_2026-01-01_1.log", "old segment");
+            File notDue = segment("app_2026-01-08_1.log", "recent segment");
+            File partial = segment("app_2026-01-01_1.log.gz.tmp", "partial");
+            File otherPrefix = segment("other_2026-01-01_1.log.gz.tmp", "not ours");
+
+            Map<File, Long> pending = new LinkedHashMap<>();
+            pending.put(due, now - DELAY_MILLIS - 1000);
+            pending.put(notDue, now);
+            compressor.recover(dir.toFile(), "app", pending);
+
+            assertTrue(compressed.await(10, TimeUnit.SECONDS));
+            assertFalse(partial.exists());
+            assertTrue(otherPrefix.exists());
+            assertEquals(1, results.size());
+            File target = results.get(due);
+            assertEquals(due.getName() + ".gz", target.getName());
+            assertFalse(due.exists());
+            assertEquals("old segment", gunzip(target));
+            assertTrue(notDue.exists());
+        } finally {
+            compressor.shutdown();
+        }
+    }
+
+    private File segment(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8).toFile();
+    }
+
+    private static String gunzip(File file) throws IOException {
+        try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LogRingBuffer}의 순서, 용량, 다중 생산자 동작 테스트
+ */
+class LogRingBufferTest {
+
+    private static LogBuffer record(String text) {
+        return new LogBuffer().putUtf8(text);
+    }
+
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new LogRingBuffer(5).capacity());
+        assertEquals(2, new LogRingBuffer(0).capacity());
+    }
+
+    @Test
+    void testDrainReturnsRecordsInOfferOrder() throws Exception {
+        LogRingBuffer ring = new LogRingBuffer(8);
+        assertTrue(ring.offer(record("a"), LogLevel.INFO));
+        assertTrue(ring.offer(record("b"), LogLevel.WARN));
+        assertTrue(ring.offer(record("c"), null));
+
+        List<String> seen = new ArrayList<>();
+        List<LogLevel> levels = new ArrayList<>();
+        assertEquals(3, ring.drain((r, level) -> {
+            seen.add(r.toString());
+            levels.add(level);
+        }, 10));
+        assertEquals(List.of("a", "b", "c"), seen);
+        assertEquals(LogLevel.INFO, levels.get(0));
+        assertEquals(LogLevel.WARN, levels.get(1));
+        assertEquals(null, levels.get(2));
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testOfferFailsWhenFullAndSucceedsAfterDrain() throws Exception {
+        LogRingBuffer ring = new LogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(record("r" + i), LogLevel.INFO));
+        }
+        assertFalse(ring.offer(record("overflow"), LogLevel.INFO));
+        assertEquals(-1, ring.claim());
+
+        assertEquals(1, ring.drain((r, level) -> { }, 1));
+        assertTrue(ring.offer(record("r4"), LogLevel.INFO));
+    }
+
+    @Test
+    void testDrainRespectsMax() throws Exception {
+        LogRingBuffer ring = new LogRingBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            ring.offer(record("r" + i), LogLevel.INFO);
+        }
+        assertEquals(2, ring.drain((r, level) -> { }, 2));
+        assertEquals(3, ring.drain((r, level) -> { }, 10));
+        assertEquals(0, ring.drain((r, level) -> { }, 10));
+    }
+
+    @Test
+    void testClaimedSlotIsNotVisibleUntilPublished() throws Exception {
+        LogRingBuffer ring = new LogRingBuffer(4);
+        long pos = ring.claim();
+        ring.slot(pos).record.putUtf8("late");
+        ring.slot(pos).level = LogLevel.INFO;
+        assertEquals(0, ring.drain((r, level) -> { }, 10));
+
+        assertTrue(ring.isEmpty());
+        assertFalse(ring.isDrained());
+
+        ring.publish(pos);
+        List<String> seen = new ArrayList<>();
+        assertEquals(1, ring.drain((r, level) -> seen.add(r.toString()), 10));
+        assertEquals(List.of("late"), seen);
+        assertTrue(ring.isDrained());
+    }
+
+    @Test
+    void testConcurrentProducersDeliverEveryRecordOnce() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        LogRingBuffer ring = new LogRingBuffer(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            Thread thread = new Thread(() -> {
+                LogBuffer buffer = new LogBuffer();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.reset();
+                    buffer.putUtf8(id + ":" + i);
+                    while (!ring.offer(buffer, LogLevel.INFO)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        Set<String> seen = new HashSet<>();
+        int[] lastByProducer = new int[producers];
+        Arrays.fill(lastByProducer, -1);
+        boolean[] ordered = {true};
+        start.countDown();
+        int total = producers * perProducer;
+        while (seen.size() < total) {
+            ring.drain((r, level) -> {
+                String text = r.toString();
+                seen.add(text);
+                int colon = text.indexOf(':');
+                int producer = Integer.parseInt(text.substring(0, colon));
+                int seq = Integer.parseInt(text.substring(colon + 1));
+                if (seq <= lastByProducer[producer]) {
+                    ordered[0] = false;
+                }
+                lastByProducer[producer] = seq;
+            }, 256);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(total, seen.size());
+        assertTrue(ordered[0], "records from one producer must stay in order");
+        assertTrue(ring.isEmpty());
+    }
+}
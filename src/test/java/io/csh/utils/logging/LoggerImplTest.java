@@ -0,0 +1,104 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link LoggerImpl}의 로그 호출이 정상 상태에서 객체를 만들지 않는지, 샘플링 로거를 재사용하는지,
+ * 버려진 로그가 중복 필터의 출력 기회를 차지하지 않는지 확인하는 테스트
+ *
+ * <p>{@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}로 현재 스레드의 할당량만 셉니다.
+ * JIT 컴파일이 끝나도록 충분히 예열한 뒤 측정합니다.</p>
+ */
+class LoggerImplTest {
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 10_000;
+    /** 회전, 타임스탬프 캐시 갱신 등 가끔 생기는 할당을 감안한 호출당 허용량 */
+    private static final double MAX_BYTES_PER_CALL = 8.0;
+
+    @TempDir
+    static Path logDir;
+
+    private static Logger enabled;
+    private static Logger disabled;
+    private static com.sun.management.ThreadMXBean threads;
+
+    /** INFO가 꺼지도록 레벨을 WARN으로 올리는 로거 이름 */
+    static final class Disabled {
+    }
+
+    @BeforeAll
+    static void setUp() {
+        LogConfig config = LogConfig.getInstance();
+        config.setLogDir(logDir.toString());
+        config.setConsoleOutput(false);
+        LoggerFactory.setLogLevel(Disabled.class.getName(), LogLevel.WARN);
+        enabled = LoggerFactory.getLogger(LoggerImplTest.class);
+        disabled = LoggerFactory.getLogger(Disabled.class);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        LoggerFactory.shutdown();
+    }
+
+    @Test
+    void testEnabledMessageDoesNotAllocate() {
+        assertNoAllocation("enabled message", () -> enabled.info("order paid"));
+    }
+
+    @Test
+    void testEnabledPatternDoesNotAllocate() {
+        String method = "card";
+        assertNoAllocation("enabled pattern", () -> enabled.info("order paid by {}", method));
+    }
+
+    @Test
+    void testDisabledPatternDoesNotAllocate() {
+        String method = "card";
+        assertNoAllocation("disabled pattern", () -> disabled.info("order paid by {}", method));
+    }
+
+    @Test
+    void testSampledLoggerIsReusedForEqualSampler() {
+        Logger first = enabled.sampled(Sampler.oneIn(1000));
+        assertSame(first, enabled.sampled(Sampler.oneIn(1000)));
+        assertSame(first, enabled.sampled(Sampler.parse("1/1000")));
+        assertNotSame(first, enabled.sampled(Sampler.oneIn(100)));
+        assertNotSame(first, disabled.sampled(Sampler.oneIn(1000)));
+    }
+
+    private static void assertNoAllocation(String name, Runnable call) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.run();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run();
+        }
+        long after = threads.getCurrentThreadAllocatedBytes();
+        double perCall = (double) (after - before) / MEASURED_CALLS;
+        assertTrue(perCall < MAX_BYTES_PER_CALL, name + " allocated " + perCall + " bytes per call");
+    }
+
+    @Test
+    void testDroppedLogDoesNotConsumeDuplicateFilterSlot() {
+        // 사실상 아무것도 출력하지 않는 샘플러
+        LoggerImpl dropping = (LoggerImpl) enabled.sampled(Sampler.probability(Double.MIN_VALUE));
+        dropping.logWithDuplicateFilter(LogLevel.INFO, "dropped-first", "payment retried", 60);
+
+        assertTrue(DuplicateLogFilter.shouldLog("dropped-first", 60));
+        assertFalse(DuplicateLogFilter.shouldLog("dropped-first", 60));
+    }
+}
@@ -0,0 +1,60 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 비동기 바이너리 모드에서 {@link Logging#raw}가 일반 로그와 같은 레코드 형식으로 큐에 들어가는지 확인하는 테스트
+ */
+class LoggingTest {
+    @TempDir
+    static Path logDir;
+
+    @BeforeAll
+    static void setUp() {
+        LogConfig config = LogConfig.getInstance();
+        config.setLogDir(logDir.toString());
+        config.setConsoleOutput(false);
+        config.setFileFormat(LogFormat.BINARY);
+        config.setAsyncEnabled(true);
+    }
+
+    @Test
+    void testRawInAsyncBinaryModeDecodes() throws IOException {
+        Logger logger = LoggerFactory.getLogger(LoggingTest.class);
+        logger.info("before banner");
+        Logging.raw("=== banner ===");
+        Logging.raw("");
+        logger.info("after banner");
+        LoggerFactory.shutdown();
+
+        File[] files = logDir.toFile().listFiles((dir, name) -> name.endsWith(".log"));
+        assertEquals(1, files.length);
+        try (BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(files[0]))) {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = decoder.readLine()) != null) {
+                lines.add(line);
+            }
+            assertEquals(4, lines.size(), lines.toString());
+            assertTrue(lines.get(0).endsWith(" - before banner"), lines.get(0));
+            assertEquals("=== banner ===", lines.get(1));
+            assertEquals("", lines.get(2));
+            assertTrue(lines.get(3).endsWith(" - after banner"), lines.get(3));
+            assertEquals(0, decoder.getCorruptCount());
+            assertFalse(decoder.isTruncated());
+        }
+    }
+}
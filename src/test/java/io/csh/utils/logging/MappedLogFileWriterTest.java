@@ -0,0 +1,69 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link MappedLogFileWriter}가 영역을 넘겨 가며 기록한 내용이 파일에 그대로 남는지 확인하는 테스트
+ */
+class MappedLogFileWriterTest {
+    private static final long REGION_SIZE = 64 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRecordsSpanningRegionsAreKeptWithFlushDurability() throws IOException {
+        Path file = dir.resolve("app_1.log");
+        StringBuilder expected = new StringBuilder();
+        LogBuffer record = new LogBuffer();
+        MappedLogFileWriter writer = new MappedLogFileWriter(file, REGION_SIZE, Durability.FLUSH);
+        for (int i = 0; i < 5000; i++) {
+            String line = "line " + i + " " + "x".repeat(i % 50) + "\n";
+            write(writer, record, line);
+            expected.append(line);
+            if (i % 100 == 0) {
+                writer.flush();
+            }
+        }
+        // 영역보다 큰 로그는 채널로 직접 기록됨
+        String large = "y".repeat((int) REGION_SIZE * 2) + "\n";
+        write(writer, record, large);
+        expected.append(large);
+        write(writer, record, "after large\n");
+        expected.append("after large\n");
+        writer.flush();
+        writer.close();
+
+        assertEquals(expected.toString(), Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testReopenContinuesAfterData() throws IOException {
+        Path file = dir.resolve("app_1.log");
+        LogBuffer record = new LogBuffer();
+        MappedLogFileWriter first = new MappedLogFileWriter(file, REGION_SIZE, Durability.NONE);
+        write(first, record, "first\n");
+        first.close();
+
+        MappedLogFileWriter second = new MappedLogFileWriter(file, REGION_SIZE, Durability.NONE);
+        assertEquals(6, second.initialSize());
+        write(second, record, "second\n");
+        second.close();
+
+        assertEquals("first\nsecond\n", Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    private static void write(MappedLogFileWriter writer, LogBuffer record, String line) throws IOException {
+        record.reset();
+        record.putUtf8(line);
+        writer.write(record);
+    }
+}
@@ -0,0 +1,100 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RateLimiter}의 버스트, 회복, 버려진 수 집계 테스트
+ */
+class RateLimiterTest {
+
+    @Test
+    void testBurstIsAllowedThenDenied() {
+        // 초당 1개이므로 테스트 중에 새 토큰이 생기지 않음
+        RateLimiter limiter = new RateLimiter(1, 5);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(), "call " + i);
+        }
+        assertFalse(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getDroppedCount());
+    }
+
+    @Test
+    void testBurstBelowOneIsTreatedAsOne() {
+        RateLimiter limiter = new RateLimiter(1, 0);
+        assertEquals(1, limiter.getBurst());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void testRecoversAfterInterval() throws InterruptedException {
+        // 토큰 간격 10ms
+        RateLimiter limiter = new RateLimiter(100, 1);
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        Thread.sleep(50);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(1, limiter.getDroppedCount());
+    }
+
+    @Test
+    void testTakeNewDropsReturnsDelta() {
+        RateLimiter limiter = new RateLimiter(1, 1);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        assertEquals(2, limiter.takeNewDrops());
+        assertEquals(0, limiter.takeNewDrops());
+        limiter.tryAcquire();
+        assertEquals(1, limiter.takeNewDrops());
+        assertEquals(3, limiter.getDroppedCount());
+    }
+
+    @Test
+    void testConcurrentCallersNeverExceedBurst() throws InterruptedException {
+        int threads = 8;
+        int perThread = 1000;
+        RateLimiter limiter = new RateLimiter(1, 100);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    if (limiter.tryAcquire()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // 테스트 시간 동안 생길 수 있는 토큰 몇 개만 더 허용
+        assertTrue(allowed.get() >= 100 && allowed.get() <= 102, "allowed " + allowed.get());
+        assertEquals(threads * perThread, allowed.get() + limiter.getDroppedCount());
+    }
+
+    @Test
+    void testRejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(Double.NaN, 1));
+    }
+}
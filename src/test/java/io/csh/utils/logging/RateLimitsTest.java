@@ -0,0 +1,63 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 비동기 모드에서 {@link RateLimits}의 버려진 로그 요약이 일반 로그와 같은 파일에 기록되는지 확인하는 테스트
+ */
+class RateLimitsTest {
+    private static final long REPORT_INTERVAL_MILLIS = 100;
+
+    @TempDir
+    static Path logDir;
+
+    @BeforeAll
+    static void setUp() {
+        LogConfig config = LogConfig.getInstance();
+        config.setLogDir(logDir.toString());
+        config.setConsoleOutput(false);
+        config.setAsyncEnabled(true);
+        config.setRateLimitReportIntervalMillis(REPORT_INTERVAL_MILLIS);
+    }
+
+    @Test
+    void testDropSummaryIsWrittenThroughAsyncQueue() throws Exception {
+        RateLimits.limit(RateLimitsTest.class, LogLevel.INFO, 1, 1);
+        Logger logger = LoggerFactory.getLogger(RateLimitsTest.class);
+        logger.info("first");
+        logger.info("dropped");
+        logger.info("dropped");
+        Thread.sleep(REPORT_INTERVAL_MILLIS * 5);
+        LoggerFactory.shutdown();
+
+        List<String> lines = readLog();
+        List<String> summaries = lines.stream()
+            .filter(line -> line.contains(" - Rate limit dropped "))
+            .collect(Collectors.toList());
+        assertEquals(1, summaries.size(), lines.toString());
+        String summary = summaries.get(0);
+        assertTrue(summary.contains(" [RateLimits-Reporter] WARN  " + RateLimits.class.getName() + " - "), summary);
+        assertTrue(summary.endsWith(" - Rate limit dropped 2 log lines (" + RateLimitsTest.class.getName()
+            + ":INFO=2)"), summary);
+        assertEquals(1, lines.stream().filter(line -> line.endsWith(" - first")).count(), lines.toString());
+    }
+
+    private static List<String> readLog() throws IOException {
+        File[] files = logDir.toFile().listFiles((dir, name) -> name.endsWith(".log"));
+        assertEquals(1, files.length);
+        return Files.readAllLines(files[0].toPath(), StandardCharsets.UTF_8);
+    }
+}
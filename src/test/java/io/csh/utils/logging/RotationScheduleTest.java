@@ -0,0 +1,87 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RotationSchedule}의 회전 경계와 파일명 표기 테스트
+ */
+class RotationScheduleTest {
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private static long millis(ZonedDateTime time) {
+        return time.toInstant().toEpochMilli();
+    }
+
+    @Test
+    void testDailyBoundaryIsNextLocalMidnight() {
+        RotationSchedule schedule = new RotationSchedule(RotationUnit.DAY, 1, SEOUL);
+        long now = millis(ZonedDateTime.of(2024, 3, 1, 23, 59, 59, 0, SEOUL));
+        assertEquals(millis(ZonedDateTime.of(2024, 3, 2, 0, 0, 0, 0, SEOUL)), schedule.nextBoundary(now));
+        assertEquals("2024-03-01", schedule.label(now));
+    }
+
+    @Test
+    void testBoundaryIsStrictlyAfterInstantOnTheBoundary() {
+        RotationSchedule schedule = new RotationSchedule(RotationUnit.DAY, 1, UTC);
+        long midnight = millis(ZonedDateTime.of(2024, 3, 2, 0, 0, 0, 0, UTC));
+        assertEquals(millis(ZonedDateTime.of(2024, 3, 3, 0, 0, 0, 0, UTC)), schedule.nextBoundary(midnight));
+        assertEquals("2024-03-02", schedule.label(midnight));
+        assertEquals("2024-03-01", schedule.label(midnight - 1));
+    }
+
+    @Test
+    void testHourlyPeriodsAlignToMidnight() {
+        RotationSchedule schedule = new RotationSchedule(RotationUnit.HOUR, 6, UTC);
+        long now = millis(ZonedDateTime.of(2024, 3, 1, 7, 30, 0, 0, UTC));
+        assertEquals(millis(ZonedDateTime.of(2024, 3, 1, 12, 0, 0, 0, UTC)), schedule.nextBoundary(now));
+        assertEquals("2024-03-01-06", schedule.label(now));
+    }
+
+    @Test
+    void testPeriodsThatDoNotDivideTheDayRestartAtMidnight() {
+        RotationSchedule schedule = new RotationSchedule(RotationUnit.HOUR, 5, UTC);
+        long now = millis(ZonedDateTime.of(2024, 3, 1, 21, 0, 0, 0, UTC));
+        // 20시 구간은 25시가 아니라 자정에 끝남
+        assertEquals(millis(ZonedDateTime.of(2024, 3, 2, 0, 0, 0, 0, UTC)), schedule.nextBoundary(now));
+        assertEquals("2024-03-01-20", schedule.label(now));
+    }
+
+    @Test
+    void testMinuteLabelAndBoundary() {
+        RotationSchedule schedule = new RotationSchedule(RotationUnit.MINUTE, 15, UTC);
+        long now = millis(ZonedDateTime.of(2024, 3, 1, 10, 44, 59, 999_000_000, UTC));
+        assertEquals(millis(ZonedDateTime.of(2024, 3, 1, 10, 45, 0, 0, UTC)), schedule.nextBoundary(now));
+        assertEquals("2024-03-01-1030", schedule.label(now));
+    }
+
+    @Test
+    void testDaylightSavingStartSkipsMissingHour() {
+        // 2024-03-10 02:00 (America/New_York)에 03:00으로 건너뜀
+        RotationSchedule schedule = new RotationSchedule(RotationUnit.HOUR, 1, NEW_YORK);
+        long now = millis(ZonedDateTime.of(2024, 3, 10, 1, 30, 0, 0, NEW_YORK));
+        long boundary = schedule.nextBoundary(now);
+        assertEquals(millis(ZonedDateTime.of(2024, 3, 10, 3, 0, 0, 0, NEW_YORK)), boundary);
+        assertEquals(30 * 60 * 1000L, boundary - now);
+    }
+
+    @Test
+    void testDaylightSavingEndAlwaysMovesForward() {
+        // 2024-11-03 01:00~02:00 (America/New_York)이 두 번 반복됨
+        RotationSchedule schedule = new RotationSchedule(RotationUnit.HOUR, 1, NEW_YORK);
+        ZonedDateTime firstOneThirty = ZonedDateTime.of(2024, 11, 3, 1, 30, 0, 0, NEW_YORK).withEarlierOffsetAtOverlap();
+        ZonedDateTime secondOneThirty = firstOneThirty.withLaterOffsetAtOverlap();
+        long first = millis(firstOneThirty);
+        long second = millis(secondOneThirty);
+        assertTrue(schedule.nextBoundary(first) > first);
+        assertTrue(schedule.nextBoundary(second) > second);
+        assertEquals(60 * 60 * 1000L, second - first);
+    }
+}
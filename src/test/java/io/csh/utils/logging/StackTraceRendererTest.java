@@ -0,0 +1,81 @@
+package io.csh.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link StackTraceRenderer}의 캐시가 지문이 같은 예외의 메시지를 섞지 않는지,
+ * 콘솔 출력이 파일의 트레이스 참조 판단에 영향을 주지 않는지 확인하는 테스트
+ */
+class StackTraceRendererTest {
+
+    @BeforeAll
+    static void setUp() {
+        // StackTraceRenderer 초기화 전에 설정해야 적용됨
+        LogConfig.getInstance().setStackTraceReferences(true);
+    }
+
+    /**
+     * 같은 위치에서 예외를 만들어 지문(종류와 프레임)이 같은 예외들을 반환합니다.
+     */
+    private static Throwable[] sameShape(String... messages) {
+        Throwable[] thrown = new Throwable[messages.length];
+        for (int i = 0; i < messages.length; i++) {
+            thrown[i] = new IllegalStateException(messages[i], new IllegalArgumentException("cause " + messages[i]));
+        }
+        return thrown;
+    }
+
+    @Test
+    void testCollidingMessagesAreRenderedSeparately() {
+        // "Aa"와 "BB"는 String.hashCode가 같음
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        Throwable[] thrown = sameShape("Aa", "BB");
+
+        String first = StackTraceRenderer.render(thrown[0], false);
+        String second = StackTraceRenderer.render(thrown[1], false);
+
+        assertTrue(first.startsWith("java.lang.IllegalStateException: Aa"), first);
+        assertTrue(first.contains("Caused by: java.lang.IllegalArgumentException: cause Aa"), first);
+        assertTrue(second.startsWith("java.lang.IllegalStateException: BB"), second);
+        assertTrue(second.contains("Caused by: java.lang.IllegalArgumentException: cause BB"), second);
+    }
+
+    @Test
+    void testSameMessagesReuseCachedText() {
+        Throwable[] thrown = sameShape("timeout", "timeout", "refused");
+
+        String first = StackTraceRenderer.render(thrown[0], false);
+        assertSame(first, StackTraceRenderer.render(thrown[1], false));
+        String other = StackTraceRenderer.render(thrown[2], false);
+        assertNotEquals(first, other);
+        assertTrue(other.startsWith("java.lang.IllegalStateException: refused [trace #"), other);
+        assertTrue(other.contains("Caused by: java.lang.IllegalArgumentException: cause refused"), other);
+    }
+
+    @Test
+    void testConsoleCopyDoesNotTurnFileTraceIntoReference() {
+        Throwable thrown = new IllegalStateException("disk full", new IllegalArgumentException("no space"));
+
+        // 콘솔과 파일 형식이 다르면 콘솔 쪽을 먼저 인코딩함
+        String console = StackTraceRenderer.render(thrown, false);
+        String file = StackTraceRenderer.render(thrown, true);
+        assertSame(console, file);
+        assertTrue(file.contains("Caused by: java.lang.IllegalArgumentException: no space"), file);
+
+        // 같은 세그먼트의 다음 파일 기록은 참조로 줄이고, 콘솔은 계속 전체를 받음
+        String reference = StackTraceRenderer.render(thrown, true);
+        assertTrue(reference.contains("... same as trace #"), reference);
+        assertFalse(reference.contains("Caused by:"), reference);
+        assertSame(file, StackTraceRenderer.render(thrown, false));
+
+        StackTraceRenderer.newSegment();
+        assertSame(file, StackTraceRenderer.render(thrown, true));
+    }
+}